@@ -0,0 +1,42 @@
+package com.example.controllerloggerstarter.config;
+
+import com.example.controllerloggerstarter.logger.ControllerLogger;
+import com.example.controllerloggerstarter.logger.PayloadWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnBean(ObjectMapper.class)
+@EnableConfigurationProperties(ControllerLoggerProperties.class)
+public class ControllerLoggerAutoConfiguration {
+
+    @Bean
+    public ControllerLogger controllerLogger(ObjectMapper objectMapper, ControllerLoggerProperties properties) {
+        return new ControllerLogger(new PayloadWriter(objectMapper, properties.getMaxBodyLength()),
+                properties, controllerLoggerExecutor(properties));
+    }
+
+    /**
+     * Single background thread that serializes payloads and writes log lines. When the queue is full
+     * the log line is dropped, so a slow log destination never holds up a request.
+     */
+    private ExecutorService controllerLoggerExecutor(ControllerLoggerProperties properties) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("controller-logger-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                threadFactory, new ThreadPoolExecutor.DiscardPolicy());
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.controllerloggerstarter.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Set;
+
+/**
+ * Settings of the controller logger. In {@code SAMPLED} mode one of {@code sampleRate} calls is
+ * logged with its payloads and failed calls are always logged, {@code ERRORS} logs failed calls only.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "controller-logger")
+public class ControllerLoggerProperties {
+    private LoggingMode mode = LoggingMode.SAMPLED;
+    private int sampleRate = 1;
+    private int maxBodyLength = 2048;
+    private int maxHeaderLength = 256;
+    private Set<String> redactedHeaders = Set.of("authorization", "proxy-authorization", "cookie", "set-cookie");
+    private int queueCapacity = 1024;
+}
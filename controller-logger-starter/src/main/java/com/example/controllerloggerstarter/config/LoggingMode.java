@@ -0,0 +1,7 @@
+package com.example.controllerloggerstarter.config;
+
+public enum LoggingMode {
+    OFF,
+    ERRORS,
+    SAMPLED
+}
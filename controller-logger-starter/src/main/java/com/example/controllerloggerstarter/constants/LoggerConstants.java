@@ -7,4 +7,6 @@ import lombok.NoArgsConstructor;
 public final class LoggerConstants {
     public static final String REQUEST_MESSAGE = "Request: method: {}, URI: {}, Headers: {}, Body: {}";
     public static final String RESPONSE_MESSAGE = "Response: method: {}, URI: {}, Body: {}";
+    public static final String ERROR_MESSAGE = "Failed request: method: {}, URI: {}, Headers: {}, Body: {}, Error: {}";
+    public static final String REDACTED_VALUE = "[REDACTED]";
 }
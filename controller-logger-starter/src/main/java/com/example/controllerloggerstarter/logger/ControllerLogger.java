@@ -1,78 +1,156 @@
 package com.example.controllerloggerstarter.logger;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.controllerloggerstarter.config.ControllerLoggerProperties;
+import com.example.controllerloggerstarter.config.LoggingMode;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.context.annotation.Configuration;
+import org.slf4j.MDC;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Enumeration;
-import java.util.Objects;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import static com.example.controllerloggerstarter.constants.LoggerConstants.ERROR_MESSAGE;
+import static com.example.controllerloggerstarter.constants.LoggerConstants.REDACTED_VALUE;
 import static com.example.controllerloggerstarter.constants.LoggerConstants.REQUEST_MESSAGE;
 import static com.example.controllerloggerstarter.constants.LoggerConstants.RESPONSE_MESSAGE;
 
-@RequiredArgsConstructor
-@Configuration
+/**
+ * Logs calls of rest controllers according to {@link LoggingMode}. Calls that are not logged only pay
+ * for the sampling decision. For logged calls the request line and redacted headers are captured on
+ * the request thread, payloads are serialized with a size cap and written on a background thread.
+ */
 @Aspect
 @Slf4j
-public class ControllerLogger {
+public class ControllerLogger implements AutoCloseable {
+    private static final int NO_REQUEST_BODY = -1;
 
-    private final ObjectMapper objectMapper;
+    private final PayloadWriter payloadWriter;
+    private final LoggingMode mode;
+    private final int sampleRate;
+    private final int maxHeaderLength;
+    private final Set<String> redactedHeaders;
+    private final ExecutorService executor;
+    private final Map<Method, Integer> requestBodyIndexes = new ConcurrentHashMap<>();
+
+    public ControllerLogger(PayloadWriter payloadWriter, ControllerLoggerProperties properties, ExecutorService executor) {
+        if (properties.getSampleRate() < 1) {
+            throw new IllegalArgumentException("Sample rate must be positive");
+        }
+        this.payloadWriter = payloadWriter;
+        this.mode = properties.getMode();
+        this.sampleRate = properties.getSampleRate();
+        this.maxHeaderLength = properties.getMaxHeaderLength();
+        this.redactedHeaders = properties.getRedactedHeaders().stream()
+                .map(header -> header.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.executor = executor;
+    }
 
     @Around("@within(org.springframework.web.bind.annotation.RestController)")
     public Object logRequest(ProceedingJoinPoint joinPoint) throws Throwable {
-        HttpServletRequest request = ((ServletRequestAttributes) Objects.requireNonNull(RequestContextHolder.getRequestAttributes())).getRequest();
-        String requestBody = getRequestBody(joinPoint);
+        if (mode == LoggingMode.OFF) {
+            return joinPoint.proceed();
+        }
 
-        log.info(REQUEST_MESSAGE,
-                request.getMethod(),
-                request.getRequestURI(),
-                getHeaders(request),
-                requestBody);
+        boolean sampled = mode == LoggingMode.SAMPLED && log.isInfoEnabled() && isSampled();
+        CallContext call = sampled ? capture(joinPoint) : null;
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            if (log.isWarnEnabled()) {
+                logError(call != null ? call : capture(joinPoint), e);
+            }
+            throw e;
+        }
 
-        return getResponse(joinPoint, request);
+        if (call != null) {
+            logCall(call, result);
+        }
+        return result;
     }
 
-    private Object getResponse(ProceedingJoinPoint joinPoint, HttpServletRequest request) throws Throwable {
-        Object result = joinPoint.proceed();
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+    }
 
-        log.info(RESPONSE_MESSAGE,
-                request.getMethod(),
-                request.getRequestURI(),
-                objectMapper.writeValueAsString(result));
+    private boolean isSampled() {
+        return sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
 
-        return result;
+    private CallContext capture(ProceedingJoinPoint joinPoint) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object requestBody = getRequestBody(joinPoint);
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return new CallContext("", joinPoint.getSignature().toShortString(), "", requestBody, MDC.getCopyOfContextMap());
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        return new CallContext(request.getMethod(), request.getRequestURI(), getHeaders(request), requestBody,
+                MDC.getCopyOfContextMap());
     }
 
-    private String getRequestBody(ProceedingJoinPoint joinPoint) {
-        MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
-        Method method = methodSignature.getMethod();
-        Object[] args = joinPoint.getArgs();
-        int argLength = args.length;
-        for (int i = 0; i < argLength; i++) {
-            if (method.getParameterAnnotations()[i] != null) {
-                for (Annotation annotation : method.getParameterAnnotations()[i]) {
-                    if (annotation instanceof RequestBody) {
-                        try {
-                            return objectMapper.writeValueAsString(args[i]);
-                        } catch (Exception e) {
-                            log.error(e.getMessage());
-                        }
-                    }
+    private void logCall(CallContext call, Object result) {
+        executor.execute(() -> withContext(call, () -> {
+            log.info(REQUEST_MESSAGE, call.method(), call.uri(), call.headers(), payloadWriter.write(call.requestBody()));
+            log.info(RESPONSE_MESSAGE, call.method(), call.uri(), payloadWriter.write(result));
+        }));
+    }
+
+    private void logError(CallContext call, Throwable error) {
+        String errorMessage = error.getClass().getSimpleName() + ": " + error.getMessage();
+        executor.execute(() -> withContext(call, () ->
+                log.warn(ERROR_MESSAGE, call.method(), call.uri(), call.headers(),
+                        payloadWriter.write(call.requestBody()), errorMessage)));
+    }
+
+    private void withContext(CallContext call, Runnable action) {
+        if (call.mdc() != null) {
+            MDC.setContextMap(call.mdc());
+        }
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.error(e.getMessage());
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private Object getRequestBody(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        int index = requestBodyIndexes.computeIfAbsent(method, ControllerLogger::findRequestBodyIndex);
+        return index == NO_REQUEST_BODY ? null : joinPoint.getArgs()[index];
+    }
+
+    private static int findRequestBodyIndex(Method method) {
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof RequestBody) {
+                    return i;
                 }
             }
         }
-        return "";
+        return NO_REQUEST_BODY;
     }
 
     private String getHeaders(HttpServletRequest request) {
@@ -80,7 +158,9 @@ public class ControllerLogger {
         StringBuilder headers = new StringBuilder();
         while (headerNames.hasMoreElements()) {
             String headerName = headerNames.nextElement();
-            String headerValue = request.getHeader(headerName);
+            String headerValue = redactedHeaders.contains(headerName.toLowerCase(Locale.ROOT))
+                    ? REDACTED_VALUE
+                    : PayloadWriter.truncate(request.getHeader(headerName), maxHeaderLength);
             headers.append(headerName)
                 .append(": ")
                 .append(headerValue)
@@ -89,4 +169,6 @@ public class ControllerLogger {
         return headers.toString();
     }
 
+    private record CallContext(String method, String uri, String headers, Object requestBody, Map<String, String> mdc) {
+    }
 }
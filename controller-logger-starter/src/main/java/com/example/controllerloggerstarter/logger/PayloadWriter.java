@@ -0,0 +1,171 @@
+package com.example.controllerloggerstarter.logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+
+/**
+ * Serializes payloads for logging up to {@code maxLength} characters. Serialization is aborted once
+ * the limit is reached, so the cost of a large payload is bounded by the limit plus the output
+ * buffer of the JSON generator instead of the size of the payload. Binary and streaming bodies are
+ * logged by type and length only.
+ */
+public class PayloadWriter {
+    static final String TRUNCATED_SUFFIX = "...(truncated)";
+
+    private final ObjectMapper objectMapper;
+    private final int maxLength;
+
+    public PayloadWriter(ObjectMapper objectMapper, int maxLength) {
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Max body length must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.maxLength = maxLength;
+    }
+
+    public String write(Object payload) {
+        if (payload == null) {
+            return "";
+        }
+        Object body = payload instanceof HttpEntity<?> entity ? entity.getBody() : payload;
+        if (isBinary(body)) {
+            return describeBinary(body);
+        }
+        BoundedWriter writer = new BoundedWriter(maxLength);
+        try {
+            objectMapper.writeValue(writer, payload);
+        } catch (IOException e) {
+            if (!writer.isFull()) {
+                return "<unserializable " + payload.getClass().getSimpleName() + ": " + e.getMessage() + ">";
+            }
+        }
+        return writer.isFull() ? writer + TRUNCATED_SUFFIX : writer.toString();
+    }
+
+    /**
+     * Bodies that are read by serializing them, such as resources backed by a remote stream, are never
+     * serialized: that would open the stream once more for every logged call and never close it.
+     */
+    private static boolean isBinary(Object body) {
+        return body instanceof Resource
+                || body instanceof byte[]
+                || body instanceof InputStream
+                || body instanceof MultipartFile
+                || body instanceof StreamingResponseBody
+                || body instanceof ResponseBodyEmitter;
+    }
+
+    private static String describeBinary(Object body) {
+        long length = -1;
+        if (body instanceof byte[] bytes) {
+            length = bytes.length;
+        } else if (body instanceof MultipartFile file) {
+            length = file.getSize();
+        } else if (body instanceof Resource resource && hasOwnContentLength(resource)) {
+            try {
+                length = resource.contentLength();
+            } catch (IOException e) {
+                length = -1;
+            }
+        }
+        String type = body.getClass().getSimpleName();
+        return length < 0 ? "<" + type + ">" : "<" + type + ", " + length + " bytes>";
+    }
+
+    /**
+     * {@link AbstractResource#contentLength()} reads the whole stream, only resources that know their
+     * length are asked for it.
+     */
+    private static boolean hasOwnContentLength(Resource resource) {
+        try {
+            return resource.getClass().getMethod("contentLength").getDeclaringClass() != AbstractResource.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    public static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength) + TRUNCATED_SUFFIX;
+    }
+
+    private static final class BoundedWriter extends Writer {
+        private static final IOException LIMIT_REACHED = new LimitReachedException();
+
+        private final StringBuilder buffer;
+        private final int maxLength;
+        private boolean full;
+
+        private BoundedWriter(int maxLength) {
+            this.buffer = new StringBuilder(Math.min(maxLength, 256));
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            if (full) {
+                throw LIMIT_REACHED;
+            }
+            int free = maxLength - buffer.length();
+            if (length > free) {
+                buffer.append(chars, offset, free);
+                full = true;
+                throw LIMIT_REACHED;
+            }
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String value, int offset, int length) throws IOException {
+            if (full) {
+                throw LIMIT_REACHED;
+            }
+            int free = maxLength - buffer.length();
+            if (length > free) {
+                buffer.append(value, offset, offset + free);
+                full = true;
+                throw LIMIT_REACHED;
+            }
+            buffer.append(value, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private boolean isFull() {
+            return full;
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+
+    private static final class LimitReachedException extends IOException {
+        private LimitReachedException() {
+            super("Payload limit reached");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
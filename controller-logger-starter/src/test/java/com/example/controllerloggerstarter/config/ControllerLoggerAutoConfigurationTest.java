@@ -0,0 +1,35 @@
+package com.example.controllerloggerstarter.config;
+
+import com.example.controllerloggerstarter.logger.ControllerLogger;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ControllerLoggerAutoConfigurationTest {
+    private static final AutoConfigurations CONFIGURATIONS =
+            AutoConfigurations.of(JacksonAutoConfiguration.class, ControllerLoggerAutoConfiguration.class);
+
+    @Test
+    void controllerLogger_whenServletApplication_thenBindsProperties() {
+        new WebApplicationContextRunner()
+                .withConfiguration(CONFIGURATIONS)
+                .withPropertyValues("controller-logger.mode=errors", "controller-logger.sample-rate=10")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ControllerLogger.class);
+                    assertThat(context.getBean(ControllerLoggerProperties.class))
+                            .extracting(ControllerLoggerProperties::getMode, ControllerLoggerProperties::getSampleRate)
+                            .containsExactly(LoggingMode.ERRORS, 10);
+                });
+    }
+
+    @Test
+    void controllerLogger_whenNotWebApplication_thenNotCreated() {
+        new ApplicationContextRunner()
+                .withConfiguration(CONFIGURATIONS)
+                .run(context -> assertThat(context).doesNotHaveBean(ControllerLogger.class));
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.controllerloggerstarter.logger;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.controllerloggerstarter.config.ControllerLoggerProperties;
+import com.example.controllerloggerstarter.config.LoggingMode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ControllerLoggerTest {
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ControllerLogger.class);
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/rides");
+        request.addHeader("Authorization", "Bearer token");
+        request.addHeader("Accept", "application/json");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void logRequest_whenSampled_thenLogsRequestAndResponse() throws Exception {
+        ControllerLogger controllerLogger = controllerLogger(properties(LoggingMode.SAMPLED));
+
+        proxy(controllerLogger).echo("ride");
+        controllerLogger.close();
+
+        assertThat(appender.list)
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .satisfiesExactly(
+                        request -> assertThat(request).contains("POST", "/api/v1/rides", "\"ride\""),
+                        response -> assertThat(response).startsWith("Response").contains("\"ride\""));
+    }
+
+    @Test
+    void logRequest_whenRedactedHeader_thenHidesValue() throws Exception {
+        ControllerLogger controllerLogger = controllerLogger(properties(LoggingMode.SAMPLED));
+
+        proxy(controllerLogger).echo("ride");
+        controllerLogger.close();
+
+        assertThat(appender.list.get(0).getFormattedMessage())
+                .contains("Authorization: [REDACTED]", "Accept: application/json")
+                .doesNotContain("Bearer token");
+    }
+
+    @Test
+    void logRequest_whenBodyExceedsLimit_thenTruncatesBody() throws Exception {
+        ControllerLoggerProperties properties = properties(LoggingMode.SAMPLED);
+        properties.setMaxBodyLength(64);
+        ControllerLogger controllerLogger = controllerLogger(properties);
+
+        proxy(controllerLogger).list(Collections.nCopies(10_000, "ride"));
+        controllerLogger.close();
+
+        String response = appender.list.get(1).getFormattedMessage();
+        assertThat(response.substring(response.indexOf("Body: ") + "Body: ".length()))
+                .hasSize(64 + PayloadWriter.TRUNCATED_SUFFIX.length())
+                .startsWith("[\"ride\",")
+                .endsWith(PayloadWriter.TRUNCATED_SUFFIX);
+    }
+
+    @Test
+    void logRequest_whenModeOff_thenLogsNothing() throws Exception {
+        ControllerLogger controllerLogger = controllerLogger(properties(LoggingMode.OFF));
+
+        assertThatThrownBy(() -> proxy(controllerLogger).fail()).isInstanceOf(IllegalStateException.class);
+        proxy(controllerLogger).echo("ride");
+        controllerLogger.close();
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void logRequest_whenErrorsModeAndCallSucceeds_thenLogsNothing() throws Exception {
+        ControllerLogger controllerLogger = controllerLogger(properties(LoggingMode.ERRORS));
+
+        proxy(controllerLogger).echo("ride");
+        controllerLogger.close();
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void logRequest_whenErrorsModeAndCallFails_thenLogsError() throws Exception {
+        ControllerLogger controllerLogger = controllerLogger(properties(LoggingMode.ERRORS));
+
+        assertThatThrownBy(() -> proxy(controllerLogger).fail()).isInstanceOf(IllegalStateException.class);
+        controllerLogger.close();
+
+        assertThat(appender.list)
+                .singleElement()
+                .satisfies(event -> assertThat(event.getFormattedMessage())
+                        .contains("/api/v1/rides", "IllegalStateException: ride is canceled"));
+    }
+
+    @Test
+    void logRequest_whenSampleRateIsHigh_thenLogsOnlyErrors() throws Exception {
+        ControllerLoggerProperties properties = properties(LoggingMode.SAMPLED);
+        properties.setSampleRate(Integer.MAX_VALUE);
+        ControllerLogger controllerLogger = controllerLogger(properties);
+
+        proxy(controllerLogger).echo("ride");
+        assertThatThrownBy(() -> proxy(controllerLogger).fail()).isInstanceOf(IllegalStateException.class);
+        controllerLogger.close();
+
+        assertThat(appender.list)
+                .singleElement()
+                .satisfies(event -> assertThat(event.getFormattedMessage()).startsWith("Failed request"));
+    }
+
+    @Test
+    void logRequest_whenResponseIsResource_thenLogsTypeAndLengthWithoutOpeningIt() throws Exception {
+        ControllerLogger controllerLogger = controllerLogger(properties(LoggingMode.SAMPLED));
+        TestController controller = new TestController();
+
+        proxy(controllerLogger, controller).avatar();
+        controllerLogger.close();
+
+        assertThat(controller.streamOpens).hasValue(0);
+        assertThat(appender.list.get(1).getFormattedMessage()).endsWith("<RemoteResource, 4096 bytes>");
+    }
+
+    @Test
+    void logRequest_whenResponseIsByteArray_thenLogsTypeAndLength() throws Exception {
+        ControllerLogger controllerLogger = controllerLogger(properties(LoggingMode.SAMPLED));
+
+        proxy(controllerLogger).bytes();
+        controllerLogger.close();
+
+        assertThat(appender.list.get(1).getFormattedMessage()).endsWith("<byte[], 3 bytes>");
+    }
+
+    private static ControllerLoggerProperties properties(LoggingMode mode) {
+        ControllerLoggerProperties properties = new ControllerLoggerProperties();
+        properties.setMode(mode);
+        return properties;
+    }
+
+    private static ControllerLogger controllerLogger(ControllerLoggerProperties properties) {
+        return new ControllerLogger(new PayloadWriter(new ObjectMapper(), properties.getMaxBodyLength()),
+                properties, Executors.newSingleThreadExecutor());
+    }
+
+    private static TestController proxy(ControllerLogger controllerLogger) {
+        return proxy(controllerLogger, new TestController());
+    }
+
+    private static TestController proxy(ControllerLogger controllerLogger, TestController controller) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(controller);
+        factory.addAspect(controllerLogger);
+        return factory.getProxy();
+    }
+
+    @RestController
+    static class TestController {
+        private final AtomicInteger streamOpens = new AtomicInteger();
+
+        public String echo(@RequestBody String body) {
+            return body;
+        }
+
+        public List<String> list(@RequestBody List<String> body) {
+            return body;
+        }
+
+        public String fail() {
+            throw new IllegalStateException("ride is canceled");
+        }
+
+        public ResponseEntity<Resource> avatar() {
+            return ResponseEntity.ok(new RemoteResource(streamOpens));
+        }
+
+        public byte[] bytes() {
+            return new byte[]{1, 2, 3};
+        }
+    }
+
+    private static class RemoteResource extends AbstractResource {
+        private final AtomicInteger opens;
+
+        private RemoteResource(AtomicInteger opens) {
+            this.opens = opens;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            opens.incrementAndGet();
+            return new ByteArrayInputStream(new byte[4096]);
+        }
+
+        @Override
+        public long contentLength() {
+            return 4096;
+        }
+
+        @Override
+        public String getDescription() {
+            return "remote resource";
+        }
+    }
+}
@@ -30,7 +30,9 @@ public class SecurityConfig {
                                 "/driver/webjars/**")
                         .permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/drivers").hasRole(ROLE_ADMIN)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/drivers/cursor").hasRole(ROLE_ADMIN)
                         .requestMatchers(HttpMethod.GET, "/api/v1/drivers/list").hasRole(ROLE_ADMIN)
+                        .requestMatchers(HttpMethod.POST, "/api/v1/drivers/snapshot").hasRole(ROLE_ADMIN)
                         .requestMatchers(HttpMethod.GET, "/api/v1/cars").hasRole(ROLE_ADMIN)
                         .anyRequest().authenticated()
                 )
@@ -1,10 +1,13 @@
 package org.example.driver.config.kafka;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
 import org.example.driver.constants.KafkaConstants;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Map;
+
 @Configuration
 public class KafkaTopicConfig {
 
@@ -17,4 +20,16 @@ public class KafkaTopicConfig {
     public NewTopic addDriverRatingTopic() {
         return new NewTopic(KafkaConstants.DRIVER_RATING_NOTIFICATION_TOPIC, KafkaConstants.NUM_PARTITIONS, KafkaConstants.REPLICATION_FACTOR);
     }
+
+    @Bean
+    public NewTopic addDriverLocationTopic() {
+        return new NewTopic(KafkaConstants.DRIVER_LOCATION_TOPIC, KafkaConstants.NUM_PARTITIONS, KafkaConstants.REPLICATION_FACTOR)
+                .configs(Map.of(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT));
+    }
+
+    @Bean
+    public NewTopic addDriverStateTopic() {
+        return new NewTopic(KafkaConstants.DRIVER_STATE_TOPIC, KafkaConstants.NUM_PARTITIONS, KafkaConstants.REPLICATION_FACTOR)
+                .configs(Map.of(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT));
+    }
 }
@@ -19,4 +19,5 @@ public final class ExceptionConstants {
     public static final String FILE_UPLOAD_EXCEPTION = "file.upload.exception";
     public static final String FILE_DELETE_EXCEPTION = "file.delete.exception";
     public static final String ACCESS_DENIED_EXCEPTION = "access.denied";
+    public static final String INVALID_CURSOR = "cursor.invalid";
 }
@@ -8,7 +8,12 @@ public class KafkaConstants {
     public static final String KAFKA_BOOTSTRAP_SERVERS = "localhost:9092";
     public static final String DRIVER_NOTIFICATION_TOPIC = "driver-notification-topic";
     public static final String DRIVER_RATING_NOTIFICATION_TOPIC = "driver-rating-notification-topic";
+    public static final String DRIVER_LOCATION_TOPIC = "driver-location-topic";
+    public static final String DRIVER_STATE_TOPIC = "driver-state-topic";
+    public static final Integer SNAPSHOT_PAGE_SIZE = 500;
     public static final String GROUP_ID = "driver-group";
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+    public static final String RATING_BATCH_SIZE_METRIC = "kafka.consumer.rating.batch.size";
     public static final Integer NUM_PARTITIONS = 3;
     public static final Short REPLICATION_FACTOR = 1;
 }
@@ -6,4 +6,6 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MinioConstants {
     public static final String CONTENT_DISPOSITION_VALUE = "inline";
+    public static final String AVATAR_CACHE_NAME = "avatars";
+    public static final String THUMBNAIL_PREFIX = "thumbnails/";
 }
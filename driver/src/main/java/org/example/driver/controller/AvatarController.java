@@ -4,21 +4,34 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.core.io.InputStreamResource;
+import jakarta.validation.constraints.Min;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "Avatar controller",
         description = "Avatar controller contains endpoint for getting avatar by name")
 public interface AvatarController {
 
     @Operation(summary = "Getting avatar by name",
-            description = "Retrieves avatar by name")
+            description = """
+                    Retrieves avatar by name. With **size** the smallest square thumbnail of at least\s
+                    that many pixels is returned, or the original avatar when there is no such thumbnail.\s
+                    Responses carry an **ETag** and may be cached by the client,\s
+                    a request with a matching **If-None-Match** header gets 304 without a body.\s
+                    Byte ranges are supported with the **Range** header
+                    """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Avatar was retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "Requested range of avatar was retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Avatar was not modified"),
+            @ApiResponse(responseCode = "400", description = "Validation error"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
-            @ApiResponse(responseCode = "404", description = "Avatar was not found")
+            @ApiResponse(responseCode = "404", description = "Avatar was not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range is not satisfiable")
     })
-    ResponseEntity<InputStreamResource> getAvatar(@PathVariable("name") String name);
+    ResponseEntity<Resource> getAvatar(@PathVariable("name") String name,
+                                       @RequestParam(name = "size", required = false) @Min(1) Integer size);
 }
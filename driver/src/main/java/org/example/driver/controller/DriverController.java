@@ -7,11 +7,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import org.example.driver.dto.create.BatchRequestDto;
 import org.example.driver.dto.create.DriverCreateEditDto;
+import org.example.driver.dto.read.CursorResponse;
 import org.example.driver.dto.read.DriverReadDto;
 import org.example.driver.dto.read.PageResponse;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.multipart.MultipartFile;
@@ -35,6 +38,20 @@ public interface DriverController {
     PageResponse<DriverReadDto> findAll(@RequestParam(defaultValue = "0") Integer page,
                                         @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit);
 
+    @Operation(summary = "Find all drivers by cursor",
+            description = """
+                    Retrieves drivers ordered by id, starting after the given cursor. The response contains\s
+                    an opaque **next** cursor for the following page, it is null when there are no more drivers
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Drivers retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Validation error or invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    CursorResponse<DriverReadDto> findAllByCursor(@RequestParam(name = "cursor", required = false) String cursor,
+                                                  @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit);
+
     @Operation(summary = "Find all drivers",
             description = "Retrieves list of drivers")
     @ApiResponses(value = {
@@ -55,6 +72,23 @@ public interface DriverController {
     })
     DriverReadDto findById(@PathVariable("id") Long id);
 
+    @Operation(summary = "Find drivers by IDs",
+            description = """
+                    Retrieves data of up to 100 drivers in one call. Ids of missing or deleted drivers\s
+                    are skipped, so the response may contain fewer drivers than requested
+                    Example:
+                    {
+                        "ids": [1, 2, 3]
+                    }
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Drivers retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Validation error"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    List<DriverReadDto> findByIds(@RequestBody @Valid BatchRequestDto dto);
+
     @Operation(summary = "Updating driver by ID",
             description = """
                     Updating driver's data by ID. Fields to update:\\s
@@ -93,6 +127,18 @@ public interface DriverController {
                          @RequestPart(required = false) MultipartFile file,
                          JwtAuthenticationToken token);
 
+    @Operation(summary = "Publish drivers snapshot",
+            description = """
+                    Publishes the state of every driver, including deleted ones, to the compacted driver state topic.\s
+                    Used to seed read-model replicas of other services
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Snapshot was published"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    void publishSnapshot();
+
     @Operation(summary = "Create a new driver",
             description = """
                     Required fields for creating a driver:\\s
@@ -0,0 +1,39 @@
+package org.example.driver.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.example.driver.dto.create.DriverLocationDto;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@Tag(name = "Driver location controller", description = """
+        Driver location controller contains endpoint for receiving GPS pings of drivers
+        """)
+public interface DriverLocationController {
+
+    @Operation(summary = "Update driver's location by ID",
+            description = """
+                    Accepts GPS ping of driver. Pings are coalesced per driver and persisted asynchronously,\\s
+                    so only the latest point is stored. Fields:\\s
+                    - **latitude**: Latitude (from -90 to 90)\\s
+                    - **longitude**: Longitude (from -180 to 180)\\s
+                    Example:
+                    {
+                        "latitude": 53.9006,
+                        "longitude": 27.5590
+                    }
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Location was accepted"),
+            @ApiResponse(responseCode = "400", description = "Validation error"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    void updateLocation(@PathVariable("id") Long id,
+                        @RequestBody @Valid DriverLocationDto dto,
+                        JwtAuthenticationToken token);
+}
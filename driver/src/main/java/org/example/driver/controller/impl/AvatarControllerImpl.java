@@ -1,33 +1,47 @@
 package org.example.driver.controller.impl;
 
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.example.driver.constants.MinioConstants;
 import org.example.driver.controller.AvatarController;
 import org.example.driver.dto.read.MinioAvatar;
 import org.example.driver.service.AvatarService;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/drivers/avatars")
+@Validated
 public class AvatarControllerImpl implements AvatarController {
 
     private final AvatarService avatarService;
 
+    @Value("${minio.avatar-cache.max-age}")
+    private Duration maxAge;
+
     @GetMapping("/{name}")
-    public ResponseEntity<InputStreamResource> getAvatar(@PathVariable("name") String name) {
-        MinioAvatar avatar = avatarService.getAvatar(name);
+    public ResponseEntity<Resource> getAvatar(@PathVariable("name") String name,
+                                              @RequestParam(name = "size", required = false) @Min(1) Integer size) {
+        MinioAvatar avatar = avatarService.getAvatar(name, size);
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION,
                         MinioConstants.CONTENT_DISPOSITION_VALUE)
+                .eTag(avatar.eTag())
+                .cacheControl(CacheControl.maxAge(maxAge).cachePrivate())
                 .contentType(avatar.mediaType())
-                .body(new InputStreamResource(avatar.inputStream()));
+                .body(avatar.resource());
     }
 }
@@ -6,7 +6,9 @@ import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.example.driver.annotation.ValidateAccess;
 import org.example.driver.controller.DriverController;
+import org.example.driver.dto.create.BatchRequestDto;
 import org.example.driver.dto.create.DriverCreateEditDto;
+import org.example.driver.dto.read.CursorResponse;
 import org.example.driver.dto.read.DriverReadDto;
 import org.example.driver.dto.read.PageResponse;
 import org.example.driver.service.DriverService;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -42,6 +45,12 @@ public class DriverControllerImpl implements DriverController {
         return PageResponse.of(driverService.findAll(page, limit));
     }
 
+    @GetMapping("/cursor")
+    public CursorResponse<DriverReadDto> findAllByCursor(@RequestParam(name = "cursor", required = false) String cursor,
+                                                         @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit) {
+        return driverService.findAllByCursor(cursor, limit);
+    }
+
     @GetMapping("/list")
     public List<DriverReadDto> findFullList() {
             return driverService.findFullList();
@@ -52,6 +61,17 @@ public class DriverControllerImpl implements DriverController {
         return driverService.findById(id);
     }
 
+    @PostMapping("/batch")
+    public List<DriverReadDto> findByIds(@RequestBody @Valid BatchRequestDto dto) {
+        return driverService.findByIds(dto.ids());
+    }
+
+    @PostMapping("/snapshot")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void publishSnapshot() {
+        driverService.publishSnapshot();
+    }
+
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @ResponseStatus(HttpStatus.CREATED)
     public DriverReadDto create(@RequestPart @Valid DriverCreateEditDto dto,
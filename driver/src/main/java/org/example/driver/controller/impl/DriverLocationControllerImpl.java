@@ -0,0 +1,36 @@
+package org.example.driver.controller.impl;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.driver.annotation.ValidateAccess;
+import org.example.driver.controller.DriverLocationController;
+import org.example.driver.dto.create.DriverLocationDto;
+import org.example.driver.service.DriverLocationService;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/drivers")
+@Validated
+public class DriverLocationControllerImpl implements DriverLocationController {
+    private final DriverLocationService driverLocationService;
+
+    @PutMapping("/{id}/location")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @ValidateAccess
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DRIVER')")
+    public void updateLocation(@PathVariable("id") Long id,
+                               @RequestBody @Valid DriverLocationDto dto,
+                               JwtAuthenticationToken token) {
+        driverLocationService.updateLocation(id, dto);
+    }
+}
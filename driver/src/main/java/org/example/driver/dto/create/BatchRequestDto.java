@@ -0,0 +1,16 @@
+package org.example.driver.dto.create;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BatchRequestDto(
+
+        @NotNull(message = "{ids.null}")
+        @Size(min = 1, max = 100, message = "{ids.size}")
+        List<@NotNull(message = "{ids.null}") Long> ids
+) {
+}
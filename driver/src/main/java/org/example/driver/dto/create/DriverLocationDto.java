@@ -0,0 +1,21 @@
+package org.example.driver.dto.create;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Builder
+public record DriverLocationDto(
+
+        @NotNull(message = "{latitude.null}")
+        @DecimalMin(value = "-90.0", message = "{latitude.invalid}")
+        @DecimalMax(value = "90.0", message = "{latitude.invalid}")
+        Double latitude,
+
+        @NotNull(message = "{longitude.null}")
+        @DecimalMin(value = "-180.0", message = "{longitude.invalid}")
+        @DecimalMax(value = "180.0", message = "{longitude.invalid}")
+        Double longitude
+) {
+}
@@ -0,0 +1,14 @@
+package org.example.driver.dto.read;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Builder
+public record DriverLocationReadDto(
+        long driverId,
+        double latitude,
+        double longitude,
+        Instant recordedAt
+) {
+}
@@ -1,11 +1,12 @@
 package org.example.driver.dto.read;
 
+import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
 
-import java.io.InputStream;
-
 public record MinioAvatar(
-        InputStream inputStream,
-        MediaType mediaType
+        Resource resource,
+        MediaType mediaType,
+        String eTag,
+        long size
 ) {
 }
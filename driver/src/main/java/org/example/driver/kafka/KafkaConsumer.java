@@ -1,5 +1,6 @@
 package org.example.driver.kafka;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.example.driver.constants.KafkaConstants;
 import org.example.driver.dto.read.RideReadDto;
@@ -8,18 +9,23 @@ import org.example.driver.service.DriverService;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class KafkaConsumer {
     private final DriverService driverService;
+    private final MeterRegistry meterRegistry;
 
     @KafkaListener(topics = KafkaConstants.DRIVER_NOTIFICATION_TOPIC)
     public void consumeNotification(RideReadDto rideReadDto) {
         driverService.notifyDriver(rideReadDto);
     }
 
-    @KafkaListener(topics = KafkaConstants.DRIVER_RATING_NOTIFICATION_TOPIC)
-    public void consumeRatingNotification(UserRateDto userRateDto) {
-        driverService.updateRating(userRateDto);
+    @KafkaListener(topics = KafkaConstants.DRIVER_RATING_NOTIFICATION_TOPIC,
+            containerFactory = KafkaConstants.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void consumeRatingNotifications(List<UserRateDto> userRateDtos) {
+        meterRegistry.summary(KafkaConstants.RATING_BATCH_SIZE_METRIC).record(userRateDtos.size());
+        driverService.updateRatings(userRateDtos);
     }
 }
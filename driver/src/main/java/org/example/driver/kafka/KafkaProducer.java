@@ -0,0 +1,49 @@
+package org.example.driver.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.driver.constants.KafkaConstants;
+import org.example.driver.dto.read.DriverLocationReadDto;
+import org.example.driver.dto.read.DriverStateDto;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaProducer {
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    public void publishLocation(DriverLocationReadDto location) {
+        kafkaTemplate.send(KafkaConstants.DRIVER_LOCATION_TOPIC, String.valueOf(location.driverId()), location)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error(ex.getMessage());
+                    }
+                });
+    }
+
+    public void publishState(DriverStateDto state) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendState(state);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sendState(state);
+            }
+        });
+    }
+
+    private void sendState(DriverStateDto state) {
+        kafkaTemplate.send(KafkaConstants.DRIVER_STATE_TOPIC, String.valueOf(state.id()), state)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error(ex.getMessage());
+                    }
+                });
+    }
+}
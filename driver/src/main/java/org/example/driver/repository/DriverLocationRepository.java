@@ -0,0 +1,34 @@
+package org.example.driver.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.driver.dto.read.DriverLocationReadDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class DriverLocationRepository {
+    private static final String UPSERT_LOCATION = """
+            INSERT INTO driver_locations (driver_id, latitude, longitude, recorded_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (driver_id) DO UPDATE
+            SET latitude = EXCLUDED.latitude,
+                longitude = EXCLUDED.longitude,
+                recorded_at = EXCLUDED.recorded_at
+            WHERE driver_locations.recorded_at < EXCLUDED.recorded_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<DriverLocationReadDto> locations, int batchSize) {
+        jdbcTemplate.batchUpdate(UPSERT_LOCATION, locations, batchSize, (statement, location) -> {
+            statement.setLong(1, location.driverId());
+            statement.setDouble(2, location.latitude());
+            statement.setDouble(3, location.longitude());
+            statement.setTimestamp(4, Timestamp.from(location.recordedAt()));
+        });
+    }
+}
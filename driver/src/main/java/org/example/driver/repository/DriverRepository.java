@@ -1,12 +1,14 @@
 package org.example.driver.repository;
 
 import org.example.driver.entity.Driver;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.sql.DataTruncation;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,8 +16,14 @@ import java.util.Optional;
 public interface DriverRepository extends JpaRepository<Driver, Long> {
     Optional<Driver> findByIdAndIsDeletedFalse(Long id);
 
+    List<Driver> findByIdInAndIsDeletedFalse(Collection<Long> ids);
+
     Page<Driver> findByIsDeletedFalse(Pageable pageable);
 
+    List<Driver> findByIsDeletedFalseAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<Driver> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
     List<Driver> findByIsDeletedFalse();
 
     Optional<Driver> findByEmailAndIsDeletedFalse(String email);
@@ -1,51 +1,149 @@
 package org.example.driver.service;
 
 import com.example.exceptionhandlerstarter.exception.minio.AvatarNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
 import io.minio.GetObjectArgs;
 import io.minio.MinioClient;
 import io.minio.StatObjectArgs;
 import io.minio.StatObjectResponse;
 import io.minio.errors.ErrorResponseException;
+import io.minio.errors.MinioException;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.example.driver.constants.ExceptionConstants;
 import org.example.driver.dto.read.MinioAvatar;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.unit.DataSize;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.security.GeneralSecurityException;
 
+/**
+ * Serves avatars from an in-process cache weighted by avatar size. Avatars up to
+ * {@code minio.avatar-cache.maximum-entry-size} are read from MinIO once and then served from memory,
+ * larger ones are streamed from MinIO on every request. When a size is requested, the smallest
+ * thumbnail that fits is served, the original is served until the thumbnail is created.
+ */
 @Service
 @RequiredArgsConstructor
 public class AvatarService {
 
     private final MinioClient minioClient;
     private final MessageSource messageSource;
+    private final Cache<String, MinioAvatar> avatarCache;
+    private final ThumbnailService thumbnailService;
 
     @Value("${minio.bucket-name}")
     private String bucketName;
 
+    @Value("${minio.avatar-cache.maximum-entry-size}")
+    private DataSize maximumEntrySize;
+
+    public MinioAvatar getAvatar(String name, Integer size) {
+        Integer thumbnailSize = size == null ? null : thumbnailService.findFittingSize(size);
+        if (thumbnailSize != null) {
+            MinioAvatar thumbnail = findAvatar(ThumbnailService.thumbnailName(name, thumbnailSize));
+            if (thumbnail != null) {
+                return thumbnail;
+            }
+        }
+
+        MinioAvatar avatar = findAvatar(name);
+        if (avatar == null) {
+            throw new AvatarNotFoundException(messageSource.getMessage(
+                    ExceptionConstants.AVATAR_NOT_FOUND,
+                    new Object[]{name},
+                    LocaleContextHolder.getLocale()));
+        }
+        return avatar;
+    }
+
+    public void evict(String name) {
+        avatarCache.invalidate(name);
+        thumbnailService.getSizes().forEach(size -> avatarCache.invalidate(ThumbnailService.thumbnailName(name, size)));
+    }
+
     @SneakyThrows
-    public MinioAvatar getAvatar(String name) {
+    private MinioAvatar findAvatar(String name) {
+        MinioAvatar cachedAvatar = avatarCache.getIfPresent(name);
+        if (cachedAvatar != null) {
+            return cachedAvatar;
+        }
+
         try {
             StatObjectResponse statObjectResponse = minioClient.statObject(StatObjectArgs.builder()
                     .bucket(bucketName)
                     .object(name)
                     .build());
-            InputStream inputStream = minioClient.getObject(
-                    GetObjectArgs.builder()
-                            .bucket(bucketName)
-                            .object(name)
-                            .build());
-            return new MinioAvatar(inputStream, MediaType.valueOf(statObjectResponse.contentType()));
+            MediaType mediaType = MediaType.valueOf(statObjectResponse.contentType());
+            if (statObjectResponse.size() > maximumEntrySize.toBytes()) {
+                return new MinioAvatar(new MinioObjectResource(name, statObjectResponse.size()), mediaType,
+                        statObjectResponse.etag(), statObjectResponse.size());
+            }
+
+            byte[] content;
+            try (InputStream inputStream = getObject(name)) {
+                content = inputStream.readAllBytes();
+            }
+            MinioAvatar avatar = new MinioAvatar(new ByteArrayResource(content), mediaType,
+                    statObjectResponse.etag(), content.length);
+            avatarCache.put(name, avatar);
+            return avatar;
         } catch (ErrorResponseException e) {
-            throw new AvatarNotFoundException(messageSource.getMessage(
-                    ExceptionConstants.AVATAR_NOT_FOUND,
-                    new Object[]{name},
-                    LocaleContextHolder.getLocale()));
+            return null;
+        }
+    }
+
+    private InputStream getObject(String name) throws MinioException, IOException, GeneralSecurityException {
+        return minioClient.getObject(
+                GetObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(name)
+                        .build());
+    }
+
+    /**
+     * Avatar that is opened only when the body is written, so that requests answered with 304
+     * never open a MinIO stream.
+     */
+    private class MinioObjectResource extends AbstractResource {
+        private final String name;
+        private final long size;
+
+        MinioObjectResource(String name, long size) {
+            this.name = name;
+            this.size = size;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                return getObject(name);
+            } catch (MinioException | GeneralSecurityException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public long contentLength() {
+            return size;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public String getDescription() {
+            return "MinIO object [" + bucketName + "/" + name + "]";
         }
     }
 }
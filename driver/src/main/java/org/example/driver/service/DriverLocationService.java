@@ -0,0 +1,61 @@
+package org.example.driver.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.driver.dto.create.DriverLocationDto;
+import org.example.driver.dto.read.DriverLocationReadDto;
+import org.example.driver.kafka.KafkaProducer;
+import org.example.driver.repository.DriverLocationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DriverLocationService {
+    private final DriverLocationRepository driverLocationRepository;
+    private final KafkaProducer kafkaProducer;
+    private final ConcurrentHashMap<Long, DriverLocationReadDto> pendingLocations = new ConcurrentHashMap<>();
+
+    @Value("${location.batch-size}")
+    private int batchSize;
+
+    public void updateLocation(Long driverId, DriverLocationDto locationDto) {
+        pendingLocations.put(driverId, new DriverLocationReadDto(
+                driverId,
+                locationDto.latitude(),
+                locationDto.longitude(),
+                Instant.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${location.flush-interval}")
+    public void flush() {
+        if (pendingLocations.isEmpty()) {
+            return;
+        }
+
+        List<DriverLocationReadDto> locations = new ArrayList<>(pendingLocations.size());
+        for (Long driverId : pendingLocations.keySet()) {
+            DriverLocationReadDto location = pendingLocations.remove(driverId);
+            if (location != null) {
+                locations.add(location);
+            }
+        }
+
+        try {
+            driverLocationRepository.saveAll(locations, batchSize);
+        } catch (RuntimeException e) {
+            log.error("Failed to persist {} driver locations: {}", locations.size(), e.getMessage());
+            locations.forEach(location -> pendingLocations.putIfAbsent(location.driverId(), location));
+            return;
+        }
+        locations.forEach(kafkaProducer::publishLocation);
+        log.debug("Flushed {} driver locations", locations.size());
+    }
+}
@@ -2,34 +2,48 @@ package org.example.driver.service;
 
 import com.example.exceptionhandlerstarter.exception.driver.DriverNotFoundException;
 import com.example.exceptionhandlerstarter.exception.driver.DuplicatedDriverEmailException;
+import com.example.exceptionhandlerstarter.exception.param.InvalidCursorException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.driver.constants.CommonConstants;
 import org.example.driver.constants.ExceptionConstants;
+import org.example.driver.constants.KafkaConstants;
 import org.example.driver.dto.create.DriverCreateEditDto;
 import org.example.driver.dto.read.CarReadDto;
+import org.example.driver.dto.read.CursorResponse;
 import org.example.driver.dto.read.DriverReadDto;
+import org.example.driver.dto.read.DriverStateDto;
 import org.example.driver.dto.read.RideReadDto;
 import org.example.driver.dto.read.UserRateDto;
 import org.example.driver.entity.Car;
 import org.example.driver.entity.Driver;
 
+import org.example.driver.kafka.KafkaProducer;
 import org.example.driver.mapper.CarMapper;
 import org.example.driver.mapper.DriverMapper;
 import org.example.driver.repository.CarRepository;
+import org.example.driver.repository.DriverRatingRepository;
 import org.example.driver.repository.DriverRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.example.driver.constants.RedisConstants.DRIVER_CACHE_VALUE;
 
@@ -44,6 +58,9 @@ public class DriverService {
     private final CarService carService;
     private final CarMapper carMapper;
     private final ImageStorageService imageStorageService;
+    private final DriverRatingRepository driverRatingRepository;
+    private final CacheManager cacheManager;
+    private final KafkaProducer kafkaProducer;
 
     @Transactional
     @CachePut(value = DRIVER_CACHE_VALUE, key = "#result.id()")
@@ -68,7 +85,9 @@ public class DriverService {
             String imageUrl = imageStorageService.uploadImage(multipartFile);
             driver.setImageUrl(imageUrl);
         }
-        return driverMapper.toReadDto(driverRepository.save(driver));
+        Driver saved = driverRepository.save(driver);
+        kafkaProducer.publishState(toState(saved));
+        return driverMapper.toReadDto(saved);
 
     }
 
@@ -98,7 +117,10 @@ public class DriverService {
                     return driver;
                 })
                 .map(driverRepository::save)
-                .map(driverMapper::toReadDto)
+                .map(driver -> {
+                    kafkaProducer.publishState(toState(driver));
+                    return driverMapper.toReadDto(driver);
+                })
                 .orElseThrow(() -> new DriverNotFoundException(messageSource.getMessage(
                         ExceptionConstants.DRIVER_NOT_FOUND,
                         new Object[]{id},
@@ -113,6 +135,7 @@ public class DriverService {
                     driver.setDeleted(true);
                     driver.setCar(null);
                     driverRepository.save(driver);
+                    kafkaProducer.publishState(toState(driver));
                     return driver;
                 })
                 .orElseThrow(() -> new DriverNotFoundException(messageSource.getMessage(
@@ -121,6 +144,27 @@ public class DriverService {
                         LocaleContextHolder.getLocale())));
     }
 
+    public void publishSnapshot() {
+        long afterId = 0L;
+        List<Driver> drivers;
+        do {
+            drivers = driverRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(KafkaConstants.SNAPSHOT_PAGE_SIZE));
+            drivers.forEach(driver -> kafkaProducer.publishState(toState(driver)));
+            if (!drivers.isEmpty()) {
+                afterId = drivers.get(drivers.size() - 1).getId();
+            }
+        } while (drivers.size() == KafkaConstants.SNAPSHOT_PAGE_SIZE);
+    }
+
+    public CursorResponse<DriverReadDto> findAllByCursor(String cursor, Integer limit) {
+        long afterId = decodeCursor(cursor);
+        List<DriverReadDto> drivers = driverRepository.findByIsDeletedFalseAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit + 1))
+                .stream()
+                .map(driverMapper::toReadDto)
+                .toList();
+        return CursorResponse.of(drivers, limit, DriverReadDto::id);
+    }
+
     public Page<DriverReadDto> findAll(Integer page, Integer limit) {
         PageRequest request = PageRequest.of(page, limit);
         return driverRepository.findByIsDeletedFalse(request)
@@ -140,7 +184,7 @@ public class DriverService {
                 .map(driverMapper::toReadDto);
     }
 
-    @Cacheable(value = DRIVER_CACHE_VALUE, key = "#id")
+    @Cacheable(value = DRIVER_CACHE_VALUE, key = "#id", sync = true)
     public DriverReadDto findById(Long id) {
         return driverRepository.findByIdAndIsDeletedFalse(id)
                 .map(driverMapper::toReadDto)
@@ -150,15 +194,63 @@ public class DriverService {
                         LocaleContextHolder.getLocale())));
     }
 
+    public List<DriverReadDto> findByIds(List<Long> ids) {
+        return driverRepository.findByIdInAndIsDeletedFalse(ids)
+                .stream()
+                .map(driverMapper::toReadDto)
+                .toList();
+    }
+
     public void notifyDriver(RideReadDto rideReadDto) {
         log.info(rideReadDto.toString());
     }
 
     @Transactional
-    public void updateRating(UserRateDto userRateDto) {
-        Driver driver = driverRepository.findById(userRateDto.userId()).get();
-        driver.setRating(userRateDto.averageRate());
-        log.info("Update rating to {}, driver's id {}", userRateDto.averageRate(), userRateDto.userId());
-        driverRepository.save(driver);
+    public void updateRatings(List<UserRateDto> userRateDtos) {
+        Map<Long, Double> ratings = new LinkedHashMap<>();
+        userRateDtos.forEach(rate -> ratings.put(rate.userId(), rate.averageRate()));
+
+        int updated = driverRatingRepository.updateRatings(ratings);
+        log.info("Updated ratings of {} drivers from {} notifications", updated, userRateDtos.size());
+
+        evictAfterCommit(ratings.keySet());
+    }
+
+    /**
+     * Evicting before the commit would let a concurrent read cache the old rating again until the TTL.
+     */
+    private void evictAfterCommit(Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(DRIVER_CACHE_VALUE);
+        if (cache == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(cache::evict);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(cache::evict);
+            }
+        });
+    }
+
+    private DriverStateDto toState(Driver driver) {
+        return new DriverStateDto(driver.getId(), driver.isDeleted());
+    }
+
+    private long decodeCursor(String cursor) {
+        if (cursor == null) {
+            return 0L;
+        }
+        try {
+            return CursorResponse.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(messageSource.getMessage(
+                    ExceptionConstants.INVALID_CURSOR,
+                    new Object[]{cursor},
+                    LocaleContextHolder.getLocale()));
+        }
     }
 }
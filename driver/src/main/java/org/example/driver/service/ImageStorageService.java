@@ -30,6 +30,8 @@ public class ImageStorageService {
 
     private final MinioClient minioClient;
     private final MessageSource messageSource;
+    private final AvatarService avatarService;
+    private final ThumbnailService thumbnailService;
 
     @Value("${minio.bucket-name}")
     private String bucketName;
@@ -44,6 +46,7 @@ public class ImageStorageService {
                             .stream(inputStream, file.getSize(), -1)
                             .contentType(file.getContentType())
                             .build());
+            thumbnailService.createThumbnailsAsync(fileName);
             return bucketName + "/" + fileName;
         } catch (MinioException | InvalidKeyException | NoSuchAlgorithmException e) {
             throw new FileUploadException(messageSource.getMessage(
@@ -71,6 +74,8 @@ public class ImageStorageService {
                     RemoveObjectArgs.builder()
                             .bucket(bucketName)
                             .object(imageName).build());
+            thumbnailService.deleteThumbnails(imageName);
+            avatarService.evict(imageName);
         } catch (MinioException | InvalidKeyException | NoSuchAlgorithmException e) {
             throw new FileDeleteException(messageSource.getMessage(
                     ExceptionConstants.FILE_DELETE_EXCEPTION,
@@ -0,0 +1,184 @@
+package org.example.driver.service;
+
+import io.minio.GetObjectArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.errors.MinioException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.driver.constants.MinioConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates square thumbnails of uploaded avatars in the background. Every size from
+ * {@code minio.thumbnails.sizes} is stored as a separate JPEG object next to the original, an image
+ * smaller than a size is cropped and re-encoded without upscaling. Avatars that cannot be decoded
+ * get no thumbnails and are always served in full.
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+    private static final String FORMAT = "jpg";
+    private static final long MAX_SOURCE_PIXELS = 40_000_000;
+
+    private final MinioClient minioClient;
+    private final String bucketName;
+    private final List<Integer> sizes;
+    private final ThreadPoolExecutor executor;
+
+    public ThumbnailService(MinioClient minioClient,
+                            @Value("${minio.bucket-name}") String bucketName,
+                            @Value("${minio.thumbnails.sizes}") List<Integer> sizes,
+                            @Value("${minio.thumbnails.threads}") int threads,
+                            @Value("${minio.thumbnails.queue-capacity}") int queueCapacity) {
+        this.minioClient = minioClient;
+        this.bucketName = bucketName;
+        this.sizes = sizes.stream().sorted().toList();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("avatar-thumbnails-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static String thumbnailName(String name, int size) {
+        return MinioConstants.THUMBNAIL_PREFIX + size + "/" + name;
+    }
+
+    public List<Integer> getSizes() {
+        return sizes;
+    }
+
+    public Integer findFittingSize(int requestedSize) {
+        for (Integer size : sizes) {
+            if (size >= requestedSize) {
+                return size;
+            }
+        }
+        return null;
+    }
+
+    public void createThumbnailsAsync(String name) {
+        try {
+            executor.execute(() -> createThumbnails(name));
+        } catch (RejectedExecutionException e) {
+            log.warn("Thumbnails of {} were skipped, the queue is full", name);
+        }
+    }
+
+    public void createThumbnails(String name) {
+        try {
+            BufferedImage source = readImage(name);
+            if (source == null) {
+                log.info("Thumbnails of {} were not created, the image format is not supported", name);
+                return;
+            }
+            for (Integer size : sizes) {
+                byte[] thumbnail = encode(resize(source, size));
+                minioClient.putObject(PutObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(thumbnailName(name, size))
+                        .stream(new ByteArrayInputStream(thumbnail), thumbnail.length, -1)
+                        .contentType(MediaType.IMAGE_JPEG_VALUE)
+                        .build());
+            }
+        } catch (MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | RuntimeException e) {
+            log.warn("Failed to create thumbnails of {}: {}", name, e.getMessage());
+        }
+    }
+
+    public void deleteThumbnails(String name)
+            throws MinioException, InvalidKeyException, NoSuchAlgorithmException, IOException {
+        for (Integer size : sizes) {
+            minioClient.removeObject(RemoveObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(thumbnailName(name, size))
+                    .build());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private BufferedImage readImage(String name)
+            throws MinioException, InvalidKeyException, NoSuchAlgorithmException, IOException {
+        try (InputStream inputStream = minioClient.getObject(GetObjectArgs.builder()
+                .bucket(bucketName)
+                .object(name)
+                .build());
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_SOURCE_PIXELS) {
+                    log.info("Thumbnails of {} were not created, the image is too large", name);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int size) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        BufferedImage image = source.getSubimage(
+                (source.getWidth() - side) / 2, (source.getHeight() - side) / 2, side, side);
+        int target = Math.min(side, size);
+        while (side / 2 >= target) {
+            side /= 2;
+            image = scale(image, side);
+        }
+        return scale(image, target);
+    }
+
+    private static BufferedImage scale(BufferedImage source, int side) {
+        BufferedImage scaled = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, side, side, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, FORMAT, outputStream);
+        return outputStream.toByteArray();
+    }
+}
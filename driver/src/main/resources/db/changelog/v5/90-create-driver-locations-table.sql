@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS driver_locations (
+    driver_id    BIGINT            PRIMARY KEY,
+    latitude     DOUBLE PRECISION  NOT NULL,
+    longitude    DOUBLE PRECISION  NOT NULL,
+    recorded_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1 @@
+DROP TABLE driver_locations;
\ No newline at end of file
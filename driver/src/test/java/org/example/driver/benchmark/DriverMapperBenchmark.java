@@ -0,0 +1,106 @@
+package org.example.driver.benchmark;
+
+import org.example.driver.dto.create.CarCreateEditDto;
+import org.example.driver.dto.create.DriverCreateEditDto;
+import org.example.driver.dto.read.CarReadDto;
+import org.example.driver.dto.read.DriverReadDto;
+import org.example.driver.entity.Car;
+import org.example.driver.entity.Driver;
+import org.example.driver.entity.enumeration.Gender;
+import org.example.driver.mapper.CarMapper;
+import org.example.driver.mapper.CarMapperImpl;
+import org.example.driver.mapper.DriverMapper;
+import org.example.driver.mapper.DriverMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DriverMapperBenchmark {
+    private final DriverMapper driverMapper = new DriverMapperImpl();
+    private final CarMapper carMapper = new CarMapperImpl();
+    private Driver driver;
+    private DriverCreateEditDto dto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Car car = Car.builder()
+                .id(1L)
+                .color("red")
+                .brand("Toyota")
+                .number("AB125CK")
+                .year(2020)
+                .build();
+        driver = Driver.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .phone("+375291234567")
+                .gender(Gender.MALE)
+                .car(car)
+                .rating(4.8)
+                .imageUrl("avatar-1.png")
+                .build();
+        dto = DriverCreateEditDto.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .phone("+375291234567")
+                .gender(Gender.MALE)
+                .carCreateEditDto(CarCreateEditDto.builder()
+                        .color("red")
+                        .brand("Toyota")
+                        .number("AB125CK")
+                        .year(2020)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public DriverReadDto toReadDto() {
+        return driverMapper.toReadDto(driver);
+    }
+
+    @Benchmark
+    public Driver toDriver() {
+        return driverMapper.toDriver(dto);
+    }
+
+    @Benchmark
+    public Driver map() {
+        Driver target = new Driver();
+        driverMapper.map(target, dto);
+        return target;
+    }
+
+    @Benchmark
+    public CarReadDto carToReadDto() {
+        return carMapper.toReadDto(driver.getCar());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DriverMapperBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.driver.config.MessageSourceConfig;
 import org.example.driver.controller.DriverController;
 import org.example.driver.controller.impl.DriverControllerImpl;
+import org.example.driver.dto.create.BatchRequestDto;
 import org.example.driver.dto.create.DriverCreateEditDto;
 import org.example.driver.dto.read.DriverReadDto;
 import org.example.driver.entity.enumeration.Gender;
@@ -51,6 +52,7 @@ import static org.example.driver.util.DataUtil.getCarCreateEditDtoBuilder;
 import static org.example.driver.util.DataUtil.getDriverCreateEditDtoBuilder;
 import static org.example.driver.util.DataUtil.getDriverReadDtoBuilder;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -59,6 +61,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = DriverController.class)
@@ -157,6 +160,60 @@ class DriverControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Find by ids tests")
+    public class findByIdsTests {
+        @Test
+        void findByIds_whenVerifyingRequestMatching_thenReturn200() throws Exception {
+            DriverReadDto readDriver = getDriverReadDtoBuilder().build();
+            BatchRequestDto request = BatchRequestDto.builder()
+                    .ids(List.of(DEFAULT_ID))
+                    .build();
+
+            when(driverService.findByIds(request.ids())).thenReturn(List.of(readDriver));
+
+            MvcResult mvcResult = mockMvc.perform(post(URL + "/batch", DRIVER_ENTITY)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            String actual = mvcResult.getResponse().getContentAsString();
+
+            assertThat(actual).isEqualToIgnoringWhitespace(
+                    objectMapper.writeValueAsString(List.of(readDriver)));
+        }
+
+        @Test
+        void findByIds_whenIdsAreEmpty_thenReturn400() throws Exception {
+            BatchRequestDto request = BatchRequestDto.builder()
+                    .ids(List.of())
+                    .build();
+
+            mockMvc.perform(post(URL + "/batch", DRIVER_ENTITY)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest());
+
+            verify(driverService, never()).findByIds(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Publish snapshot tests")
+    public class publishSnapshotTests {
+        @Test
+        void publishSnapshot_thenReturn204() throws Exception {
+            mockMvc.perform(post(URL + "/snapshot", DRIVER_ENTITY)
+                            .with(csrf()))
+                    .andExpect(status().isNoContent());
+
+            verify(driverService).publishSnapshot();
+        }
+    }
+
     @Nested
     @DisplayName("Create tests")
     public class createTests {
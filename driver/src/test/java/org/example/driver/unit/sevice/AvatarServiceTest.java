@@ -0,0 +1,169 @@
+package org.example.driver.unit.sevice;
+
+import com.example.exceptionhandlerstarter.exception.minio.AvatarNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import okhttp3.Headers;
+import org.example.driver.constants.ExceptionConstants;
+import org.example.driver.dto.read.MinioAvatar;
+import org.example.driver.service.AvatarService;
+import org.example.driver.service.ThumbnailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AvatarServiceTest {
+    private static final String BUCKET = "bucket";
+    private static final String NAME = "20250101120000-avatar.png";
+    private static final String ETAG = "d41d8cd98f00b204e9800998ecf8427e";
+    private static final byte[] CONTENT = {1, 2, 3, 4, 5, 6, 7, 8};
+    private static final int THUMBNAIL_SIZE = 64;
+    private static final String THUMBNAIL = ThumbnailService.thumbnailName(NAME, THUMBNAIL_SIZE);
+
+    @Mock
+    private MinioClient minioClient;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    private final Cache<String, MinioAvatar> avatarCache = Caffeine.newBuilder().build();
+
+    private AvatarService avatarService;
+
+    @BeforeEach
+    void setUp() {
+        avatarService = new AvatarService(minioClient, messageSource, avatarCache, thumbnailService);
+        ReflectionTestUtils.setField(avatarService, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(avatarService, "maximumEntrySize", DataSize.ofBytes(CONTENT.length));
+    }
+
+    @Test
+    void getAvatar_whenRequestedTwice_thenReadsMinioOnce() throws Exception {
+        stat(CONTENT.length);
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenReturn(object());
+
+        MinioAvatar first = avatarService.getAvatar(NAME, null);
+        MinioAvatar second = avatarService.getAvatar(NAME, null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.resource()).isInstanceOf(ByteArrayResource.class);
+        assertThat(first.resource().getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(first.mediaType()).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(first.eTag()).isEqualTo(ETAG);
+        verify(minioClient, times(1)).statObject(any(StatObjectArgs.class));
+        verify(minioClient, times(1)).getObject(any(GetObjectArgs.class));
+    }
+
+    @Test
+    void getAvatar_whenLargerThanMaximumEntrySize_thenStreamsWithoutCaching() throws Exception {
+        stat(CONTENT.length + 1);
+
+        MinioAvatar avatar = avatarService.getAvatar(NAME, null);
+
+        assertThat(avatar.resource()).isNotInstanceOf(ByteArrayResource.class);
+        assertThat(avatar.resource().contentLength()).isEqualTo(CONTENT.length + 1);
+        assertThat(avatarCache.getIfPresent(NAME)).isNull();
+        verify(minioClient, never()).getObject(any(GetObjectArgs.class));
+
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenReturn(object());
+        assertThat(avatar.resource().getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void getAvatar_whenEvicted_thenReadsMinioAgain() throws Exception {
+        stat(CONTENT.length);
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenReturn(object(), object());
+        when(thumbnailService.getSizes()).thenReturn(List.of(THUMBNAIL_SIZE));
+
+        avatarService.getAvatar(NAME, null);
+        avatarService.evict(NAME);
+        avatarService.getAvatar(NAME, null);
+
+        verify(minioClient, times(2)).getObject(any(GetObjectArgs.class));
+    }
+
+    @Test
+    void getAvatar_whenThumbnailExists_thenReturnThumbnail() throws Exception {
+        stat(CONTENT.length);
+        when(thumbnailService.findFittingSize(48)).thenReturn(THUMBNAIL_SIZE);
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenReturn(object());
+
+        avatarService.getAvatar(NAME, 48);
+
+        verify(minioClient).statObject(argThat((StatObjectArgs args) -> args.object().equals(THUMBNAIL)));
+        assertThat(avatarCache.getIfPresent(THUMBNAIL)).isNotNull();
+        assertThat(avatarCache.getIfPresent(NAME)).isNull();
+    }
+
+    @Test
+    void getAvatar_whenThumbnailIsMissing_thenReturnOriginal() throws Exception {
+        StatObjectResponse statObjectResponse = mock(StatObjectResponse.class);
+        when(statObjectResponse.contentType()).thenReturn(MediaType.IMAGE_PNG_VALUE);
+        when(statObjectResponse.etag()).thenReturn(ETAG);
+        when(statObjectResponse.size()).thenReturn((long) CONTENT.length);
+        when(thumbnailService.findFittingSize(48)).thenReturn(THUMBNAIL_SIZE);
+        when(minioClient.statObject(any(StatObjectArgs.class)))
+                .thenThrow(mock(ErrorResponseException.class))
+                .thenReturn(statObjectResponse);
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenReturn(object());
+
+        MinioAvatar avatar = avatarService.getAvatar(NAME, 48);
+
+        assertThat(avatar.mediaType()).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(avatarCache.getIfPresent(NAME)).isSameAs(avatar);
+    }
+
+    @Test
+    void getAvatar_whenObjectIsMissing_thenThrowAvatarNotFoundException() throws Exception {
+        when(minioClient.statObject(any(StatObjectArgs.class))).thenThrow(mock(ErrorResponseException.class));
+        when(messageSource.getMessage(eq(ExceptionConstants.AVATAR_NOT_FOUND), any(), any()))
+                .thenReturn("Avatar was not found");
+
+        assertThatThrownBy(() -> avatarService.getAvatar(NAME, null))
+                .isInstanceOf(AvatarNotFoundException.class)
+                .hasMessage("Avatar was not found");
+    }
+
+    private void stat(long size) throws Exception {
+        StatObjectResponse statObjectResponse = mock(StatObjectResponse.class);
+        when(statObjectResponse.contentType()).thenReturn(MediaType.IMAGE_PNG_VALUE);
+        when(statObjectResponse.etag()).thenReturn(ETAG);
+        when(statObjectResponse.size()).thenReturn(size);
+        when(minioClient.statObject(any(StatObjectArgs.class))).thenReturn(statObjectResponse);
+    }
+
+    private static GetObjectResponse object() {
+        return new GetObjectResponse(Headers.of(), BUCKET, null, NAME, new ByteArrayInputStream(CONTENT));
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.driver.unit.sevice;
+
+import org.example.driver.dto.create.DriverLocationDto;
+import org.example.driver.dto.read.DriverLocationReadDto;
+import org.example.driver.kafka.KafkaProducer;
+import org.example.driver.repository.DriverLocationRepository;
+import org.example.driver.service.DriverLocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.driver.util.DataUtil.DEFAULT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DriverLocationServiceTest {
+    private static final int BATCH_SIZE = 100;
+
+    @InjectMocks
+    private DriverLocationService driverLocationService;
+
+    @Mock
+    private DriverLocationRepository driverLocationRepository;
+
+    @Mock
+    private KafkaProducer kafkaProducer;
+
+    @Captor
+    private ArgumentCaptor<List<DriverLocationReadDto>> locationsCaptor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(driverLocationService, "batchSize", BATCH_SIZE);
+    }
+
+    @Test
+    void flush_whenSeveralPingsOfOneDriver_thenPersistAndPublishOnlyLatest() {
+        driverLocationService.updateLocation(DEFAULT_ID, new DriverLocationDto(53.0, 27.0));
+        driverLocationService.updateLocation(DEFAULT_ID, new DriverLocationDto(53.1, 27.1));
+        driverLocationService.updateLocation(DEFAULT_ID + 1, new DriverLocationDto(54.0, 28.0));
+
+        driverLocationService.flush();
+
+        verify(driverLocationRepository).saveAll(locationsCaptor.capture(), eq(BATCH_SIZE));
+        assertThat(locationsCaptor.getValue()).hasSize(2)
+                .filteredOn(location -> location.driverId() == DEFAULT_ID)
+                .singleElement()
+                .satisfies(location -> assertThat(location.latitude()).isEqualTo(53.1));
+        verify(kafkaProducer, times(2)).publishLocation(any());
+    }
+
+    @Test
+    void flush_whenNoPings_thenDoNothing() {
+        driverLocationService.flush();
+
+        verifyNoInteractions(driverLocationRepository, kafkaProducer);
+    }
+
+    @Test
+    void flush_whenPersistingFails_thenKeepLocationsForNextFlush() {
+        driverLocationService.updateLocation(DEFAULT_ID, new DriverLocationDto(53.0, 27.0));
+        doThrow(new DataAccessResourceFailureException("down"))
+                .doNothing()
+                .when(driverLocationRepository).saveAll(anyList(), anyInt());
+
+        driverLocationService.flush();
+        verify(kafkaProducer, never()).publishLocation(any());
+
+        driverLocationService.flush();
+        verify(driverLocationRepository, times(2)).saveAll(anyList(), eq(BATCH_SIZE));
+        verify(kafkaProducer).publishLocation(any());
+    }
+}
@@ -2,16 +2,22 @@ package org.example.driver.unit.sevice;
 
 import com.example.exceptionhandlerstarter.exception.driver.DriverNotFoundException;
 import com.example.exceptionhandlerstarter.exception.driver.DuplicatedDriverEmailException;
+import com.example.exceptionhandlerstarter.exception.param.InvalidCursorException;
 import org.example.driver.constants.ExceptionConstants;
+import org.example.driver.constants.KafkaConstants;
 import org.example.driver.dto.create.DriverCreateEditDto;
 import org.example.driver.dto.read.CarReadDto;
+import org.example.driver.dto.read.CursorResponse;
 import org.example.driver.dto.read.DriverReadDto;
+import org.example.driver.dto.read.DriverStateDto;
 import org.example.driver.dto.read.UserRateDto;
 import org.example.driver.entity.Car;
 import org.example.driver.entity.Driver;
+import org.example.driver.kafka.KafkaProducer;
 import org.example.driver.mapper.CarMapper;
 import org.example.driver.mapper.DriverMapper;
 import org.example.driver.repository.CarRepository;
+import org.example.driver.repository.DriverRatingRepository;
 import org.example.driver.repository.DriverRepository;
 import org.example.driver.service.CarService;
 import org.example.driver.service.DriverService;
@@ -21,17 +27,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.example.driver.constants.RedisConstants.DRIVER_CACHE_VALUE;
 import static org.example.driver.util.DataUtil.DEFAULT_ID;
 import static org.example.driver.util.DataUtil.LIMIT_VALUE;
 import static org.example.driver.util.DataUtil.PAGE_VALUE;
@@ -43,6 +57,7 @@ import static org.example.driver.util.DataUtil.getDriverReadDtoBuilder;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -73,6 +88,18 @@ class DriverServiceTest {
     @Mock
     private MessageSource messageSource;
 
+    @Mock
+    private DriverRatingRepository driverRatingRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private KafkaProducer kafkaProducer;
+
     @Test
     void create_whenEmailIsNotDuplicatedAndCarIsFound_thenReturnDriverReadDto() {
         Driver defaultDriver = getDriverBuilder().build();
@@ -92,6 +119,7 @@ class DriverServiceTest {
         verify(driverMapper).toDriver(createDriver);
         verify(carRepository).findByNumberAndIsDeletedFalse(createDriver.carCreateEditDto().number());
         verify(driverRepository).save(defaultDriver);
+        verify(kafkaProducer).publishState(new DriverStateDto(DEFAULT_ID, false));
         verify(driverMapper).toReadDto(defaultDriver);
     }
 
@@ -272,6 +300,26 @@ class DriverServiceTest {
         assertThat(defaultDriver.isDeleted()).isTrue();
         verify(driverRepository).findByIdAndIsDeletedFalse(DEFAULT_ID);
         verify(driverRepository).save(defaultDriver);
+        verify(kafkaProducer).publishState(new DriverStateDto(DEFAULT_ID, true));
+    }
+
+    @Test
+    void publishSnapshot_whenSeveralPages_thenPublishEveryDriver() {
+        List<Driver> firstPage = LongStream.rangeClosed(1, KafkaConstants.SNAPSHOT_PAGE_SIZE)
+                .mapToObj(id -> getDriverBuilder().id(id).build())
+                .toList();
+        Driver lastDriver = getDriverBuilder().id(KafkaConstants.SNAPSHOT_PAGE_SIZE + 1L).build();
+        lastDriver.setDeleted(true);
+        Limit limit = Limit.of(KafkaConstants.SNAPSHOT_PAGE_SIZE);
+        when(driverRepository.findByIdGreaterThanOrderByIdAsc(0L, limit)).thenReturn(firstPage);
+        when(driverRepository.findByIdGreaterThanOrderByIdAsc((long) KafkaConstants.SNAPSHOT_PAGE_SIZE, limit))
+                .thenReturn(List.of(lastDriver));
+
+        driverService.publishSnapshot();
+
+        verify(kafkaProducer).publishState(new DriverStateDto(DEFAULT_ID, false));
+        verify(kafkaProducer).publishState(new DriverStateDto(lastDriver.getId(), true));
+        verify(kafkaProducer, times(KafkaConstants.SNAPSHOT_PAGE_SIZE + 1)).publishState(any());
     }
 
     @Test
@@ -295,6 +343,40 @@ class DriverServiceTest {
         verify(driverRepository, never()).save(any());
     }
 
+    @Test
+    void findAllByCursor_whenMoreDriversExist_thenReturnNextCursor() {
+        Driver firstDriver = getDriverBuilder().build();
+        Driver secondDriver = getDriverBuilder().id(DEFAULT_ID + 1).build();
+        DriverReadDto readDriver = getDriverReadDtoBuilder().build();
+
+        when(driverRepository.findByIsDeletedFalseAndIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(List.of(firstDriver, secondDriver));
+        when(driverMapper.toReadDto(any(Driver.class)))
+                .thenReturn(readDriver, getDriverReadDtoBuilder().id(DEFAULT_ID + 1).build());
+
+        CursorResponse<DriverReadDto> result = driverService.findAllByCursor(null, 1);
+
+        assertThat(result.content()).isEqualTo(List.of(readDriver));
+        assertThat(result.next()).isEqualTo(CursorResponse.encode(DEFAULT_ID));
+        verify(driverRepository).findByIsDeletedFalseAndIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+    }
+
+    @Test
+    void findAllByCursor_whenCursorIsInvalid_thenThrowInvalidCursorException() {
+        String cursor = "not-a-cursor";
+        when(messageSource.getMessage(
+                ExceptionConstants.INVALID_CURSOR,
+                new Object[]{cursor},
+                LocaleContextHolder.getLocale()))
+                .thenReturn(ExceptionConstants.INVALID_CURSOR);
+
+        InvalidCursorException exception = assertThrows(InvalidCursorException.class,
+                () -> driverService.findAllByCursor(cursor, LIMIT_VALUE));
+
+        assertThat(exception.getMessage()).isEqualTo(ExceptionConstants.INVALID_CURSOR);
+        verify(driverRepository, never()).findByIsDeletedFalseAndIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
     @Test
     void findAll_thenReturnPageDriverReadDto() {
         Driver defaultDriver = getDriverBuilder().build();
@@ -330,6 +412,19 @@ class DriverServiceTest {
         verify(driverMapper).toReadDto(defaultDriver);
     }
 
+    @Test
+    void findByIds_thenReturnFoundDrivers() {
+        Driver defaultDriver = getDriverBuilder().build();
+        DriverReadDto readDriver = getDriverReadDtoBuilder().build();
+        List<Long> ids = List.of(DEFAULT_ID, DEFAULT_ID + 1);
+        when(driverRepository.findByIdInAndIsDeletedFalse(ids)).thenReturn(List.of(defaultDriver));
+        when(driverMapper.toReadDto(defaultDriver)).thenReturn(readDriver);
+
+        assertThat(driverService.findByIds(ids)).isEqualTo(List.of(readDriver));
+        verify(driverRepository).findByIdInAndIsDeletedFalse(ids);
+        verify(driverMapper).toReadDto(defaultDriver);
+    }
+
     @Test
     void findById_whenDriverIsFound_thenReturnDriverReadDto() {
         Driver defaultDriver = getDriverBuilder().build();
@@ -364,17 +459,38 @@ class DriverServiceTest {
     }
 
     @Test
-    void updateRating_thenUpdateRating() {
-        Driver defaultDriver = getDriverBuilder().build();
-        UserRateDto rateDto = new UserRateDto(DEFAULT_ID, 4.0);
+    void updateRatings_whenUserIsRepeated_thenUpdateLastRatingInOneStatement() {
+        Long otherId = DEFAULT_ID + 1;
+        List<UserRateDto> rates = List.of(
+                new UserRateDto(DEFAULT_ID, 3.0),
+                new UserRateDto(otherId, 5.0),
+                new UserRateDto(DEFAULT_ID, 4.0));
 
-        when(driverRepository.findById(DEFAULT_ID)).thenReturn(Optional.of(defaultDriver));
-        when(driverRepository.save(defaultDriver)).thenReturn(defaultDriver);
+        when(driverRatingRepository.updateRatings(Map.of(DEFAULT_ID, 4.0, otherId, 5.0))).thenReturn(2);
+        when(cacheManager.getCache(DRIVER_CACHE_VALUE)).thenReturn(cache);
 
-        driverService.updateRating(rateDto);
+        driverService.updateRatings(rates);
 
-        assertThat(defaultDriver.getRating()).isEqualTo(4.0);
-        verify(driverRepository).findById(DEFAULT_ID);
-        verify(driverRepository).save(defaultDriver);
+        verify(driverRatingRepository).updateRatings(Map.of(DEFAULT_ID, 4.0, otherId, 5.0));
+        verify(cache).evict(DEFAULT_ID);
+        verify(cache).evict(otherId);
+        verify(driverRepository, never()).save(any());
+    }
+
+    @Test
+    void updateRatings_whenTransactionIsActive_thenEvictOnlyAfterCommit() {
+        when(driverRatingRepository.updateRatings(Map.of(DEFAULT_ID, 4.0))).thenReturn(1);
+        when(cacheManager.getCache(DRIVER_CACHE_VALUE)).thenReturn(cache);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            driverService.updateRatings(List.of(new UserRateDto(DEFAULT_ID, 4.0)));
+
+            verify(cache, never()).evict(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(cache).evict(DEFAULT_ID);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 }
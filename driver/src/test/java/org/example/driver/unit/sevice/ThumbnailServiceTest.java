@@ -0,0 +1,125 @@
+package org.example.driver.unit.sevice;
+
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import okhttp3.Headers;
+import org.example.driver.service.ThumbnailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailServiceTest {
+    private static final String BUCKET = "bucket";
+    private static final String NAME = "20250101120000-avatar.png";
+
+    @Mock
+    private MinioClient minioClient;
+
+    private ThumbnailService thumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        thumbnailService = new ThumbnailService(minioClient, BUCKET, List.of(256, 64), 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        thumbnailService.shutdown();
+    }
+
+    @Test
+    void findFittingSize_whenRequested_thenReturnSmallestSizeThatFits() {
+        assertThat(thumbnailService.findFittingSize(1)).isEqualTo(64);
+        assertThat(thumbnailService.findFittingSize(64)).isEqualTo(64);
+        assertThat(thumbnailService.findFittingSize(65)).isEqualTo(256);
+        assertThat(thumbnailService.findFittingSize(257)).isNull();
+    }
+
+    @Test
+    void createThumbnails_whenImageIsLarge_thenStoreSquareJpegOfEverySize() throws Exception {
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenReturn(object(png(800, 600)));
+
+        thumbnailService.createThumbnails(NAME);
+
+        ArgumentCaptor<PutObjectArgs> captor = ArgumentCaptor.forClass(PutObjectArgs.class);
+        verify(minioClient, times(2)).putObject(captor.capture());
+        Map<String, PutObjectArgs> thumbnails = captor.getAllValues().stream()
+                .collect(Collectors.toMap(PutObjectArgs::object, Function.identity()));
+        assertThat(thumbnails).containsOnlyKeys(
+                ThumbnailService.thumbnailName(NAME, 64), ThumbnailService.thumbnailName(NAME, 256));
+        assertThat(thumbnails.values()).allSatisfy(args -> assertThat(args.contentType()).isEqualTo(MediaType.IMAGE_JPEG_VALUE));
+        assertThat(read(thumbnails.get(ThumbnailService.thumbnailName(NAME, 64))))
+                .satisfies(image -> assertThat(image.getWidth()).isEqualTo(64))
+                .satisfies(image -> assertThat(image.getHeight()).isEqualTo(64));
+    }
+
+    @Test
+    void createThumbnails_whenImageIsSmall_thenDoNotUpscale() throws Exception {
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenReturn(object(png(100, 120)));
+
+        thumbnailService.createThumbnails(NAME);
+
+        ArgumentCaptor<PutObjectArgs> captor = ArgumentCaptor.forClass(PutObjectArgs.class);
+        verify(minioClient, times(2)).putObject(captor.capture());
+        assertThat(captor.getAllValues())
+                .filteredOn(args -> args.object().equals(ThumbnailService.thumbnailName(NAME, 256)))
+                .singleElement()
+                .satisfies(args -> assertThat(read(args).getWidth()).isEqualTo(100));
+    }
+
+    @Test
+    void createThumbnails_whenImageCannotBeDecoded_thenStoreNothing() throws Exception {
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenReturn(object(new byte[]{1, 2, 3}));
+
+        thumbnailService.createThumbnails(NAME);
+
+        verify(minioClient, never()).putObject(any(PutObjectArgs.class));
+    }
+
+    @Test
+    void deleteThumbnails_whenCalled_thenRemoveEverySize() throws Exception {
+        thumbnailService.deleteThumbnails(NAME);
+
+        verify(minioClient, times(2)).removeObject(any(RemoveObjectArgs.class));
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static GetObjectResponse object(byte[] content) {
+        return new GetObjectResponse(Headers.of(), BUCKET, null, NAME, new ByteArrayInputStream(content));
+    }
+
+    private static BufferedImage read(PutObjectArgs args) throws IOException {
+        return ImageIO.read(args.stream());
+    }
+}
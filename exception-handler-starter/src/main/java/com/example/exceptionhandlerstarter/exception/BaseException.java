@@ -1,10 +1,31 @@
 package com.example.exceptionhandlerstarter.exception;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.util.function.Supplier;
+
 @Getter
 public abstract class BaseException extends RuntimeException {
+    @Getter(AccessLevel.NONE)
+    private transient Supplier<String> messageSupplier;
+
     public BaseException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+
+    protected BaseException(Supplier<String> messageSupplier) {
+        super(null, null, false, false);
+        this.messageSupplier = messageSupplier;
+    }
+
+    @Override
+    public String getMessage() {
+        if (messageSupplier != null) {
+            String message = messageSupplier.get();
+            messageSupplier = () -> message;
+            return message;
+        }
+        return super.getMessage();
+    }
+}
@@ -12,10 +12,13 @@ import com.example.exceptionhandlerstarter.exception.minio.AvatarNotFoundExcepti
 import com.example.exceptionhandlerstarter.exception.minio.FileDeleteException;
 import com.example.exceptionhandlerstarter.exception.minio.FileUploadException;
 import com.example.exceptionhandlerstarter.exception.param.InvalidCountParametersException;
+import com.example.exceptionhandlerstarter.exception.param.InvalidCursorException;
 import com.example.exceptionhandlerstarter.exception.passenger.DuplicatedPassengerEmailException;
 import com.example.exceptionhandlerstarter.exception.passenger.PassengerNotFoundException;
 import com.example.exceptionhandlerstarter.exception.rate.RateNotFoundException;
 import com.example.exceptionhandlerstarter.exception.ride.CanceledRideStatusException;
+import com.example.exceptionhandlerstarter.exception.ride.ConcurrentRideUpdateException;
+import com.example.exceptionhandlerstarter.exception.ride.InvalidQuoteException;
 import com.example.exceptionhandlerstarter.exception.ride.InvalidRideStatusForChangingException;
 import com.example.exceptionhandlerstarter.exception.ride.IrrelevantDriverStatusException;
 import com.example.exceptionhandlerstarter.exception.ride.RideException;
@@ -135,6 +138,18 @@ public class GlobalExceptionHandler {
         return new ExceptionDto(HttpStatus.BAD_REQUEST, exception.getMessage(), LocalDateTime.now());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ExceptionDto handleInvalidCursorException(InvalidCursorException exception) {
+        return new ExceptionDto(HttpStatus.BAD_REQUEST, exception.getMessage(), LocalDateTime.now());
+    }
+
+    @ExceptionHandler(InvalidQuoteException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ExceptionDto handleInvalidQuoteException(InvalidQuoteException exception) {
+        return new ExceptionDto(HttpStatus.BAD_REQUEST, exception.getMessage(), LocalDateTime.now());
+    }
+
     @ExceptionHandler(CanceledRideStatusException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public ExceptionDto handleCanceledRideStatusException(CanceledRideStatusException exception) {
@@ -147,6 +162,12 @@ public class GlobalExceptionHandler {
         return new ExceptionDto(HttpStatus.CONFLICT, exception.getMessage(), LocalDateTime.now());
     }
 
+    @ExceptionHandler(ConcurrentRideUpdateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ExceptionDto handleConcurrentRideUpdateException(ConcurrentRideUpdateException exception) {
+        return new ExceptionDto(HttpStatus.CONFLICT, exception.getMessage(), LocalDateTime.now());
+    }
+
     @ExceptionHandler(AvatarNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ExceptionDto handleAvatarNotFoundException(AvatarNotFoundException exception) {
@@ -0,0 +1,9 @@
+package com.example.exceptionhandlerstarter.exception.param;
+
+import com.example.exceptionhandlerstarter.exception.BaseException;
+
+public class InvalidCursorException extends BaseException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -2,8 +2,14 @@ package com.example.exceptionhandlerstarter.exception.ride;
 
 import com.example.exceptionhandlerstarter.exception.BaseException;
 
+import java.util.function.Supplier;
+
 public class CanceledRideStatusException extends BaseException {
     public CanceledRideStatusException(String message) {
         super(message);
     }
+
+    public CanceledRideStatusException(Supplier<String> messageSupplier) {
+        super(messageSupplier);
+    }
 }
@@ -0,0 +1,9 @@
+package com.example.exceptionhandlerstarter.exception.ride;
+
+import com.example.exceptionhandlerstarter.exception.BaseException;
+
+public class ConcurrentRideUpdateException extends BaseException {
+    public ConcurrentRideUpdateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.exceptionhandlerstarter.exception.ride;
+
+import com.example.exceptionhandlerstarter.exception.BaseException;
+
+public class InvalidQuoteException extends BaseException {
+    public InvalidQuoteException(String message) {
+        super(message);
+    }
+}
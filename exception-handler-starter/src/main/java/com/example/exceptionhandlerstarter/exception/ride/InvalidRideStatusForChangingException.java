@@ -2,8 +2,14 @@ package com.example.exceptionhandlerstarter.exception.ride;
 
 import com.example.exceptionhandlerstarter.exception.BaseException;
 
+import java.util.function.Supplier;
+
 public class InvalidRideStatusForChangingException extends BaseException {
     public InvalidRideStatusForChangingException(String message) {
         super(message);
     }
+
+    public InvalidRideStatusForChangingException(Supplier<String> messageSupplier) {
+        super(messageSupplier);
+    }
 }
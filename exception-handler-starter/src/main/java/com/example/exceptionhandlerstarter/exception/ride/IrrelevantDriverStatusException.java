@@ -2,8 +2,14 @@ package com.example.exceptionhandlerstarter.exception.ride;
 
 import com.example.exceptionhandlerstarter.exception.BaseException;
 
+import java.util.function.Supplier;
+
 public class IrrelevantDriverStatusException extends BaseException {
     public IrrelevantDriverStatusException(String message) {
         super(message);
     }
+
+    public IrrelevantDriverStatusException(Supplier<String> messageSupplier) {
+        super(messageSupplier);
+    }
 }
@@ -0,0 +1,96 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.loadtest.config.LoadTestProperties;
+import org.example.loadtest.keycloak.KeycloakStub;
+import org.example.loadtest.report.LatencyRecorder;
+import org.example.loadtest.report.LoadReport;
+import org.example.loadtest.scenario.RideLifecycleScenario;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the ride lifecycle scenario on {@code users} virtual threads until {@code duration} is over,
+ * then prints the report and writes it as JSON next to the previous ones. A user starts the next
+ * scenario as soon as the previous one ends, a failed step ends the scenario and is counted
+ * as an error of its endpoint.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadRunner implements CommandLineRunner {
+    private static final DateTimeFormatter REPORT_NAME = DateTimeFormatter.ofPattern("'load-report-'yyyyMMdd-HHmmss'.json'")
+            .withZone(ZoneOffset.UTC);
+
+    private final LoadTestProperties properties;
+    private final KeycloakStub keycloakStub;
+    private final RideLifecycleScenario scenario;
+    private final LatencyRecorder recorder;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void run(String... args) throws Exception {
+        keycloakStub.install();
+
+        Instant startedAt = Instant.now();
+        long deadline = System.nanoTime() + properties.getDuration().toNanos();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int user = 0; user < properties.getUsers(); user++) {
+                int userId = user;
+                runs.add(users.submit(() -> runUser(userId, deadline)));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        }
+        Duration elapsed = Duration.between(startedAt, Instant.now());
+
+        LoadReport report = recorder.report(startedAt, elapsed, properties.getUsers());
+        System.out.print(report.toTable(readBaseline()));
+        writeReport(report);
+    }
+
+    private void runUser(int user, long deadline) {
+        for (long iteration = 0; System.nanoTime() < deadline; iteration++) {
+            try {
+                scenario.run(user, iteration);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.debug("Scenario {} of user {} failed: {}", iteration, user, e.getMessage());
+            }
+        }
+    }
+
+    private LoadReport readBaseline() throws IOException {
+        if (!StringUtils.hasText(properties.getBaselineReport())) {
+            return null;
+        }
+        return objectMapper.readValue(Path.of(properties.getBaselineReport()).toFile(), LoadReport.class);
+    }
+
+    private void writeReport(LoadReport report) throws IOException {
+        Path directory = Files.createDirectories(Path.of(properties.getReportDirectory()));
+        Path file = directory.resolve(REPORT_NAME.format(report.startedAt()));
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+        log.info("Report was written to {}", file.toAbsolutePath());
+    }
+}
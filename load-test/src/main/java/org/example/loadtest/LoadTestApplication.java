@@ -0,0 +1,15 @@
+package org.example.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+@SpringBootApplication
+@ConfigurationPropertiesScan
+public class LoadTestApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.exit(SpringApplication.run(LoadTestApplication.class, args));
+    }
+
+}
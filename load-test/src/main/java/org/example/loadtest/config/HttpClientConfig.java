@@ -0,0 +1,43 @@
+package org.example.loadtest.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public HttpClient httpClient(LoadTestProperties properties) {
+        return HttpClient.newBuilder()
+                .connectTimeout(properties.getRequestTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public RestClient gatewayClient(RestClient.Builder builder, HttpClient httpClient, LoadTestProperties properties) {
+        return builder.clone()
+                .baseUrl(properties.getGatewayUrl())
+                .requestFactory(requestFactory(httpClient, properties))
+                .build();
+    }
+
+    @Bean
+    public RestClient keycloakStubClient(RestClient.Builder builder, HttpClient httpClient, LoadTestProperties properties) {
+        return builder.clone()
+                .baseUrl(properties.getKeycloakStubUrl())
+                .requestFactory(requestFactory(httpClient, properties))
+                .build();
+    }
+
+    private JdkClientHttpRequestFactory requestFactory(HttpClient httpClient, LoadTestProperties properties) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getRequestTimeout());
+        return requestFactory;
+    }
+}
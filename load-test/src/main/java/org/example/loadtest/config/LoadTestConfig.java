@@ -0,0 +1,43 @@
+package org.example.loadtest.config;
+
+import org.example.loadtest.keycloak.KeycloakStub;
+import org.example.loadtest.keycloak.TokenIssuer;
+import org.example.loadtest.report.LatencyRecorder;
+import org.example.loadtest.scenario.ParticipantDirectory;
+import org.example.loadtest.scenario.RideLifecycleScenario;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Configuration
+public class LoadTestConfig {
+    private static final Duration TOKEN_LIFETIME_RESERVE = Duration.ofMinutes(10);
+
+    @Bean
+    public TokenIssuer tokenIssuer(LoadTestProperties properties) {
+        return new TokenIssuer(properties.getIssuer(), properties.getDuration().plus(TOKEN_LIFETIME_RESERVE));
+    }
+
+    @Bean
+    public KeycloakStub keycloakStub(RestClient keycloakStubClient, TokenIssuer tokenIssuer, LoadTestProperties properties) {
+        return new KeycloakStub(keycloakStubClient, tokenIssuer, properties.getRealm());
+    }
+
+    @Bean
+    public LatencyRecorder latencyRecorder() {
+        return new LatencyRecorder();
+    }
+
+    @Bean
+    public RideLifecycleScenario rideLifecycleScenario(RestClient gatewayClient, LatencyRecorder recorder,
+                                                       TokenIssuer tokenIssuer) {
+        String adminToken = tokenIssuer.issueAdminToken();
+        return new RideLifecycleScenario(gatewayClient, recorder, tokenIssuer,
+                new ParticipantDirectory(gatewayClient, recorder, "/api/v1/passengers/cursor", adminToken),
+                new ParticipantDirectory(gatewayClient, recorder, "/api/v1/drivers/cursor", adminToken),
+                UUID.randomUUID().toString().substring(0, 8));
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.loadtest.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of a load run. {@code issuer} is the Keycloak stub address as the services see it inside
+ * the compose network, {@code keycloakStubUrl} is the same stub as seen from the load generator.
+ * {@code baselineReport} is an optional report of a previous run to compare the results with.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "load-test")
+public class LoadTestProperties {
+    private String gatewayUrl = "http://localhost:8080";
+    private String keycloakStubUrl = "http://localhost:8489";
+    private String issuer = "http://keycloak-stub:8080/realms/taxi_realm";
+    private int users = 20;
+    private Duration duration = Duration.ofMinutes(2);
+    private Duration requestTimeout = Duration.ofSeconds(10);
+    private String reportDirectory = "target/load-reports";
+    private String baselineReport;
+
+    public String getRealm() {
+        return issuer.substring(issuer.lastIndexOf('/') + 1);
+    }
+}
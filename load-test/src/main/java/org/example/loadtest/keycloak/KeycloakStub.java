@@ -0,0 +1,78 @@
+package org.example.loadtest.keycloak;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Installs the run-specific part of the Keycloak stand-in through the WireMock admin API: the key set
+ * that verifies tokens of {@link TokenIssuer} and the client credentials grant that registration-service
+ * uses to call the admin API and the other services. Static parts of the stand-in, such as discovery
+ * and user management, are mapping files mounted into the stub container.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class KeycloakStub {
+    static final UUID JWKS_MAPPING_ID = UUID.fromString("6f1d7c0e-3f5b-4d5e-9a57-2f4c1b0e9a01");
+    static final UUID CLIENT_TOKEN_MAPPING_ID = UUID.fromString("6f1d7c0e-3f5b-4d5e-9a57-2f4c1b0e9a02");
+
+    private static final String MAPPINGS_PATH = "/__admin/mappings";
+    private static final String CLIENT_CREDENTIALS = "grant_type=client_credentials";
+
+    private final RestClient keycloakStubClient;
+    private final TokenIssuer tokenIssuer;
+    private final String realm;
+
+    public void install() {
+        String realmPath = "/realms/" + realm + "/protocol/openid-connect";
+        replace(JWKS_MAPPING_ID, Map.of(
+                "request", Map.of(
+                        "method", "GET",
+                        "urlPath", realmPath + "/certs"),
+                "response", Map.of(
+                        "status", HttpStatus.OK.value(),
+                        "headers", Map.of("Content-Type", MediaType.APPLICATION_JSON_VALUE),
+                        "jsonBody", tokenIssuer.jwks())));
+        replace(CLIENT_TOKEN_MAPPING_ID, Map.of(
+                "request", Map.of(
+                        "method", "POST",
+                        "urlPath", realmPath + "/token",
+                        "bodyPatterns", List.of(Map.of("contains", CLIENT_CREDENTIALS))),
+                "response", Map.of(
+                        "status", HttpStatus.OK.value(),
+                        "headers", Map.of("Content-Type", MediaType.APPLICATION_JSON_VALUE),
+                        "jsonBody", Map.of(
+                                "access_token", tokenIssuer.issueAdminToken(),
+                                "token_type", "Bearer",
+                                "expires_in", tokenIssuer.getLifetime().toSeconds(),
+                                "refresh_expires_in", 0,
+                                "scope", "profile email"))));
+        log.info("Keycloak stub is serving keys and client tokens of realm {}", realm);
+    }
+
+    private void replace(UUID id, Map<String, Object> mapping) {
+        keycloakStubClient.delete()
+                .uri(MAPPINGS_PATH + "/{id}", id)
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(), (request, response) -> {
+                })
+                .toBodilessEntity();
+
+        Map<String, Object> stub = new HashMap<>(mapping);
+        stub.put("id", id.toString());
+        stub.put("persistent", false);
+        keycloakStubClient.post()
+                .uri(MAPPINGS_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(stub)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
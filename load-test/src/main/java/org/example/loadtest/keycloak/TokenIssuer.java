@@ -0,0 +1,95 @@
+package org.example.loadtest.keycloak;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Issues tokens shaped like Keycloak access tokens, signed with a key generated for the run.
+ * The public half is served by the Keycloak stub, so the services validate these tokens as usual.
+ */
+public class TokenIssuer {
+    public static final String ADMIN_CLIENT = "admin-cli";
+    public static final String USER_CLIENT = "taxi_client";
+    public static final String ADMIN_ROLE = "ADMIN";
+
+    private static final String REALM_ACCESS_CLAIM = "realm_access";
+    private static final String ROLES_CLAIM = "roles";
+    private static final String EMAIL_CLAIM = "email";
+    private static final String AZP_CLAIM = "azp";
+
+    private final String issuer;
+    private final Duration lifetime;
+    private final RSAKey key;
+    private final JWSSigner signer;
+
+    public TokenIssuer(String issuer, Duration lifetime) {
+        this.issuer = issuer;
+        this.lifetime = lifetime;
+        try {
+            this.key = new RSAKeyGenerator(2048)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.RS256)
+                    .keyID(UUID.randomUUID().toString())
+                    .generate();
+            this.signer = new RSASSASigner(key);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Failed to generate signing key", e);
+        }
+    }
+
+    public String issueUserToken(String email, String role) {
+        return issue(new JWTClaimsSet.Builder()
+                .subject(UUID.randomUUID().toString())
+                .claim(AZP_CLAIM, USER_CLIENT)
+                .claim(EMAIL_CLAIM, email)
+                .claim(REALM_ACCESS_CLAIM, Map.of(ROLES_CLAIM, List.of(role))));
+    }
+
+    public String issueAdminToken() {
+        return issue(new JWTClaimsSet.Builder()
+                .subject(UUID.randomUUID().toString())
+                .claim(AZP_CLAIM, ADMIN_CLIENT)
+                .claim(REALM_ACCESS_CLAIM, Map.of(ROLES_CLAIM, List.of(ADMIN_ROLE))));
+    }
+
+    public Map<String, Object> jwks() {
+        return new JWKSet(key.toPublicJWK()).toJSONObject();
+    }
+
+    public Duration getLifetime() {
+        return lifetime;
+    }
+
+    private String issue(JWTClaimsSet.Builder claims) {
+        Instant now = Instant.now();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                claims.issuer(issuer)
+                        .jwtID(UUID.randomUUID().toString())
+                        .issueTime(Date.from(now))
+                        .expirationTime(Date.from(now.plus(lifetime)))
+                        .build());
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Failed to sign token", e);
+        }
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.loadtest.report;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record EndpointReport(
+        String endpoint,
+        long requests,
+        long errors,
+        double errorRate,
+        double throughput,
+        double p50,
+        double p90,
+        double p99,
+        double max,
+        Map<String, Long> errorsByStatus
+) {
+}
@@ -0,0 +1,58 @@
+package org.example.loadtest.report;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of one endpoint. Latencies of successful calls are kept in a histogram with microsecond
+ * resolution, failed calls are counted by status code so that fast rejections do not hide in the
+ * percentiles. Status {@code 0} stands for calls that got no response at all.
+ */
+class EndpointStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder requests = new LongAdder();
+    private final Map<Integer, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void success(long nanos) {
+        requests.increment();
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    void failure(int status) {
+        requests.increment();
+        errors.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    EndpointReport report(String endpoint, Duration elapsed) {
+        long total = requests.sum();
+        Map<String, Long> errorsByStatus = new TreeMap<>();
+        errors.forEach((status, count) -> errorsByStatus.put(String.valueOf(status), count.sum()));
+        long failed = errorsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        return EndpointReport.builder()
+                .endpoint(endpoint)
+                .requests(total)
+                .errors(failed)
+                .errorRate(total == 0 ? 0 : (double) failed / total)
+                .throughput(total / Math.max(elapsed.toMillis() / 1000.0, 0.001))
+                .p50(millis(latencies.getValueAtPercentile(50)))
+                .p90(millis(latencies.getValueAtPercentile(90)))
+                .p99(millis(latencies.getValueAtPercentile(99)))
+                .max(millis(latencies.getMaxValue()))
+                .errorsByStatus(errorsByStatus)
+                .build();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.loadtest.report;
+
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Times calls by endpoint. A call fails when it throws, the exception is rethrown so that the
+ * scenario can stop at the first failed step.
+ */
+public class LatencyRecorder {
+    private static final int NO_RESPONSE = 0;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder scenarios = new LongAdder();
+
+    public <T> T record(String endpoint, Supplier<T> call) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            stats.success(System.nanoTime() - start);
+            return result;
+        } catch (RestClientResponseException e) {
+            stats.failure(e.getStatusCode().value());
+            throw e;
+        } catch (RuntimeException e) {
+            stats.failure(NO_RESPONSE);
+            throw e;
+        }
+    }
+
+    public void scenarioCompleted() {
+        scenarios.increment();
+    }
+
+    public LoadReport report(Instant startedAt, Duration elapsed, int users) {
+        return LoadReport.builder()
+                .startedAt(startedAt)
+                .duration(elapsed)
+                .users(users)
+                .scenarios(scenarios.sum())
+                .endpoints(endpoints.entrySet().stream()
+                        .map(entry -> entry.getValue().report(entry.getKey(), elapsed))
+                        .sorted(Comparator.comparing(EndpointReport::endpoint))
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.loadtest.report;
+
+import lombok.Builder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Result of a load run, latencies are in milliseconds. Reports are written as JSON so that the run
+ * of one release can be passed as the baseline of the next one.
+ */
+@Builder
+public record LoadReport(
+        Instant startedAt,
+        Duration duration,
+        int users,
+        long scenarios,
+        List<EndpointReport> endpoints
+) {
+    private static final String ROW_FORMAT = "%-36s %9s %8s %9s %9s %9s %9s %9s %s%n";
+
+    public String toTable(LoadReport baseline) {
+        Map<String, EndpointReport> previous = baseline == null
+                ? Map.of()
+                : baseline.endpoints().stream().collect(Collectors.toMap(EndpointReport::endpoint, Function.identity()));
+
+        StringBuilder table = new StringBuilder()
+                .append(String.format(Locale.ROOT, "%d users, %d scenarios in %ds%n",
+                        users, scenarios, duration.toSeconds()))
+                .append(String.format(Locale.ROOT, ROW_FORMAT,
+                        "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms",
+                        baseline == null ? "" : "p99 vs baseline"));
+        for (EndpointReport endpoint : endpoints) {
+            EndpointReport before = previous.get(endpoint.endpoint());
+            table.append(String.format(Locale.ROOT, ROW_FORMAT,
+                    endpoint.endpoint(),
+                    endpoint.requests(),
+                    String.format(Locale.ROOT, "%.2f%%", endpoint.errorRate() * 100),
+                    String.format(Locale.ROOT, "%.1f", endpoint.throughput()),
+                    String.format(Locale.ROOT, "%.1f", endpoint.p50()),
+                    String.format(Locale.ROOT, "%.1f", endpoint.p90()),
+                    String.format(Locale.ROOT, "%.1f", endpoint.p99()),
+                    String.format(Locale.ROOT, "%.1f", endpoint.max()),
+                    before == null || before.p99() == 0
+                            ? ""
+                            : String.format(Locale.ROOT, "%+.1f%%", (endpoint.p99() / before.p99() - 1) * 100)));
+        }
+        return table.toString();
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.loadtest.scenario;
+
+public record Participant(
+        long id,
+        String email
+) {
+}
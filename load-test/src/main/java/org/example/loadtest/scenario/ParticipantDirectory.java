@@ -0,0 +1,94 @@
+package org.example.loadtest.scenario;
+
+import org.example.loadtest.report.LatencyRecorder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Finds ids of signed up drivers or passengers by email. Sign-up does not return the id, so the
+ * directory follows the admin cursor endpoint of the service from the last seen id, one refresh
+ * at a time for all callers. Every refresh starts a little before the last seen id to pick up
+ * rows whose transactions committed out of id order.
+ */
+public class ParticipantDirectory {
+    private static final String CURSOR_PREFIX = "id:";
+    private static final int PAGE_SIZE = 100;
+    private static final long OVERLAP = 200;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration RETRY_DELAY = Duration.ofMillis(100);
+
+    private final RestClient gatewayClient;
+    private final LatencyRecorder recorder;
+    private final String path;
+    private final String adminToken;
+    private final Map<String, Long> idsByEmail = new ConcurrentHashMap<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private long lastSeenId;
+
+    public ParticipantDirectory(RestClient gatewayClient, LatencyRecorder recorder, String path, String adminToken) {
+        this.gatewayClient = gatewayClient;
+        this.recorder = recorder;
+        this.path = path;
+        this.adminToken = adminToken;
+    }
+
+    public long resolve(String email) throws InterruptedException {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            Long id = idsByEmail.get(email);
+            if (id != null) {
+                return id;
+            }
+            refreshLock.lock();
+            try {
+                if (!idsByEmail.containsKey(email)) {
+                    refresh();
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+            id = idsByEmail.get(email);
+            if (id != null) {
+                return id;
+            }
+            Thread.sleep(RETRY_DELAY.multipliedBy(attempt));
+        }
+        throw new IllegalStateException("No participant with email " + email + " at " + path);
+    }
+
+    private void refresh() {
+        long after = Math.max(0, lastSeenId - OVERLAP);
+        String cursor = after == 0 ? null : encode(after);
+        do {
+            String pageCursor = cursor;
+            ParticipantPage page = recorder.record("GET " + path, () -> gatewayClient.get()
+                    .uri(uri -> {
+                        uri.path(path).queryParam("limit", PAGE_SIZE);
+                        if (pageCursor != null) {
+                            uri.queryParam("cursor", pageCursor);
+                        }
+                        return uri.build();
+                    })
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                    .retrieve()
+                    .body(ParticipantPage.class));
+            for (Participant participant : page.content()) {
+                idsByEmail.put(participant.email(), participant.id());
+                lastSeenId = Math.max(lastSeenId, participant.id());
+            }
+            cursor = page.next();
+        } while (cursor != null);
+    }
+
+    private static String encode(long id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.loadtest.scenario;
+
+import java.util.List;
+
+public record ParticipantPage(
+        List<Participant> content,
+        String next
+) {
+}
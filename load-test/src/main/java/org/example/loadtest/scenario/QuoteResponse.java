@@ -0,0 +1,6 @@
+package org.example.loadtest.scenario;
+
+public record QuoteResponse(
+        String id
+) {
+}
@@ -0,0 +1,171 @@
+package org.example.loadtest.scenario;
+
+import lombok.RequiredArgsConstructor;
+import org.example.loadtest.keycloak.TokenIssuer;
+import org.example.loadtest.report.LatencyRecorder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.web.client.RestClient;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One pass through the ride lifecycle: a passenger and a driver sign up, the passenger takes a quote
+ * and books a ride with the driver, the ride goes through every driver and passenger status and
+ * both sides rate each other. Each step goes through the gateway and is timed by endpoint.
+ */
+@RequiredArgsConstructor
+public class RideLifecycleScenario {
+    private static final String PASSENGER = "PASSENGER";
+    private static final String DRIVER = "DRIVER";
+    private static final double LATITUDE = 53.9006;
+    private static final double LONGITUDE = 27.5590;
+    private static final double SPREAD = 0.1;
+
+    private final RestClient gatewayClient;
+    private final LatencyRecorder recorder;
+    private final TokenIssuer tokenIssuer;
+    private final ParticipantDirectory passengers;
+    private final ParticipantDirectory drivers;
+    private final String runId;
+
+    public void run(int user, long iteration) throws InterruptedException {
+        String passengerEmail = email(PASSENGER, user, iteration);
+        String driverEmail = email(DRIVER, user, iteration);
+        signUp(passengerEmail, PASSENGER);
+        signUp(driverEmail, DRIVER);
+
+        long passengerId = passengers.resolve(passengerEmail);
+        long driverId = drivers.resolve(driverEmail);
+        String passengerToken = tokenIssuer.issueUserToken(passengerEmail, PASSENGER);
+        String driverToken = tokenIssuer.issueUserToken(driverEmail, DRIVER);
+
+        Map<String, Object> route = route(passengerId);
+        QuoteResponse quote = recorder.record("POST /rides/quote", () -> gatewayClient.post()
+                .uri("/api/v1/rides/quote")
+                .header(HttpHeaders.AUTHORIZATION, bearer(passengerToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(route)
+                .retrieve()
+                .body(QuoteResponse.class));
+
+        Map<String, Object> ride = new HashMap<>(route);
+        ride.put("driverId", driverId);
+        ride.put("addressFrom", "Nezavisimosti avenue, " + user);
+        ride.put("addressTo", "Pobediteley avenue, " + iteration);
+        ride.put("quoteId", quote.id());
+        long rideId = recorder.record("POST /rides", () -> gatewayClient.post()
+                .uri("/api/v1/rides")
+                .header(HttpHeaders.AUTHORIZATION, bearer(passengerToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ride)
+                .retrieve()
+                .body(RideResponse.class))
+                .id();
+
+        changeDriverStatus(rideId, driverToken, "ACCEPTED");
+        changeDriverStatus(rideId, driverToken, "ON_WAY_FOR_PASSENGER");
+        changeDriverStatus(rideId, driverToken, "WAITING");
+        changePassengerStatus(rideId, passengerToken, "IN_CAR");
+        changeDriverStatus(rideId, driverToken, "ON_WAY_TO_DESTINATION");
+        changeDriverStatus(rideId, driverToken, "COMPLETED");
+
+        rate(rideId, passengerToken, passengerId, PASSENGER);
+        rate(rideId, driverToken, driverId, DRIVER);
+        recorder.scenarioCompleted();
+    }
+
+    private void signUp(String email, String role) {
+        Map<String, Object> dto = new HashMap<>();
+        dto.put("username", email);
+        dto.put("firstName", "Load");
+        dto.put("lastName", "Test");
+        dto.put("email", email);
+        dto.put("password", "password");
+        dto.put("phone", "+37529" + (1_000_000 + ThreadLocalRandom.current().nextInt(9_000_000)));
+        dto.put("gender", ThreadLocalRandom.current().nextBoolean() ? "MALE" : "FEMALE");
+        dto.put("role", role);
+        if (DRIVER.equals(role)) {
+            dto.put("carCreateEditDto", Map.of(
+                    "color", "white",
+                    "brand", "Skoda",
+                    "number", carNumber(),
+                    "year", 2020));
+        }
+        MultipartBodyBuilder body = new MultipartBodyBuilder();
+        body.part("dto", dto, MediaType.APPLICATION_JSON);
+
+        recorder.record("POST /taxi/sign-up " + role.toLowerCase(), () -> gatewayClient.post()
+                .uri("/api/v1/taxi/sign-up")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(body.build())
+                .retrieve()
+                .toBodilessEntity());
+    }
+
+    private void changeDriverStatus(long rideId, String token, String status) {
+        recorder.record("PUT /rides/{id}/driver-status", () -> gatewayClient.put()
+                .uri("/api/v1/rides/{id}/driver-status", rideId)
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("rideStatus", status))
+                .retrieve()
+                .body(RideResponse.class));
+    }
+
+    private void changePassengerStatus(long rideId, String token, String status) {
+        recorder.record("PUT /rides/{id}/passenger-status", () -> gatewayClient.put()
+                .uri("/api/v1/rides/{id}/passenger-status", rideId)
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("rideStatus", status))
+                .retrieve()
+                .body(RideResponse.class));
+    }
+
+    private void rate(long rideId, String token, long userId, String userType) {
+        recorder.record("POST /rates " + userType.toLowerCase(), () -> gatewayClient.post()
+                .uri("/api/v1/rates")
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of(
+                        "rideId", rideId,
+                        "comment", "Load test",
+                        "rating", 1 + ThreadLocalRandom.current().nextInt(5),
+                        "userId", userId,
+                        "userType", userType))
+                .retrieve()
+                .toBodilessEntity());
+    }
+
+    private static Map<String, Object> route(long passengerId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> route = new HashMap<>();
+        route.put("passengerId", passengerId);
+        route.put("latitudeFrom", LATITUDE + (random.nextDouble() - 0.5) * SPREAD);
+        route.put("longitudeFrom", LONGITUDE + (random.nextDouble() - 0.5) * SPREAD);
+        route.put("latitudeTo", LATITUDE + (random.nextDouble() - 0.5) * SPREAD);
+        route.put("longitudeTo", LONGITUDE + (random.nextDouble() - 0.5) * SPREAD);
+        return route;
+    }
+
+    private String email(String role, int user, long iteration) {
+        return "%s-%s-%d-%d@load.test".formatted(role.toLowerCase(), runId, user, iteration);
+    }
+
+    private static String carNumber() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return "" + letter(random) + letter(random) + (100 + random.nextInt(900)) + letter(random) + letter(random);
+    }
+
+    private static char letter(ThreadLocalRandom random) {
+        return (char) ('A' + random.nextInt(26));
+    }
+
+    private static String bearer(String token) {
+        return "Bearer " + token;
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.loadtest.scenario;
+
+public record RideResponse(
+        long id,
+        String driverRideStatus,
+        String passengerRideStatus
+) {
+}
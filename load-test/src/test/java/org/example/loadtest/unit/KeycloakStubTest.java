@@ -0,0 +1,82 @@
+package org.example.loadtest.unit;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.SignedJWT;
+import org.example.loadtest.keycloak.KeycloakStub;
+import org.example.loadtest.keycloak.TokenIssuer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeycloakStubTest {
+    private static final String ISSUER = "http://keycloak-stub:8080/realms/taxi_realm";
+    private static final String REALM_PATH = "/realms/taxi_realm/protocol/openid-connect";
+
+    private final WireMockServer server = new WireMockServer(options().dynamicPort());
+    private final TokenIssuer tokenIssuer = new TokenIssuer(ISSUER, Duration.ofMinutes(5));
+    private RestClient client;
+    private KeycloakStub keycloakStub;
+
+    @BeforeEach
+    void setUp() {
+        server.start();
+        client = RestClient.create(server.baseUrl());
+        keycloakStub = new KeycloakStub(client, tokenIssuer, "taxi_realm");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void install_whenInstalled_thenCertsVerifyIssuedTokens() throws Exception {
+        keycloakStub.install();
+
+        String certs = client.get().uri(REALM_PATH + "/certs").retrieve().body(String.class);
+        RSAKey key = JWKSet.parse(certs).getKeys().get(0).toRSAKey();
+        SignedJWT token = SignedJWT.parse(tokenIssuer.issueUserToken("driver@load.test", "DRIVER"));
+
+        assertThat(token.verify(new RSASSAVerifier(key))).isTrue();
+        assertThat(token.getJWTClaimsSet().getIssuer()).isEqualTo(ISSUER);
+        assertThat(token.getJWTClaimsSet().getStringClaim("email")).isEqualTo("driver@load.test");
+        assertThat(token.getJWTClaimsSet().getJSONObjectClaim("realm_access"))
+                .containsEntry("roles", List.of("DRIVER"));
+    }
+
+    @Test
+    void install_whenClientCredentialsRequested_thenReturnsAdminToken() throws Exception {
+        keycloakStub.install();
+
+        Map<?, ?> response = client.post()
+                .uri(REALM_PATH + "/token")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body("grant_type=client_credentials&client_id=admin-cli&client_secret=secret")
+                .retrieve()
+                .body(Map.class);
+
+        SignedJWT token = SignedJWT.parse((String) response.get("access_token"));
+        assertThat(response.get("token_type")).isEqualTo("Bearer");
+        assertThat(token.getJWTClaimsSet().getStringClaim("azp")).isEqualTo(TokenIssuer.ADMIN_CLIENT);
+    }
+
+    @Test
+    void install_whenInstalledTwice_thenReplacesMappings() {
+        keycloakStub.install();
+        keycloakStub.install();
+
+        assertThat(server.getStubMappings()).hasSize(2);
+    }
+}
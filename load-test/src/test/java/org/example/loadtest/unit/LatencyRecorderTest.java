@@ -0,0 +1,123 @@
+package org.example.loadtest.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.loadtest.report.EndpointReport;
+import org.example.loadtest.report.LatencyRecorder;
+import org.example.loadtest.report.LoadReport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyRecorderTest {
+    private static final String ENDPOINT = "POST /rides";
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    @Test
+    void record_whenCallsFail_thenCountsErrorsByStatus() {
+        recorder.record(ENDPOINT, () -> "ride");
+        recorder.record(ENDPOINT, () -> "ride");
+        recorder.record(ENDPOINT, () -> "ride");
+        assertThatThrownBy(() -> recorder.record(ENDPOINT, () -> {
+            throw HttpClientErrorException.create(HttpStatus.CONFLICT, "Conflict", null, null, null);
+        })).isInstanceOf(HttpClientErrorException.class);
+        assertThatThrownBy(() -> recorder.record(ENDPOINT, () -> {
+            throw new IllegalStateException("Connection refused");
+        })).isInstanceOf(IllegalStateException.class);
+
+        LoadReport report = recorder.report(Instant.now(), Duration.ofSeconds(1), 1);
+
+        assertThat(report.endpoints())
+                .singleElement()
+                .satisfies(endpoint -> {
+                    assertThat(endpoint.requests()).isEqualTo(5);
+                    assertThat(endpoint.errors()).isEqualTo(2);
+                    assertThat(endpoint.errorRate()).isCloseTo(0.4, within(1e-9));
+                    assertThat(endpoint.throughput()).isCloseTo(5, within(1e-9));
+                    assertThat(endpoint.errorsByStatus()).containsExactlyInAnyOrderEntriesOf(Map.of("0", 1L, "409", 1L));
+                });
+    }
+
+    @Test
+    void record_whenCallsSucceed_thenReportsPercentilesInMillis() {
+        for (int i = 0; i < 10; i++) {
+            recorder.record(ENDPOINT, () -> {
+                sleep(Duration.ofMillis(5));
+                return null;
+            });
+        }
+
+        EndpointReport endpoint = recorder.report(Instant.now(), Duration.ofSeconds(1), 1).endpoints().get(0);
+
+        assertThat(endpoint.p50()).isGreaterThanOrEqualTo(5).isLessThanOrEqualTo(endpoint.p99());
+        assertThat(endpoint.p99()).isLessThanOrEqualTo(endpoint.max());
+        assertThat(endpoint.errorRate()).isZero();
+    }
+
+    @Test
+    void toTable_whenBaselineGiven_thenComparesP99() {
+        LoadReport baseline = report(endpoint(ENDPOINT, 100));
+        LoadReport current = report(endpoint(ENDPOINT, 150), endpoint("POST /rates passenger", 10));
+
+        String table = current.toTable(baseline);
+
+        assertThat(table.lines())
+                .anySatisfy(line -> assertThat(line).startsWith(ENDPOINT).endsWith("+50.0%"))
+                .anySatisfy(line -> assertThat(line).startsWith("POST /rates passenger").doesNotContain("%+"));
+    }
+
+    @Test
+    void loadReport_whenWrittenAsJson_thenReadsBackAsBaseline() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        LoadReport report = report(endpoint(ENDPOINT, 100));
+
+        LoadReport read = objectMapper.readValue(objectMapper.writeValueAsString(report), LoadReport.class);
+
+        assertThat(read).isEqualTo(report);
+    }
+
+    private static LoadReport report(EndpointReport... endpoints) {
+        return LoadReport.builder()
+                .startedAt(Instant.parse("2024-10-01T10:00:00Z"))
+                .duration(Duration.ofMinutes(2))
+                .users(20)
+                .scenarios(100)
+                .endpoints(List.of(endpoints))
+                .build();
+    }
+
+    private static EndpointReport endpoint(String name, double p99) {
+        return EndpointReport.builder()
+                .endpoint(name)
+                .requests(1000)
+                .errors(10)
+                .errorRate(0.01)
+                .throughput(8.3)
+                .p50(p99 / 4)
+                .p90(p99 / 2)
+                .p99(p99)
+                .max(p99 * 2)
+                .errorsByStatus(Map.of("409", 10L))
+                .build();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.nearcachestarter.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Probabilistic early expiration (XFetch). An entry is refreshed before it expires with a probability
+ * that grows as expiry approaches and with the time it took to load, so refreshes of a hot key are
+ * spread out instead of all callers missing at the moment of expiry.
+ */
+public class EarlyRefreshPolicy {
+    private final double beta;
+
+    public EarlyRefreshPolicy(double beta) {
+        if (beta < 0) {
+            throw new IllegalArgumentException("Beta must not be negative");
+        }
+        this.beta = beta;
+    }
+
+    public boolean shouldRefresh(long nowNanos, long loadNanos, long expiresAtNanos) {
+        double gap = loadNanos * beta * -Math.log(1 - ThreadLocalRandom.current().nextDouble());
+        return nowNanos + gap >= expiresAtNanos;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.nearcachestarter.cache;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool for the early refreshes of {@link StampedeProtectedCache}. A full queue rejects the
+ * refresh instead of blocking the caller. It doesn't implement {@link java.util.concurrent.Executor},
+ * so that its bean doesn't take the place of the application task executor.
+ */
+public class RefreshExecutor {
+    private final ThreadPoolExecutor executor;
+
+    public RefreshExecutor(int threads, int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("near-cache-refresh-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @throws RejectedExecutionException when the queue is full or the pool is shut down
+     */
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Drops the queued refreshes, they are an optimization and are not worth waiting for.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.nearcachestarter.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Cache decorator against load stampedes. Concurrent misses of one key share a single load and
+ * entries loaded here are refreshed in the background shortly before their remote TTL runs out.
+ * Only {@link #get(Object, Callable)} loads, so it applies to {@code @Cacheable(sync = true)}.
+ */
+@Slf4j
+public class StampedeProtectedCache implements Cache {
+    private static final String LOADS_METRIC = "cache.stampede.loads";
+
+    private final Cache delegate;
+    private final SingleFlight<Object> singleFlight = new SingleFlight<>();
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final com.github.benmanes.caffeine.cache.Cache<Object, LoadStamp> stamps;
+    private final EarlyRefreshPolicy policy;
+    private final Executor refreshExecutor;
+    private final long timeToLiveNanos;
+    private final Counter missLoads;
+    private final Counter refreshLoads;
+    private final Counter coalesced;
+
+    public StampedeProtectedCache(Cache delegate,
+                                  Duration timeToLive,
+                                  long maximumSize,
+                                  EarlyRefreshPolicy policy,
+                                  Executor refreshExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.refreshExecutor = refreshExecutor;
+        this.timeToLiveNanos = timeToLive != null ? timeToLive.toNanos() : 0;
+        this.stamps = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive != null ? timeToLive : Duration.ofDays(1))
+                .build();
+        this.missLoads = counter(meterRegistry, delegate.getName(), "miss");
+        this.refreshLoads = counter(meterRegistry, delegate.getName(), "early-refresh");
+        this.coalesced = Counter.builder("cache.stampede.coalesced")
+                .tag("cache", delegate.getName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            refreshEarly(key, valueLoader);
+            return (T) wrapper.get();
+        }
+
+        if (singleFlight.isInFlight(key)) {
+            coalesced.increment();
+        }
+        try {
+            return singleFlight.load(key, () -> {
+                ValueWrapper loaded = delegate.get(key);
+                if (loaded != null) {
+                    return (T) loaded.get();
+                }
+                missLoads.increment();
+                return load(key, valueLoader);
+            });
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        LoadStamp stamp = stamps.getIfPresent(key);
+        if (stamp != null) {
+            long now = System.nanoTime();
+            stamps.put(key, new LoadStamp(stamp.loadNanos(), now + timeToLiveNanos));
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        stamps.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        stamps.invalidateAll();
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) throws Exception {
+        long start = System.nanoTime();
+        T value = valueLoader.call();
+        long end = System.nanoTime();
+        if (delegate instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.putLoaded(key, value);
+        } else {
+            delegate.put(key, value);
+        }
+        if (timeToLiveNanos > 0) {
+            stamps.put(key, new LoadStamp(end - start, end + timeToLiveNanos));
+        }
+        return value;
+    }
+
+    private void refreshEarly(Object key, Callable<?> valueLoader) {
+        LoadStamp stamp = stamps.getIfPresent(key);
+        if (stamp == null || !policy.shouldRefresh(System.nanoTime(), stamp.loadNanos(), stamp.expiresAtNanos())
+                || !refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshLoads.increment();
+                    singleFlight.load(key, () -> load(key, valueLoader));
+                } catch (Exception e) {
+                    log.warn("Failed to refresh {} in cache {}", key, getName(), e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String cache, String reason) {
+        return Counter.builder(LOADS_METRIC)
+                .tag("cache", cache)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private record LoadStamp(long loadNanos, long expiresAtNanos) {
+    }
+}
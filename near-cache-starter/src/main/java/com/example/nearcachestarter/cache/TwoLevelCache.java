@@ -0,0 +1,140 @@
+package com.example.nearcachestarter.cache;
+
+import com.example.nearcachestarter.invalidation.CacheInvalidationPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache with an in-process Caffeine tier in front of a shared remote tier. Reads are served locally
+ * when possible, writes go to both tiers and evict the local tier of other instances, loads only fill
+ * the tiers of this instance.
+ */
+public class TwoLevelCache implements Cache {
+    private static final String GETS_METRIC = "cache.near.gets";
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> local;
+    private final CacheInvalidationPublisher publisher;
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public TwoLevelCache(String name,
+                         Cache remote,
+                         com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> local,
+                         CacheInvalidationPublisher publisher,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.publisher = publisher;
+        this.localHits = counter(meterRegistry, name, "l1", "hit");
+        this.localMisses = counter(meterRegistry, name, "l1", "miss");
+        this.remoteHits = counter(meterRegistry, name, "l2", "hit");
+        this.remoteMisses = counter(meterRegistry, name, "l2", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        localMisses.increment();
+
+        value = remote.get(key);
+        if (value == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        local.put(key, value);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value = remote.get(key, valueLoader);
+        local.put(key, new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(key, new SimpleValueWrapper(value));
+        publisher.publish(name, key);
+    }
+
+    /**
+     * Stores a value that was just loaded from the source of truth. Other instances still hold the
+     * same value or nothing at all, so unlike {@link #put(Object, Object)} nothing is published.
+     */
+    public void putLoaded(Object key, Object value) {
+        remote.put(key, value);
+        local.put(key, new SimpleValueWrapper(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(key);
+        publisher.publish(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        publisher.publish(name, null);
+    }
+
+    void evictLocal(Object key) {
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String cache, String tier, String result) {
+        return Counter.builder(GETS_METRIC)
+                .tag("cache", cache)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
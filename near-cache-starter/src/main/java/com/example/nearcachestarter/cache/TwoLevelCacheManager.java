@@ -0,0 +1,72 @@
+package com.example.nearcachestarter.cache;
+
+import com.example.nearcachestarter.config.NearCacheProperties;
+import com.example.nearcachestarter.invalidation.CacheInvalidationPublisher;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+@RequiredArgsConstructor
+public class TwoLevelCacheManager implements CacheManager {
+    private final CacheManager remote;
+    private final Duration remoteTimeToLive;
+    private final CacheInvalidationPublisher publisher;
+    private final NearCacheProperties properties;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, TwoLevelCache> localCaches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> decorate(localCaches.computeIfAbsent(key,
+                cacheName -> new TwoLevelCache(cacheName, remoteCache, Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfterWrite(properties.getTimeToLive())
+                        .build(), publisher, meterRegistry))));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    public void evictLocal(String name, Object key) {
+        TwoLevelCache cache = localCaches.get(name);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    public void clearLocal(String name) {
+        TwoLevelCache cache = localCaches.get(name);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+    }
+
+    private Cache decorate(TwoLevelCache cache) {
+        NearCacheProperties.Stampede stampede = properties.getStampede();
+        if (!stampede.getCacheNames().contains(cache.getName())) {
+            return cache;
+        }
+        return new StampedeProtectedCache(cache, remoteTimeToLive, properties.getMaximumSize(),
+                new EarlyRefreshPolicy(stampede.getBeta()), refreshExecutor, meterRegistry);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.nearcachestarter.config;
+
+import com.example.nearcachestarter.cache.RefreshExecutor;
+import com.example.nearcachestarter.cache.TwoLevelCacheManager;
+import com.example.nearcachestarter.invalidation.CacheInvalidation;
+import com.example.nearcachestarter.invalidation.CacheInvalidationListener;
+import com.example.nearcachestarter.invalidation.CacheInvalidationPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.LinkedHashSet;
+
+@AutoConfiguration(after = RedisAutoConfiguration.class, before = CacheAutoConfiguration.class)
+@ConditionalOnBean(RedisConnectionFactory.class)
+@ConditionalOnProperty(prefix = "near-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties({NearCacheProperties.class, CacheProperties.class})
+public class NearCacheAutoConfiguration {
+
+    @Bean
+    public RedisTemplate<String, CacheInvalidation> cacheInvalidationRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, CacheInvalidation> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(StringRedisSerializer.UTF_8);
+        template.setValueSerializer(RedisSerializer.java());
+        return template;
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(
+            RedisTemplate<String, CacheInvalidation> cacheInvalidationRedisTemplate,
+            NearCacheProperties properties) {
+        return new CacheInvalidationPublisher(cacheInvalidationRedisTemplate, properties.getInvalidationChannel());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public RefreshExecutor nearCacheRefreshExecutor(NearCacheProperties properties) {
+        NearCacheProperties.Stampede stampede = properties.getStampede();
+        return new RefreshExecutor(stampede.getRefreshThreads(), stampede.getRefreshQueueCapacity());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(CacheManager.class)
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             CacheProperties cacheProperties,
+                                             ObjectProvider<RedisCacheConfiguration> redisCacheConfiguration,
+                                             ObjectProvider<RedisCacheManagerBuilderCustomizer> customizers,
+                                             CacheInvalidationPublisher publisher,
+                                             NearCacheProperties properties,
+                                             RefreshExecutor nearCacheRefreshExecutor,
+                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TwoLevelCacheManager(redisCacheManager(redisConnectionFactory, cacheProperties,
+                redisCacheConfiguration.getIfAvailable(() -> defaultCacheConfiguration(cacheProperties)), customizers),
+                cacheProperties.getRedis().getTimeToLive(), publisher, properties, nearCacheRefreshExecutor::execute,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    @ConditionalOnBean(TwoLevelCacheManager.class)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            TwoLevelCacheManager cacheManager,
+            CacheInvalidationPublisher publisher,
+            NearCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(new CacheInvalidationListener(cacheManager, publisher, RedisSerializer.java()),
+                new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                                CacheProperties cacheProperties,
+                                                RedisCacheConfiguration configuration,
+                                                ObjectProvider<RedisCacheManagerBuilderCustomizer> customizers) {
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(redisConnectionFactory)
+                .cacheDefaults(configuration);
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            builder.initialCacheNames(new LinkedHashSet<>(cacheProperties.getCacheNames()));
+        }
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        RedisCacheManager cacheManager = builder.build();
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
+    }
+
+    private RedisCacheConfiguration defaultCacheConfiguration(CacheProperties cacheProperties) {
+        CacheProperties.Redis redis = cacheProperties.getRedis();
+        RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig();
+        if (redis.getTimeToLive() != null) {
+            configuration = configuration.entryTtl(redis.getTimeToLive());
+        }
+        if (redis.getKeyPrefix() != null) {
+            configuration = configuration.prefixCacheNameWith(redis.getKeyPrefix());
+        }
+        if (!redis.isCacheNullValues()) {
+            configuration = configuration.disableCachingNullValues();
+        }
+        if (!redis.isUseKeyPrefix()) {
+            configuration = configuration.disableKeyPrefix();
+        }
+        return configuration;
+    }
+}
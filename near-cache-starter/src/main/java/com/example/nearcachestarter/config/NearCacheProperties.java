@@ -0,0 +1,29 @@
+package com.example.nearcachestarter.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "near-cache")
+public class NearCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration timeToLive = Duration.ofSeconds(30);
+    private String invalidationChannel = "near-cache:invalidation";
+    private Stampede stampede = new Stampede();
+
+    @Getter
+    @Setter
+    public static class Stampede {
+        private Set<String> cacheNames = new HashSet<>();
+        private double beta = 1.0;
+        private int refreshThreads = 2;
+        private int refreshQueueCapacity = 256;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.nearcachestarter.invalidation;
+
+import java.io.Serializable;
+
+public record CacheInvalidation(
+        String origin,
+        String cacheName,
+        Object key
+) implements Serializable {
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.nearcachestarter.invalidation;
+
+import com.example.nearcachestarter.cache.TwoLevelCacheManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheInvalidationPublisher publisher;
+    private final RedisSerializer<?> serializer;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!(serializer.deserialize(message.getBody()) instanceof CacheInvalidation invalidation)
+                || publisher.getOrigin().equals(invalidation.origin())) {
+            return;
+        }
+        if (invalidation.isClear()) {
+            cacheManager.clearLocal(invalidation.cacheName());
+        } else {
+            cacheManager.evictLocal(invalidation.cacheName(), invalidation.key());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.nearcachestarter.invalidation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.UUID;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+    @Getter
+    private final String origin = UUID.randomUUID().toString();
+    private final RedisTemplate<String, CacheInvalidation> redisTemplate;
+    private final String channel;
+
+    public void publish(String cacheName, Object key) {
+        try {
+            redisTemplate.convertAndSend(channel, new CacheInvalidation(origin, cacheName, key));
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish invalidation of {} in cache {}", key, cacheName, e);
+        }
+    }
+}
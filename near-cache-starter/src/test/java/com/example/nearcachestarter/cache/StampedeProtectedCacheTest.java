@@ -0,0 +1,131 @@
+package com.example.nearcachestarter.cache;
+
+import com.example.nearcachestarter.invalidation.CacheInvalidationPublisher;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class StampedeProtectedCacheTest {
+    private static final int CALLERS = 64;
+
+    @Test
+    void get_whenConcurrentMisses_thenLoadsOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        StampedeProtectedCache cache = cache(Duration.ofMinutes(1), 0);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(() -> {
+                start.await();
+                return cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    Thread.sleep(100);
+                    return "driver";
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("driver");
+        }
+        callers.shutdown();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_whenLoaderFails_thenThrowsValueRetrievalException() {
+        StampedeProtectedCache cache = cache(Duration.ofMinutes(1), 0);
+
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+            throw new IllegalStateException("not found");
+        }))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    void get_whenEntryCloseToExpiry_thenRefreshesEarly() {
+        AtomicInteger loads = new AtomicInteger();
+        StampedeProtectedCache cache = cache(Duration.ofMinutes(1), 1e9);
+
+        cache.get(1L, () -> {
+            Thread.sleep(5);
+            return "v" + loads.incrementAndGet();
+        });
+        Object cached = cache.get(1L, () -> "v" + loads.incrementAndGet());
+
+        assertThat(cached).isEqualTo("v1");
+        assertThat(loads).hasValue(2);
+        assertThat(cache.get(1L).get()).isEqualTo("v2");
+    }
+
+    @Test
+    void get_whenEntryFarFromExpiry_thenServesCachedValue() {
+        AtomicInteger loads = new AtomicInteger();
+        StampedeProtectedCache cache = cache(Duration.ofHours(1), 1.0);
+
+        cache.get(1L, () -> "v" + loads.incrementAndGet());
+        cache.get(1L, () -> "v" + loads.incrementAndGet());
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_whenMissOrEarlyRefreshLoads_thenPublishesNoInvalidation() {
+        CacheInvalidationPublisher publisher = mock(CacheInvalidationPublisher.class);
+        StampedeProtectedCache cache = new StampedeProtectedCache(twoLevelCache(publisher), Duration.ofMinutes(1),
+                100, new EarlyRefreshPolicy(1e9), Runnable::run, new SimpleMeterRegistry());
+
+        cache.get(1L, () -> {
+            Thread.sleep(5);
+            return "v1";
+        });
+        cache.get(1L, () -> "v2");
+
+        assertThat(cache.get(1L).get()).isEqualTo("v2");
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void put_whenTwoLevelCache_thenPublishesInvalidation() {
+        CacheInvalidationPublisher publisher = mock(CacheInvalidationPublisher.class);
+        StampedeProtectedCache cache = new StampedeProtectedCache(twoLevelCache(publisher), Duration.ofMinutes(1),
+                100, new EarlyRefreshPolicy(0), Runnable::run, new SimpleMeterRegistry());
+
+        cache.put(1L, "v1");
+
+        verify(publisher).publish("driver", 1L);
+    }
+
+    private static TwoLevelCache twoLevelCache(CacheInvalidationPublisher publisher) {
+        return new TwoLevelCache("driver", new ConcurrentMapCache("driver"), Caffeine.newBuilder().build(),
+                publisher, new SimpleMeterRegistry());
+    }
+
+    private StampedeProtectedCache cache(Duration timeToLive, double beta) {
+        return new StampedeProtectedCache(new ConcurrentMapCache("driver"), timeToLive, 100,
+                new EarlyRefreshPolicy(beta), Runnable::run, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.nearcachestarter.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class NearCacheAutoConfigurationTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(NearCacheAutoConfiguration.class))
+            .withBean(RedisConnectionFactory.class, () -> mock(RedisConnectionFactory.class));
+
+    @Test
+    void context_whenApplicationDefinesCacheManager_thenBacksOffWithoutInvalidationListener() {
+        contextRunner
+                .withBean(CacheManager.class, ConcurrentMapCacheManager::new)
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).getBean(CacheManager.class).isInstanceOf(ConcurrentMapCacheManager.class);
+                    assertThat(context).doesNotHaveBean(RedisMessageListenerContainer.class);
+                });
+    }
+}
@@ -1,9 +1,18 @@
 package org.example.passenger.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.minio.MinioClient;
+import org.example.passenger.constants.MinioConstants;
+import org.example.passenger.dto.read.MinioAvatar;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 @Configuration
 public class MinioConfig {
@@ -24,4 +33,22 @@ public class MinioConfig {
                 .credentials(accessKey, secretKey)
                 .build();
     }
+
+    /**
+     * Avatars are immutable, an update uploads a new object under a new name, so entries only leave
+     * the cache when it is full, when the avatar is deleted or after {@code time-to-live}, which bounds
+     * how long other instances keep serving a deleted avatar.
+     */
+    @Bean
+    public Cache<String, MinioAvatar> avatarCache(@Value("${minio.avatar-cache.maximum-size}") DataSize maximumSize,
+                                                  @Value("${minio.avatar-cache.time-to-live}") Duration timeToLive,
+                                                  MeterRegistry meterRegistry) {
+        Cache<String, MinioAvatar> cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((String name, MinioAvatar avatar) -> (int) Math.min(avatar.size(), Integer.MAX_VALUE))
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, MinioConstants.AVATAR_CACHE_NAME);
+    }
 }
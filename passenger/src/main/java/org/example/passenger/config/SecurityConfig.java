@@ -28,6 +28,8 @@ public class SecurityConfig {
                                 "/passenger/swagger-ui.html",
                                 "/passenger/webjars/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/passengers").hasRole(ROLE_ADMIN)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/passengers/cursor").hasRole(ROLE_ADMIN)
+                        .requestMatchers(HttpMethod.POST, "/api/v1/passengers/snapshot").hasRole(ROLE_ADMIN)
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
@@ -1,10 +1,13 @@
 package org.example.passenger.config.kafka;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
 import org.example.passenger.constants.KafkaConstants;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Map;
+
 @Configuration
 public class KafkaTopicConfig {
 
@@ -17,4 +20,10 @@ public class KafkaTopicConfig {
     public NewTopic addPassengerRatingTopic() {
         return new NewTopic(KafkaConstants.PASSENGER_RATING_NOTIFICATION_TOPIC, KafkaConstants.NUM_PARTITIONS, KafkaConstants.REPLICATION_FACTOR);
     }
+
+    @Bean
+    public NewTopic addPassengerStateTopic() {
+        return new NewTopic(KafkaConstants.PASSENGER_STATE_TOPIC, KafkaConstants.NUM_PARTITIONS, KafkaConstants.REPLICATION_FACTOR)
+                .configs(Map.of(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT));
+    }
 }
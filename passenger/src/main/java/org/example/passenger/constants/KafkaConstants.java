@@ -8,8 +8,12 @@ public class KafkaConstants {
     public static final String KAFKA_BOOTSTRAP_SERVERS = "localhost:9092";
     public static final String PASSENGER_NOTIFICATION_TOPIC = "passenger-notification-topic";
     public static final String PASSENGER_RATING_NOTIFICATION_TOPIC = "passenger-rating-notification-topic";
+    public static final String PASSENGER_STATE_TOPIC = "passenger-state-topic";
     public static final String GROUP_ID = "passenger-group";
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+    public static final String RATING_BATCH_SIZE_METRIC = "kafka.consumer.rating.batch.size";
     public static final Integer NUM_PARTITIONS = 3;
     public static final Short REPLICATION_FACTOR = 1;
+    public static final Integer SNAPSHOT_PAGE_SIZE = 500;
 
 }
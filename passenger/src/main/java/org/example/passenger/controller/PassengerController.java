@@ -7,15 +7,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import org.example.passenger.dto.create.BatchRequestDto;
 import org.example.passenger.dto.create.PassengerCreateEditDto;
 import org.example.passenger.dto.read.PageResponse;
+import org.example.passenger.dto.read.CursorResponse;
 import org.example.passenger.dto.read.PassengerReadDto;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @Tag(name = "Passenger controller", description = """
         Passenger controller contains endpoints for creating a new passenger, finding, updating and deleting passenger by id,\s
         retrieving list of passengers
@@ -33,6 +38,20 @@ public interface PassengerController {
     PageResponse<PassengerReadDto> findAll(@RequestParam(defaultValue = "0") Integer page,
                                            @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit);
 
+    @Operation(summary = "Find all passengers by cursor",
+            description = """
+                    Retrieves passengers ordered by id, starting after the given cursor. The response contains\s
+                    an opaque **next** cursor for the following page, it is null when there are no more passengers
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Passengers retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Validation error or invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    CursorResponse<PassengerReadDto> findAllByCursor(@RequestParam(name = "cursor", required = false) String cursor,
+                                                     @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit);
+
     @Operation(summary = "Find passenger by ID",
             description = "Retrieves data of passenger by ID")
     @ApiResponses(value = {
@@ -43,6 +62,35 @@ public interface PassengerController {
     })
     PassengerReadDto findById(@PathVariable("id") Long id);
 
+    @Operation(summary = "Find passengers by IDs",
+            description = """
+                    Retrieves data of up to 100 passengers in one call. Ids of missing or deleted passengers\s
+                    are skipped, so the response may contain fewer passengers than requested
+                    Example:
+                    {
+                        "ids": [1, 2, 3]
+                    }
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Passengers retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Validation error"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    List<PassengerReadDto> findByIds(@RequestBody @Valid BatchRequestDto dto);
+
+    @Operation(summary = "Publish passengers snapshot",
+            description = """
+                    Publishes the state of every passenger, including deleted ones, to the compacted passenger state topic.\s
+                    Used to seed read-model replicas of other services
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Snapshot was published"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    void publishSnapshot();
+
     @Operation(summary = "Create a new passenger",
             description = """
                     Required fields for creating a new passenger:\s
@@ -6,8 +6,10 @@ import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.example.passenger.annotation.ValidateAccess;
 import org.example.passenger.controller.PassengerController;
+import org.example.passenger.dto.create.BatchRequestDto;
 import org.example.passenger.dto.create.PassengerCreateEditDto;
 import org.example.passenger.dto.read.PageResponse;
+import org.example.passenger.dto.read.CursorResponse;
 import org.example.passenger.dto.read.PassengerReadDto;
 import org.example.passenger.service.PassengerService;
 import org.springframework.http.HttpStatus;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -27,6 +30,8 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/passengers")
 @RequiredArgsConstructor
@@ -40,11 +45,28 @@ public class PassengerControllerImpl implements PassengerController {
         return PageResponse.of(passengerService.findAll(page, limit));
     }
 
+    @GetMapping("/cursor")
+    public CursorResponse<PassengerReadDto> findAllByCursor(@RequestParam(name = "cursor", required = false) String cursor,
+                                                            @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit) {
+        return passengerService.findAllByCursor(cursor, limit);
+    }
+
     @GetMapping("/{id}")
     public PassengerReadDto findById(@PathVariable("id") Long id) {
         return passengerService.findById(id);
     }
 
+    @PostMapping("/batch")
+    public List<PassengerReadDto> findByIds(@RequestBody @Valid BatchRequestDto dto) {
+        return passengerService.findByIds(dto.ids());
+    }
+
+    @PostMapping("/snapshot")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void publishSnapshot() {
+        passengerService.publishSnapshot();
+    }
+
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @ResponseStatus(HttpStatus.CREATED)
     public PassengerReadDto create(@RequestPart @Valid PassengerCreateEditDto dto,
@@ -0,0 +1,10 @@
+package org.example.passenger.dto.read;
+
+import lombok.Builder;
+
+@Builder
+public record PassengerStateDto(
+        long id,
+        boolean deleted
+) {
+}
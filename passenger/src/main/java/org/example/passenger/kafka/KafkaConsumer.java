@@ -1,5 +1,6 @@
 package org.example.passenger.kafka;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.example.passenger.constants.KafkaConstants;
 import org.example.passenger.dto.read.RideReadDto;
@@ -8,18 +9,23 @@ import org.example.passenger.service.PassengerService;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class KafkaConsumer {
     private final PassengerService passengerService;
+    private final MeterRegistry meterRegistry;
 
     @KafkaListener(topics = KafkaConstants.PASSENGER_NOTIFICATION_TOPIC)
     public void consumeNotification(RideReadDto rideReadDto) {
         passengerService.notifyPassenger(rideReadDto);
     }
 
-    @KafkaListener(topics = KafkaConstants.PASSENGER_RATING_NOTIFICATION_TOPIC)
-    public void consumeRatingNotification(UserRateDto userRateDto) {
-        passengerService.updateRating(userRateDto);
+    @KafkaListener(topics = KafkaConstants.PASSENGER_RATING_NOTIFICATION_TOPIC,
+            containerFactory = KafkaConstants.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void consumeRatingNotifications(List<UserRateDto> userRateDtos) {
+        meterRegistry.summary(KafkaConstants.RATING_BATCH_SIZE_METRIC).record(userRateDtos.size());
+        passengerService.updateRatings(userRateDtos);
     }
 }
@@ -0,0 +1,39 @@
+package org.example.passenger.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.passenger.constants.KafkaConstants;
+import org.example.passenger.dto.read.PassengerStateDto;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaProducer {
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    public void publishState(PassengerStateDto state) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendState(state);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sendState(state);
+            }
+        });
+    }
+
+    private void sendState(PassengerStateDto state) {
+        kafkaTemplate.send(KafkaConstants.PASSENGER_STATE_TOPIC, String.valueOf(state.id()), state)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error(ex.getMessage());
+                    }
+                });
+    }
+}
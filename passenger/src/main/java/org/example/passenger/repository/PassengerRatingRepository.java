@@ -0,0 +1,30 @@
+package org.example.passenger.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class PassengerRatingRepository {
+    private static final String UPDATE_RATINGS = """
+            UPDATE passengers p
+            SET rating = r.rating,
+                modified_at = now()
+            FROM unnest(?::bigint[], ?::float8[]) AS r(id, rating)
+            WHERE p.id = r.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int updateRatings(Map<Long, Double> ratings) {
+        Long[] ids = ratings.keySet().toArray(Long[]::new);
+        Double[] values = ratings.values().toArray(Double[]::new);
+        return jdbcTemplate.update(UPDATE_RATINGS, statement -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("bigint", ids));
+            statement.setArray(2, statement.getConnection().createArrayOf("float8", values));
+        });
+    }
+}
@@ -1,11 +1,14 @@
 package org.example.passenger.repository;
 
 import org.example.passenger.entity.Passenger;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,7 +16,13 @@ public interface PassengerRepository extends JpaRepository<Passenger,Long> {
 
     Page<Passenger> findByIsDeletedFalse(Pageable pageable);
 
+    List<Passenger> findByIsDeletedFalseAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<Passenger> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
     Optional<Passenger> findByIdAndIsDeletedFalse(Long id);
 
+    List<Passenger> findByIdInAndIsDeletedFalse(Collection<Long> ids);
+
     Optional<Passenger> findByEmailAndIsDeletedFalse(String email);
 }
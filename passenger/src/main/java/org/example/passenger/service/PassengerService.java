@@ -2,29 +2,45 @@ package org.example.passenger.service;
 
 import com.example.exceptionhandlerstarter.exception.passenger.DuplicatedPassengerEmailException;
 import com.example.exceptionhandlerstarter.exception.passenger.PassengerNotFoundException;
+import com.example.exceptionhandlerstarter.exception.param.InvalidCursorException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.passenger.constants.CommonConstants;
 import org.example.passenger.constants.ExceptionConstants;
+import org.example.passenger.constants.KafkaConstants;
 import org.example.passenger.dto.create.PassengerCreateEditDto;
+import org.example.passenger.dto.read.CursorResponse;
 import org.example.passenger.dto.read.PassengerReadDto;
+import org.example.passenger.dto.read.PassengerStateDto;
 import org.example.passenger.dto.read.RideReadDto;
 import org.example.passenger.dto.read.UserRateDto;
 import org.example.passenger.entity.Passenger;
+import org.example.passenger.kafka.KafkaProducer;
 import org.example.passenger.mapper.PassengerMapper;
+import org.example.passenger.repository.PassengerRatingRepository;
 import org.example.passenger.repository.PassengerRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.example.passenger.constants.RedisConstants.PASSENGER_CACHE_VALUE;
 
 @Service
@@ -35,6 +51,18 @@ public class PassengerService {
     private final PassengerMapper passengerMapper;
     private final MessageSource messageSource;
     private final ImageStorageService imageStorageService;
+    private final PassengerRatingRepository passengerRatingRepository;
+    private final CacheManager cacheManager;
+    private final KafkaProducer kafkaProducer;
+
+    public CursorResponse<PassengerReadDto> findAllByCursor(String cursor, Integer limit) {
+        long afterId = decodeCursor(cursor);
+        List<PassengerReadDto> passengers = passengerRepository.findByIsDeletedFalseAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit + 1))
+                .stream()
+                .map(passengerMapper::toReadDto)
+                .toList();
+        return CursorResponse.of(passengers, limit, PassengerReadDto::id);
+    }
 
     public Page<PassengerReadDto> findAll(Integer page, Integer limit) {
         Pageable request = PageRequest.of(page, limit);
@@ -50,7 +78,7 @@ public class PassengerService {
                 .map(passengerMapper::toReadDto);
     }
 
-    @Cacheable(value = PASSENGER_CACHE_VALUE, key = "#id")
+    @Cacheable(value = PASSENGER_CACHE_VALUE, key = "#id", sync = true)
     public PassengerReadDto findById(Long id) {
         return passengerRepository.findByIdAndIsDeletedFalse(id)
                 .map(passengerMapper::toReadDto)
@@ -60,6 +88,13 @@ public class PassengerService {
                         LocaleContextHolder.getLocale())));
     }
 
+    public List<PassengerReadDto> findByIds(List<Long> ids) {
+        return passengerRepository.findByIdInAndIsDeletedFalse(ids)
+                .stream()
+                .map(passengerMapper::toReadDto)
+                .toList();
+    }
+
     @Transactional
     @CachePut(value = PASSENGER_CACHE_VALUE, key = "#result.id()")
     public PassengerReadDto create(PassengerCreateEditDto passengerDto, MultipartFile multipartFile) {
@@ -79,7 +114,9 @@ public class PassengerService {
             passenger.setImageUrl(imageUrl);
         }
 
-        return passengerMapper.toReadDto(passengerRepository.save(passenger));
+        Passenger saved = passengerRepository.save(passenger);
+        kafkaProducer.publishState(toState(saved));
+        return passengerMapper.toReadDto(saved);
     }
 
     @Transactional
@@ -102,7 +139,10 @@ public class PassengerService {
                     return passenger;
                 })
                 .map(passengerRepository::save)
-                .map(passengerMapper::toReadDto)
+                .map(passenger -> {
+                    kafkaProducer.publishState(toState(passenger));
+                    return passengerMapper.toReadDto(passenger);
+                })
                 .orElseThrow(() -> new PassengerNotFoundException(messageSource.getMessage(
                         ExceptionConstants.PASSENGER_NOT_FOUND_MESSAGE,
                         new Object[]{id},
@@ -116,6 +156,7 @@ public class PassengerService {
                         .map(passenger -> {
                             passenger.setDeleted(true);
                             passengerRepository.save(passenger);
+                            kafkaProducer.publishState(toState(passenger));
                             return passenger;
                         })
                         .orElseThrow(() -> new PassengerNotFoundException(messageSource.getMessage(
@@ -124,15 +165,68 @@ public class PassengerService {
                                 LocaleContextHolder.getLocale())));
     }
 
+    public void publishSnapshot() {
+        long afterId = 0L;
+        List<Passenger> passengers;
+        do {
+            passengers = passengerRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(KafkaConstants.SNAPSHOT_PAGE_SIZE));
+            passengers.forEach(passenger -> kafkaProducer.publishState(toState(passenger)));
+            if (!passengers.isEmpty()) {
+                afterId = passengers.get(passengers.size() - 1).getId();
+            }
+        } while (passengers.size() == KafkaConstants.SNAPSHOT_PAGE_SIZE);
+    }
+
     public void notifyPassenger(RideReadDto rideReadDto) {
         log.info(rideReadDto.toString());
     }
 
     @Transactional
-    public void updateRating(UserRateDto userRateDto) {
-        Passenger passenger = passengerRepository.findById(userRateDto.userId()).get();
-        passenger.setRating(userRateDto.averageRate());
-        log.info("Update rating to {}, passenger id {}", userRateDto.averageRate(), userRateDto.userId());
-        passengerRepository.save(passenger);
+    public void updateRatings(List<UserRateDto> userRateDtos) {
+        Map<Long, Double> ratings = new LinkedHashMap<>();
+        userRateDtos.forEach(rate -> ratings.put(rate.userId(), rate.averageRate()));
+
+        int updated = passengerRatingRepository.updateRatings(ratings);
+        log.info("Updated ratings of {} passengers from {} notifications", updated, userRateDtos.size());
+
+        evictAfterCommit(ratings.keySet());
+    }
+
+    /**
+     * Evicting before the commit would let a concurrent read cache the old rating again until the TTL.
+     */
+    private void evictAfterCommit(Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(PASSENGER_CACHE_VALUE);
+        if (cache == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(cache::evict);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(cache::evict);
+            }
+        });
+    }
+
+    private PassengerStateDto toState(Passenger passenger) {
+        return new PassengerStateDto(passenger.getId(), passenger.isDeleted());
+    }
+
+    private long decodeCursor(String cursor) {
+        if (cursor == null) {
+            return 0L;
+        }
+        try {
+            return CursorResponse.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(messageSource.getMessage(
+                    ExceptionConstants.INVALID_CURSOR_MESSAGE,
+                    new Object[]{cursor},
+                    LocaleContextHolder.getLocale()));
+        }
     }
 }
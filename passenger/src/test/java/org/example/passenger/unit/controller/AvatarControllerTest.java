@@ -0,0 +1,99 @@
+package org.example.passenger.unit.controller;
+
+import com.example.exceptionhandlerstarter.config.HandlerConfiguration;
+import org.example.passenger.config.MessageSourceConfig;
+import org.example.passenger.controller.AvatarController;
+import org.example.passenger.dto.read.MinioAvatar;
+import org.example.passenger.service.AvatarService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AvatarController.class)
+@Import({MessageSourceConfig.class, HandlerConfiguration.class})
+@WithMockUser
+class AvatarControllerTest {
+    private static final String URL = "/api/v1/passengers/avatars/{name}";
+    private static final String NAME = "20250101120000-avatar.png";
+    private static final String ETAG = "d41d8cd98f00b204e9800998ecf8427e";
+    private static final byte[] CONTENT = {1, 2, 3, 4, 5, 6, 7, 8};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AvatarService avatarService;
+
+    @BeforeEach
+    void setUp() {
+        when(avatarService.getAvatar(NAME, null)).thenReturn(
+                new MinioAvatar(new ByteArrayResource(CONTENT), MediaType.IMAGE_PNG, ETAG, CONTENT.length));
+    }
+
+    @Test
+    void getAvatar_whenRequested_thenReturnAvatarWithCachingHeaders() throws Exception {
+        mockMvc.perform(get(URL, NAME))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + ETAG + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, private"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void getAvatar_whenETagMatches_thenReturn304() throws Exception {
+        mockMvc.perform(get(URL, NAME)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + ETAG + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void getAvatar_whenRangeRequested_thenReturn206() throws Exception {
+        mockMvc.perform(get(URL, NAME)
+                        .header(HttpHeaders.RANGE, "bytes=2-4"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-4/8"))
+                .andExpect(content().bytes(new byte[]{3, 4, 5}));
+    }
+
+    @Test
+    void getAvatar_whenRangeIsNotSatisfiable_thenReturn416() throws Exception {
+        mockMvc.perform(get(URL, NAME)
+                        .header(HttpHeaders.RANGE, "bytes=100-200"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+    }
+
+    @Test
+    void getAvatar_whenSizeRequested_thenPassSizeToService() throws Exception {
+        when(avatarService.getAvatar(NAME, 64)).thenReturn(
+                new MinioAvatar(new ByteArrayResource(CONTENT), MediaType.IMAGE_JPEG, ETAG, CONTENT.length));
+
+        mockMvc.perform(get(URL, NAME)
+                        .param("size", "64"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_JPEG));
+    }
+
+    @Test
+    void getAvatar_whenSizeIsNotPositive_thenReturn400() throws Exception {
+        mockMvc.perform(get(URL, NAME)
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
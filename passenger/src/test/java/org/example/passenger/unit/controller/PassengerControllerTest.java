@@ -6,6 +6,7 @@ import com.example.exceptionhandlerstarter.dto.Violation;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.passenger.config.MessageSourceConfig;
 import org.example.passenger.controller.PassengerController;
+import org.example.passenger.dto.create.BatchRequestDto;
 import org.example.passenger.dto.create.PassengerCreateEditDto;
 import org.example.passenger.dto.read.PassengerReadDto;
 import org.example.passenger.service.PassengerService;
@@ -48,6 +49,7 @@ import static org.example.passenger.util.DataUtil.URL_WITH_ID;
 import static org.example.passenger.util.DataUtil.getPassengerCreateEditDtoBuilder;
 import static org.example.passenger.util.DataUtil.getPassengerReadDtoBuilder;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -56,6 +58,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = PassengerController.class)
@@ -154,6 +157,60 @@ class PassengerControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Find by ids tests")
+    public class findByIdsTests {
+        @Test
+        void findByIds_whenVerifyingRequestMatching_thenReturn200() throws Exception {
+            PassengerReadDto readPassenger = getPassengerReadDtoBuilder().build();
+            BatchRequestDto request = BatchRequestDto.builder()
+                    .ids(List.of(DEFAULT_ID))
+                    .build();
+
+            when(passengerService.findByIds(request.ids())).thenReturn(List.of(readPassenger));
+
+            MvcResult mvcResult = mockMvc.perform(post(URL + "/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            String actual = mvcResult.getResponse().getContentAsString();
+
+            assertThat(actual).isEqualToIgnoringWhitespace(
+                    objectMapper.writeValueAsString(List.of(readPassenger)));
+        }
+
+        @Test
+        void findByIds_whenIdsAreEmpty_thenReturn400() throws Exception {
+            BatchRequestDto request = BatchRequestDto.builder()
+                    .ids(List.of())
+                    .build();
+
+            mockMvc.perform(post(URL + "/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest());
+
+            verify(passengerService, never()).findByIds(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Publish snapshot tests")
+    public class publishSnapshotTests {
+        @Test
+        void publishSnapshot_thenReturn204() throws Exception {
+            mockMvc.perform(post(URL + "/snapshot")
+                            .with(csrf()))
+                    .andExpect(status().isNoContent());
+
+            verify(passengerService).publishSnapshot();
+        }
+    }
+
     @Nested
     @DisplayName("Create tests")
     public class createTests {
@@ -1,13 +1,19 @@
 package org.example.passenger.unit.serivce;
 
+import com.example.exceptionhandlerstarter.exception.param.InvalidCursorException;
 import com.example.exceptionhandlerstarter.exception.passenger.DuplicatedPassengerEmailException;
 import com.example.exceptionhandlerstarter.exception.passenger.PassengerNotFoundException;
 import org.example.passenger.constants.ExceptionConstants;
+import org.example.passenger.constants.KafkaConstants;
 import org.example.passenger.dto.create.PassengerCreateEditDto;
+import org.example.passenger.dto.read.CursorResponse;
 import org.example.passenger.dto.read.PassengerReadDto;
+import org.example.passenger.dto.read.PassengerStateDto;
 import org.example.passenger.dto.read.UserRateDto;
 import org.example.passenger.entity.Passenger;
+import org.example.passenger.kafka.KafkaProducer;
 import org.example.passenger.mapper.PassengerMapper;
+import org.example.passenger.repository.PassengerRatingRepository;
 import org.example.passenger.repository.PassengerRepository;
 import org.example.passenger.service.ImageStorageService;
 import org.example.passenger.service.PassengerService;
@@ -16,17 +22,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.example.passenger.constants.RedisConstants.PASSENGER_CACHE_VALUE;
 import static org.example.passenger.util.DataUtil.DEFAULT_ID;
 import static org.example.passenger.util.DataUtil.LIMIT_VALUE;
 import static org.example.passenger.util.DataUtil.PAGE_VALUE;
@@ -36,6 +50,7 @@ import static org.example.passenger.util.DataUtil.getPassengerReadDtoBuilder;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +72,52 @@ class PassengerServiceTest {
     @Mock
     private MessageSource messageSource;
 
+    @Mock
+    private PassengerRatingRepository passengerRatingRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private KafkaProducer kafkaProducer;
+
+    @Test
+    void findAllByCursor_whenMorePassengersExist_thenReturnNextCursor() {
+        Passenger firstPassenger = getPassengerBuilder().build();
+        Passenger secondPassenger = getPassengerBuilder().id(DEFAULT_ID + 1).build();
+        PassengerReadDto readPassenger = getPassengerReadDtoBuilder().build();
+
+        when(passengerRepository.findByIsDeletedFalseAndIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(List.of(firstPassenger, secondPassenger));
+        when(passengerMapper.toReadDto(any(Passenger.class)))
+                .thenReturn(readPassenger, getPassengerReadDtoBuilder().id(DEFAULT_ID + 1).build());
+
+        CursorResponse<PassengerReadDto> result = passengerService.findAllByCursor(null, 1);
+
+        assertThat(result.content()).isEqualTo(List.of(readPassenger));
+        assertThat(result.next()).isEqualTo(CursorResponse.encode(DEFAULT_ID));
+        verify(passengerRepository).findByIsDeletedFalseAndIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+    }
+
+    @Test
+    void findAllByCursor_whenCursorIsInvalid_thenThrowInvalidCursorException() {
+        String cursor = "not-a-cursor";
+        when(messageSource.getMessage(
+                ExceptionConstants.INVALID_CURSOR_MESSAGE,
+                new Object[]{cursor},
+                LocaleContextHolder.getLocale()))
+                .thenReturn(ExceptionConstants.INVALID_CURSOR_MESSAGE);
+
+        InvalidCursorException exception = assertThrows(InvalidCursorException.class,
+                () -> passengerService.findAllByCursor(cursor, LIMIT_VALUE));
+
+        assertThat(exception.getMessage()).isEqualTo(ExceptionConstants.INVALID_CURSOR_MESSAGE);
+        verify(passengerRepository, never()).findByIsDeletedFalseAndIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
     @Test
     void findAll_thenReturnPagePassengerReadDto() {
         Passenger defaultPassenger = getPassengerBuilder().build();
@@ -93,6 +154,20 @@ class PassengerServiceTest {
         verify(passengerMapper).toReadDto(defaultPassenger);
     }
 
+    @Test
+    void findByIds_thenReturnFoundPassengers() {
+        Passenger defaultPassenger = getPassengerBuilder().build();
+        PassengerReadDto readPassenger = getPassengerReadDtoBuilder().build();
+        List<Long> ids = List.of(DEFAULT_ID, DEFAULT_ID + 1);
+
+        when(passengerRepository.findByIdInAndIsDeletedFalse(ids)).thenReturn(List.of(defaultPassenger));
+        when(passengerMapper.toReadDto(defaultPassenger)).thenReturn(readPassenger);
+
+        assertThat(passengerService.findByIds(ids)).isEqualTo(List.of(readPassenger));
+        verify(passengerRepository).findByIdInAndIsDeletedFalse(ids);
+        verify(passengerMapper).toReadDto(defaultPassenger);
+    }
+
     @Test
     void findById_whenPassengerIsFound_thenReturnPassengerReadDto() {
         Passenger defaultPassenger = getPassengerBuilder().build();
@@ -143,6 +218,7 @@ class PassengerServiceTest {
         verify(passengerRepository).findByEmailAndIsDeletedFalse(createPassenger.email());
         verify(passengerMapper).toPassenger(createPassenger);
         verify(passengerRepository).save(defaultPassenger);
+        verify(kafkaProducer).publishState(new PassengerStateDto(DEFAULT_ID, false));
         verify(passengerMapper).toReadDto(defaultPassenger);
     }
 
@@ -260,6 +336,26 @@ class PassengerServiceTest {
         assertThat(defaultPassenger.isDeleted()).isTrue();
         verify(passengerRepository).findByIdAndIsDeletedFalse(DEFAULT_ID);
         verify(passengerRepository).save(defaultPassenger);
+        verify(kafkaProducer).publishState(new PassengerStateDto(DEFAULT_ID, true));
+    }
+
+    @Test
+    void publishSnapshot_whenSeveralPages_thenPublishEveryPassenger() {
+        List<Passenger> firstPage = LongStream.rangeClosed(1, KafkaConstants.SNAPSHOT_PAGE_SIZE)
+                .mapToObj(id -> getPassengerBuilder().id(id).build())
+                .toList();
+        Passenger lastPassenger = getPassengerBuilder().id(KafkaConstants.SNAPSHOT_PAGE_SIZE + 1L).build();
+        lastPassenger.setDeleted(true);
+        Limit limit = Limit.of(KafkaConstants.SNAPSHOT_PAGE_SIZE);
+        when(passengerRepository.findByIdGreaterThanOrderByIdAsc(0L, limit)).thenReturn(firstPage);
+        when(passengerRepository.findByIdGreaterThanOrderByIdAsc((long) KafkaConstants.SNAPSHOT_PAGE_SIZE, limit))
+                .thenReturn(List.of(lastPassenger));
+
+        passengerService.publishSnapshot();
+
+        verify(kafkaProducer).publishState(new PassengerStateDto(DEFAULT_ID, false));
+        verify(kafkaProducer).publishState(new PassengerStateDto(lastPassenger.getId(), true));
+        verify(kafkaProducer, times(KafkaConstants.SNAPSHOT_PAGE_SIZE + 1)).publishState(any());
     }
 
     @Test
@@ -284,17 +380,38 @@ class PassengerServiceTest {
     }
 
     @Test
-    void updateRating_thenUpdateRating() {
-        Passenger defaultPassenger = getPassengerBuilder().build();
-        UserRateDto rateDto = new UserRateDto(DEFAULT_ID, 4.0);
+    void updateRatings_whenUserIsRepeated_thenUpdateLastRatingInOneStatement() {
+        Long otherId = DEFAULT_ID + 1;
+        List<UserRateDto> rates = List.of(
+                new UserRateDto(DEFAULT_ID, 3.0),
+                new UserRateDto(otherId, 5.0),
+                new UserRateDto(DEFAULT_ID, 4.0));
 
-        when(passengerRepository.findById(DEFAULT_ID)).thenReturn(Optional.of(defaultPassenger));
-        when(passengerRepository.save(defaultPassenger)).thenReturn(defaultPassenger);
+        when(passengerRatingRepository.updateRatings(Map.of(DEFAULT_ID, 4.0, otherId, 5.0))).thenReturn(2);
+        when(cacheManager.getCache(PASSENGER_CACHE_VALUE)).thenReturn(cache);
 
-        passengerService.updateRating(rateDto);
+        passengerService.updateRatings(rates);
 
-        assertThat(defaultPassenger.getRating()).isEqualTo(4.0);
-        verify(passengerRepository).findById(DEFAULT_ID);
-        verify(passengerRepository).save(defaultPassenger);
+        verify(passengerRatingRepository).updateRatings(Map.of(DEFAULT_ID, 4.0, otherId, 5.0));
+        verify(cache).evict(DEFAULT_ID);
+        verify(cache).evict(otherId);
+        verify(passengerRepository, never()).save(any());
+    }
+
+    @Test
+    void updateRatings_whenTransactionIsActive_thenEvictOnlyAfterCommit() {
+        when(passengerRatingRepository.updateRatings(Map.of(DEFAULT_ID, 4.0))).thenReturn(1);
+        when(cacheManager.getCache(PASSENGER_CACHE_VALUE)).thenReturn(cache);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            passengerService.updateRatings(List.of(new UserRateDto(DEFAULT_ID, 4.0)));
+
+            verify(cache, never()).evict(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(cache).evict(DEFAULT_ID);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 }
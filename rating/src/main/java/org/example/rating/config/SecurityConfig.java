@@ -31,6 +31,8 @@ public class SecurityConfig {
                                 "/rating/webjars/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/rates/driver").hasRole(ROLE_ADMIN)
                         .requestMatchers(HttpMethod.GET, "/api/v1/rates/passenger").hasRole(ROLE_ADMIN)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/rates/driver/cursor").hasRole(ROLE_ADMIN)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/rates/passenger/cursor").hasRole(ROLE_ADMIN)
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
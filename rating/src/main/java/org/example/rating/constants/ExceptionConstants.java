@@ -6,5 +6,6 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ExceptionConstants {
     public static final String RATE_NOT_FOUND = "rate.not.found";
+    public static final String INVALID_CURSOR = "cursor.invalid";
     public static final String INTERNAL_SERVER_ERROR = "Something went wrong. Please, try again later";
 }
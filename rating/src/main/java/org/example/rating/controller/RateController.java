@@ -8,6 +8,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.example.rating.dto.create.RateCreateEditDto;
+import org.example.rating.dto.read.CursorResponse;
 import org.example.rating.dto.read.PageResponse;
 import org.example.rating.dto.read.RateReadDto;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -42,6 +43,34 @@ public interface RateController {
     PageResponse<RateReadDto> findAllPassengersRates(@RequestParam(defaultValue = "0") Integer page,
                                                      @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit);
 
+    @Operation(summary = "Find all driver's rates by cursor",
+            description = """
+                    Retrieves driver's rates ordered by id, starting after the given cursor. The response contains\s
+                    an opaque **next** cursor for the following page, it is null when there are no more rates
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Driver's rates retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Validation error or invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    CursorResponse<RateReadDto> findAllDriversRatesByCursor(@RequestParam(name = "cursor", required = false) String cursor,
+                                                            @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit);
+
+    @Operation(summary = "Find all passenger's rates by cursor",
+            description = """
+                    Retrieves passenger's rates ordered by id, starting after the given cursor. The response contains\s
+                    an opaque **next** cursor for the following page, it is null when there are no more rates
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Passenger's rates retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Validation error or invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    CursorResponse<RateReadDto> findAllPassengersRatesByCursor(@RequestParam(name = "cursor", required = false) String cursor,
+                                                               @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit);
+
     @Operation(summary = "Find driver's rate by ID",
             description = "Retrieves data of driver's rate by ID")
     @ApiResponses(value = {
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.example.rating.controller.RateController;
 import org.example.rating.dto.create.RateCreateEditDto;
+import org.example.rating.dto.read.CursorResponse;
 import org.example.rating.dto.read.PageResponse;
 import org.example.rating.dto.read.RateReadDto;
 import org.example.rating.entity.enumeration.UserType;
@@ -43,6 +44,18 @@ public class RateControllerImpl implements RateController {
         return PageResponse.of(passengerRateService.findAll(page, limit));
     }
 
+    @GetMapping("/driver/cursor")
+    public CursorResponse<RateReadDto> findAllDriversRatesByCursor(@RequestParam(name = "cursor", required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit) {
+        return driverRateService.findAllByCursor(cursor, limit);
+    }
+
+    @GetMapping("/passenger/cursor")
+    public CursorResponse<RateReadDto> findAllPassengersRatesByCursor(@RequestParam(name = "cursor", required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit) {
+        return passengerRateService.findAllByCursor(cursor, limit);
+    }
+
     @GetMapping("/driver/{id}")
     public RateReadDto findDriverRateById(@PathVariable("id") Long id) {
         return driverRateService.findById(id);
@@ -0,0 +1,35 @@
+package org.example.rating.dto.read;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+public record CursorResponse<T>(
+        List<T> content,
+        String next
+) {
+    private static final String PREFIX = "id:";
+
+    public static <T> CursorResponse<T> of(List<T> content, int limit, ToLongFunction<T> idExtractor) {
+        if (content.size() <= limit) {
+            return new CursorResponse<>(content, null);
+        }
+        List<T> page = List.copyOf(content.subList(0, limit));
+        return new CursorResponse<>(page, encode(idExtractor.applyAsLong(page.get(limit - 1))));
+    }
+
+    public static String encode(long id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long decode(String cursor) {
+        String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!value.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Unknown cursor format");
+        }
+        return Long.parseLong(value.substring(PREFIX.length()));
+    }
+}
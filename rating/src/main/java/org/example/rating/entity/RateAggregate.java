@@ -0,0 +1,37 @@
+package org.example.rating.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "rate_aggregates")
+@Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RateAggregate {
+    @EmbeddedId
+    @EqualsAndHashCode.Include
+    private RateAggregateId id;
+
+    private long ratingSum;
+
+    private long ratingCount;
+
+    private long oneStarCount;
+
+    private long twoStarCount;
+
+    private long threeStarCount;
+
+    private long fourStarCount;
+
+    private long fiveStarCount;
+}
@@ -8,7 +8,6 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 @Service
@@ -18,11 +17,11 @@ public class KafkaProducer {
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
     public void notifyPassenger(UserRateDto userRateDto) {
-        sendMessage(KafkaConstants.PASSENGER_RATING_NOTIFICATION_TOPIC, generateTransactionalKey(), userRateDto);
+        sendMessage(KafkaConstants.PASSENGER_RATING_NOTIFICATION_TOPIC, String.valueOf(userRateDto.userId()), userRateDto);
     }
 
     public void notifyDriver(UserRateDto userRateDto) {
-        sendMessage(KafkaConstants.DRIVER_RATING_NOTIFICATION_TOPIC, generateTransactionalKey(), userRateDto);
+        sendMessage(KafkaConstants.DRIVER_RATING_NOTIFICATION_TOPIC, String.valueOf(userRateDto.userId()), userRateDto);
     }
 
     private void sendMessage(String topic, String key, Object message) {
@@ -39,8 +38,4 @@ public class KafkaProducer {
             }
         });
     }
-
-    private String generateTransactionalKey() {
-        return UUID.randomUUID().toString();
-    }
 }
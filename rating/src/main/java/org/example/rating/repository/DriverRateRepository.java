@@ -1,6 +1,7 @@
 package org.example.rating.repository;
 
 import org.example.rating.entity.DriverRate;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +10,6 @@ import java.util.List;
 @Repository
 public interface DriverRateRepository extends JpaRepository<DriverRate, Long> {
     List<DriverRate> findByUserId(Long id);
+
+    List<DriverRate> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -1,6 +1,7 @@
 package org.example.rating.repository;
 
 import org.example.rating.entity.PassengerRate;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +11,6 @@ import java.util.List;
 public interface PassengerRateRepository extends JpaRepository<PassengerRate, Long> {
     List<PassengerRate> findByUserId(Long id);
 
+    List<PassengerRate> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
 }
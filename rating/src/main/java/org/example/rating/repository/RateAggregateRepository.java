@@ -0,0 +1,37 @@
+package org.example.rating.repository;
+
+import org.example.rating.entity.RateAggregate;
+import org.example.rating.entity.RateAggregateId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RateAggregateRepository extends JpaRepository<RateAggregate, RateAggregateId> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO rate_aggregates (user_id, user_type, rating_sum, rating_count, one_star_count,
+                                         two_star_count, three_star_count, four_star_count, five_star_count)
+            VALUES (:userId, :userType, :sum, :count, :one, :two, :three, :four, :five)
+            ON CONFLICT (user_id, user_type) DO UPDATE
+            SET rating_sum       = rate_aggregates.rating_sum + EXCLUDED.rating_sum,
+                rating_count     = rate_aggregates.rating_count + EXCLUDED.rating_count,
+                one_star_count   = rate_aggregates.one_star_count + EXCLUDED.one_star_count,
+                two_star_count   = rate_aggregates.two_star_count + EXCLUDED.two_star_count,
+                three_star_count = rate_aggregates.three_star_count + EXCLUDED.three_star_count,
+                four_star_count  = rate_aggregates.four_star_count + EXCLUDED.four_star_count,
+                five_star_count  = rate_aggregates.five_star_count + EXCLUDED.five_star_count
+            """, nativeQuery = true)
+    void applyDelta(@Param("userId") Long userId,
+                    @Param("userType") String userType,
+                    @Param("sum") long sum,
+                    @Param("count") long count,
+                    @Param("one") long one,
+                    @Param("two") long two,
+                    @Param("three") long three,
+                    @Param("four") long four,
+                    @Param("five") long five);
+}
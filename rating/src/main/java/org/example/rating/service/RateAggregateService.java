@@ -0,0 +1,55 @@
+package org.example.rating.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.rating.entity.RateAggregate;
+import org.example.rating.entity.RateAggregateId;
+import org.example.rating.entity.enumeration.UserType;
+import org.example.rating.repository.RateAggregateRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class RateAggregateService {
+    private static final int MIN_RATING = 1;
+    private static final int MAX_RATING = 5;
+
+    private final RateAggregateRepository rateAggregateRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public RateAggregate add(Long userId, UserType userType, int rating) {
+        long[] stars = new long[MAX_RATING];
+        stars[starIndex(rating)]++;
+        return apply(userId, userType, rating, 1, stars);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public RateAggregate remove(Long userId, UserType userType, int rating) {
+        long[] stars = new long[MAX_RATING];
+        stars[starIndex(rating)]--;
+        return apply(userId, userType, -rating, -1, stars);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public RateAggregate replace(Long userId, UserType userType, int oldRating, int newRating) {
+        long[] stars = new long[MAX_RATING];
+        stars[starIndex(oldRating)]--;
+        stars[starIndex(newRating)]++;
+        return apply(userId, userType, newRating - oldRating, 0, stars);
+    }
+
+    private RateAggregate apply(Long userId, UserType userType, long sum, long count, long[] stars) {
+        rateAggregateRepository.applyDelta(userId, userType.name(), sum, count,
+                stars[0], stars[1], stars[2], stars[3], stars[4]);
+        return rateAggregateRepository.findById(new RateAggregateId(userId, userType))
+                .orElseThrow();
+    }
+
+    private int starIndex(int rating) {
+        if (rating < MIN_RATING || rating > MAX_RATING) {
+            throw new IllegalArgumentException("Rating must be in [1, 5], got " + rating);
+        }
+        return rating - MIN_RATING;
+    }
+}
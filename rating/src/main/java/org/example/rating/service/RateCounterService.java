@@ -1,6 +1,7 @@
 package org.example.rating.service;
 
 import org.example.rating.dto.read.RateReadDto;
+import org.example.rating.entity.RateAggregate;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,4 +18,11 @@ public class RateCounterService {
         }
         return sum/ratings.size();
     }
+
+    public double averageRating(RateAggregate aggregate) {
+        if (aggregate == null || aggregate.getRatingCount() <= 0) {
+            return 0D;
+        }
+        return (double) aggregate.getRatingSum() / aggregate.getRatingCount();
+    }
 }
@@ -1,6 +1,7 @@
 package org.example.rating.service;
 
 import org.example.rating.dto.create.RateCreateEditDto;
+import org.example.rating.dto.read.CursorResponse;
 import org.example.rating.dto.read.RateReadDto;
 import org.springframework.data.domain.Page;
 
@@ -8,6 +9,7 @@ import java.util.List;
 
 public interface RateService {
     Page<RateReadDto> findAll(Integer page, Integer limit);
+    CursorResponse<RateReadDto> findAllByCursor(String cursor, Integer limit);
     RateReadDto findById(Long id);
     RateReadDto create(RateCreateEditDto rateDto);
     RateReadDto update(Long id, RateCreateEditDto rateDto);
@@ -1,16 +1,21 @@
 package org.example.rating.service.impl;
 
+import com.example.exceptionhandlerstarter.exception.param.InvalidCursorException;
 import com.example.exceptionhandlerstarter.exception.rate.RateNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.example.rating.constants.ExceptionConstants;
 import org.example.rating.dto.create.RateCreateEditDto;
+import org.example.rating.dto.read.CursorResponse;
 import org.example.rating.dto.read.RateReadDto;
 import org.example.rating.dto.read.RideReadDto;
 import org.example.rating.dto.read.UserRateDto;
 import org.example.rating.entity.DriverRate;
+import org.example.rating.entity.RateAggregate;
+import org.example.rating.entity.enumeration.UserType;
 import org.example.rating.kafka.KafkaProducer;
 import org.example.rating.mapper.RateMapper;
 import org.example.rating.repository.DriverRateRepository;
+import org.example.rating.service.RateAggregateService;
 import org.example.rating.service.RateCounterService;
 import org.example.rating.service.RateService;
 import org.example.rating.service.RideClientService;
@@ -18,6 +23,7 @@ import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -36,6 +42,7 @@ public class DriverRateService implements RateService {
     private final MessageSource messageSource;
     private final RideClientService rideClient;
     private final RateCounterService rateCounterService;
+    private final RateAggregateService rateAggregateService;
     private final KafkaProducer kafkaProducer;
 
     @Override
@@ -46,7 +53,17 @@ public class DriverRateService implements RateService {
     }
 
     @Override
-    @Cacheable(value = DRIVER_RATE_CACHE_VALUE, key = "#id")
+    public CursorResponse<RateReadDto> findAllByCursor(String cursor, Integer limit) {
+        long afterId = decodeCursor(cursor);
+        List<RateReadDto> rates = driverRateRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit + 1))
+                .stream()
+                .map(rateMapper::toReadDto)
+                .toList();
+        return CursorResponse.of(rates, limit, RateReadDto::id);
+    }
+
+    @Override
+    @Cacheable(value = DRIVER_RATE_CACHE_VALUE, key = "#id", sync = true)
     public RateReadDto findById(Long id) {
         return driverRateRepository.findById(id)
                 .map(rateMapper::toReadDto)
@@ -64,7 +81,8 @@ public class DriverRateService implements RateService {
         DriverRate rate = rateMapper.toDriverRate(rateDto);
         RideReadDto rideReadDto = rideClient.getRide(rate.getRideId());
         rate = driverRateRepository.save(rate);
-        updateAverageRating(rideReadDto.driverId());
+        RateAggregate aggregate = rateAggregateService.add(rideReadDto.driverId(), UserType.DRIVER, rate.getRating());
+        notifyAverageRating(rideReadDto.driverId(), aggregate);
         return rateMapper.toReadDto(rate);
     }
 
@@ -75,9 +93,11 @@ public class DriverRateService implements RateService {
         return driverRateRepository.findById(id)
                 .map(rate -> {
                     RideReadDto rideReadDto = rideClient.getRide(rateDto.rideId());
+                    Long previousRideId = rate.getRideId();
+                    int previousRating = rate.getRating();
                     rateMapper.map(rate, rateDto);
                     driverRateRepository.save(rate);
-                    updateAverageRating(rideReadDto.driverId());
+                    updateAverageRating(previousRideId, previousRating, rideReadDto, rate.getRating());
                     return rate;
                 })
                 .map(rateMapper::toReadDto)
@@ -95,10 +115,37 @@ public class DriverRateService implements RateService {
                 .toList();
     }
 
-    private void updateAverageRating(Long userId){
-        List<RateReadDto> rateReadDtoList = findByUserId(userId);
-        double averageRating = rateCounterService.countRating(rateReadDtoList);
+    private void updateAverageRating(Long previousRideId, int previousRating, RideReadDto rideReadDto, int rating) {
+        Long userId = rideReadDto.driverId();
+        Long previousUserId = previousRideId.equals(rideReadDto.id())
+                ? userId
+                : rideClient.getRide(previousRideId).driverId();
+
+        if (previousUserId.equals(userId)) {
+            notifyAverageRating(userId, rateAggregateService.replace(userId, UserType.DRIVER, previousRating, rating));
+            return;
+        }
+        notifyAverageRating(previousUserId, rateAggregateService.remove(previousUserId, UserType.DRIVER, previousRating));
+        notifyAverageRating(userId, rateAggregateService.add(userId, UserType.DRIVER, rating));
+    }
+
+    private void notifyAverageRating(Long userId, RateAggregate aggregate) {
+        double averageRating = rateCounterService.averageRating(aggregate);
         UserRateDto userRatingDto = new UserRateDto(userId, averageRating);
         kafkaProducer.notifyDriver(userRatingDto);
     }
+
+    private long decodeCursor(String cursor) {
+        if (cursor == null) {
+            return 0L;
+        }
+        try {
+            return CursorResponse.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(messageSource.getMessage(
+                    ExceptionConstants.INVALID_CURSOR,
+                    new Object[]{cursor},
+                    LocaleContextHolder.getLocale()));
+        }
+    }
 }
@@ -0,0 +1,42 @@
+CREATE TABLE IF NOT EXISTS rate_aggregates (
+    user_id           BIGINT         NOT NULL,
+    user_type         VARCHAR(64)    NOT NULL,
+    rating_sum        BIGINT         NOT NULL DEFAULT 0,
+    rating_count      BIGINT         NOT NULL DEFAULT 0,
+    one_star_count    BIGINT         NOT NULL DEFAULT 0,
+    two_star_count    BIGINT         NOT NULL DEFAULT 0,
+    three_star_count  BIGINT         NOT NULL DEFAULT 0,
+    four_star_count   BIGINT         NOT NULL DEFAULT 0,
+    five_star_count   BIGINT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, user_type)
+);
+
+INSERT INTO rate_aggregates (user_id, user_type, rating_sum, rating_count, one_star_count,
+                             two_star_count, three_star_count, four_star_count, five_star_count)
+SELECT user_id,
+       'DRIVER',
+       SUM(rating),
+       COUNT(*),
+       COUNT(*) FILTER (WHERE rating = 1),
+       COUNT(*) FILTER (WHERE rating = 2),
+       COUNT(*) FILTER (WHERE rating = 3),
+       COUNT(*) FILTER (WHERE rating = 4),
+       COUNT(*) FILTER (WHERE rating = 5)
+FROM driver_rates
+WHERE user_id IS NOT NULL
+GROUP BY user_id;
+
+INSERT INTO rate_aggregates (user_id, user_type, rating_sum, rating_count, one_star_count,
+                             two_star_count, three_star_count, four_star_count, five_star_count)
+SELECT user_id,
+       'PASSENGER',
+       SUM(rating),
+       COUNT(*),
+       COUNT(*) FILTER (WHERE rating = 1),
+       COUNT(*) FILTER (WHERE rating = 2),
+       COUNT(*) FILTER (WHERE rating = 3),
+       COUNT(*) FILTER (WHERE rating = 4),
+       COUNT(*) FILTER (WHERE rating = 5)
+FROM passenger_rates
+WHERE user_id IS NOT NULL
+GROUP BY user_id;
@@ -0,0 +1,85 @@
+package org.example.rating.benchmark;
+
+import org.example.rating.dto.read.RateReadDto;
+import org.example.rating.entity.RateAggregate;
+import org.example.rating.entity.enumeration.UserType;
+import org.example.rating.service.RateCounterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recounting a rating from the list of rates against reading it from the running aggregate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateCounterServiceBenchmark {
+    private final RateCounterService rateCounterService = new RateCounterService();
+
+    @Param({"10", "100", "1000"})
+    private int rates;
+
+    private List<RateReadDto> ratings;
+    private RateAggregate aggregate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        ratings = new ArrayList<>(rates);
+        long sum = 0;
+        for (int i = 0; i < rates; i++) {
+            int rating = 1 + random.nextInt(5);
+            sum += rating;
+            ratings.add(RateReadDto.builder()
+                    .id(i)
+                    .rideId(i)
+                    .comment("comment")
+                    .rating(rating)
+                    .userId(1L)
+                    .userType(UserType.DRIVER)
+                    .build());
+        }
+        aggregate = RateAggregate.builder()
+                .ratingSum(sum)
+                .ratingCount(rates)
+                .build();
+    }
+
+    @Benchmark
+    public double countRating() {
+        return rateCounterService.countRating(ratings);
+    }
+
+    @Benchmark
+    public double averageRating() {
+        return rateCounterService.averageRating(aggregate);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RateCounterServiceBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -1,14 +1,20 @@
 package org.example.rating.unit.service;
 
+import com.example.exceptionhandlerstarter.exception.param.InvalidCursorException;
 import com.example.exceptionhandlerstarter.exception.rate.RateNotFoundException;
 import org.example.rating.constants.ExceptionConstants;
 import org.example.rating.dto.create.RateCreateEditDto;
+import org.example.rating.dto.read.CursorResponse;
 import org.example.rating.dto.read.RateReadDto;
 import org.example.rating.dto.read.RideReadDto;
+import org.example.rating.dto.read.UserRateDto;
 import org.example.rating.entity.DriverRate;
+import org.example.rating.entity.RateAggregate;
 import org.example.rating.kafka.KafkaProducer;
 import org.example.rating.mapper.RateMapper;
 import org.example.rating.repository.DriverRateRepository;
+import org.example.rating.entity.enumeration.UserType;
+import org.example.rating.service.RateAggregateService;
 import org.example.rating.service.RateCounterService;
 import org.example.rating.service.RideClientService;
 import org.example.rating.service.impl.DriverRateService;
@@ -19,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -29,14 +36,19 @@ import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.example.rating.util.DataUtil.DEFAULT_ID;
+import static org.example.rating.util.DataUtil.DEFAULT_RATE;
 import static org.example.rating.util.DataUtil.LIMIT_VALUE;
 import static org.example.rating.util.DataUtil.PAGE_VALUE;
 import static org.example.rating.util.DataUtil.getDriverRateBuilder;
 import static org.example.rating.util.DataUtil.getDriverRateCreateEditDtoBuilder;
 import static org.example.rating.util.DataUtil.getDriverRateReadDtoBuilder;
+import static org.example.rating.util.DataUtil.getRateAggregateBuilder;
 import static org.example.rating.util.DataUtil.getRideReadDtoBuilder;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -62,6 +74,9 @@ class DriverRateServiceImplTest {
     @Mock
     private RateCounterService rateCounterService;
 
+    @Mock
+    private RateAggregateService rateAggregateService;
+
     @Mock
     private KafkaProducer kafkaProducer;
 
@@ -82,6 +97,39 @@ class DriverRateServiceImplTest {
         verify(rateMapper).toReadDto(defaultRate);
     }
 
+    @Test
+    void findAllByCursor_whenMoreRatesExist_thenReturnNextCursor() {
+        DriverRate firstRate = getDriverRateBuilder().build();
+        DriverRate secondRate = getDriverRateBuilder().id(DEFAULT_ID + 1).build();
+        RateReadDto readRate = getDriverRateReadDtoBuilder().build();
+
+        when(driverRateRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(List.of(firstRate, secondRate));
+        when(rateMapper.toReadDto(any(DriverRate.class)))
+                .thenReturn(readRate, getDriverRateReadDtoBuilder().id(DEFAULT_ID + 1).build());
+
+        CursorResponse<RateReadDto> result = driverRateService.findAllByCursor(null, 1);
+
+        assertThat(result.content()).isEqualTo(List.of(readRate));
+        assertThat(result.next()).isEqualTo(CursorResponse.encode(DEFAULT_ID));
+    }
+
+    @Test
+    void findAllByCursor_whenCursorIsInvalid_thenThrowInvalidCursorException() {
+        String cursor = "not-a-cursor";
+        when(messageSource.getMessage(
+                ExceptionConstants.INVALID_CURSOR,
+                new Object[]{cursor},
+                LocaleContextHolder.getLocale()))
+                .thenReturn(ExceptionConstants.INVALID_CURSOR);
+
+        InvalidCursorException exception = assertThrows(InvalidCursorException.class,
+                () -> driverRateService.findAllByCursor(cursor, LIMIT_VALUE));
+
+        assertThat(exception.getMessage()).isEqualTo(ExceptionConstants.INVALID_CURSOR);
+        verify(driverRateRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
     @Test
     void findById_whenRateIsFound_thenReturnRateReadDto() {
         DriverRate defaultRate = getDriverRateBuilder().build();
@@ -122,16 +170,21 @@ class DriverRateServiceImplTest {
         RateCreateEditDto createRate = getDriverRateCreateEditDtoBuilder().build();
         RateReadDto readRate = getDriverRateReadDtoBuilder().build();
         RideReadDto readRide = getRideReadDtoBuilder().build();
+        RateAggregate aggregate = getRateAggregateBuilder(UserType.DRIVER).build();
 
         when(rateMapper.toDriverRate(createRate)).thenReturn(defaultRate);
         when(rideClient.getRide(DEFAULT_ID)).thenReturn(readRide);
         when(driverRateRepository.save(defaultRate)).thenReturn(defaultRate);
+        when(rateAggregateService.add(DEFAULT_ID, UserType.DRIVER, DEFAULT_RATE)).thenReturn(aggregate);
+        when(rateCounterService.averageRating(aggregate)).thenReturn((double) DEFAULT_RATE);
         when(rateMapper.toReadDto(defaultRate)).thenReturn(readRate);
 
         assertThat(driverRateService.create(createRate)).isNotNull();
         verify(rateMapper).toDriverRate(createRate);
         verify(rideClient).getRide(DEFAULT_ID);
         verify(driverRateRepository).save(defaultRate);
+        verify(rateAggregateService).add(DEFAULT_ID, UserType.DRIVER, DEFAULT_RATE);
+        verify(kafkaProducer).notifyDriver(new UserRateDto(DEFAULT_ID, DEFAULT_RATE));
         verify(rateMapper).toReadDto(defaultRate);
     }
 
@@ -152,9 +205,44 @@ class DriverRateServiceImplTest {
         verify(rideClient).getRide(DEFAULT_ID);
         verify(rateMapper).map(defaultRate, createRate);
         verify(driverRateRepository).save(defaultRate);
+        verify(rateAggregateService).replace(DEFAULT_ID, UserType.DRIVER, DEFAULT_RATE, DEFAULT_RATE);
+        verify(rateAggregateService, never()).add(anyLong(), any(), anyInt());
         verify(rateMapper).toReadDto(defaultRate);
     }
 
+    @Test
+    void update_whenRideIsChanged_thenMoveRatingBetweenAggregates() {
+        Long newRideId = DEFAULT_ID + 1;
+        Long newUserId = DEFAULT_ID + 1;
+        DriverRate defaultRate = getDriverRateBuilder().build();
+        RateCreateEditDto createRate = getDriverRateCreateEditDtoBuilder()
+                .rideId(newRideId)
+                .build();
+        RateReadDto readRate = getDriverRateReadDtoBuilder().build();
+        RideReadDto previousRide = getRideReadDtoBuilder().build();
+        RideReadDto newRide = getRideReadDtoBuilder()
+                .id(newRideId)
+                .driverId(newUserId)
+                .passengerId(newUserId)
+                .build();
+
+        when(driverRateRepository.findById(DEFAULT_ID)).thenReturn(Optional.of(defaultRate));
+        when(rideClient.getRide(newRideId)).thenReturn(newRide);
+        when(rideClient.getRide(DEFAULT_ID)).thenReturn(previousRide);
+        doAnswer(invocation -> {
+            defaultRate.setRideId(newRideId);
+            return null;
+        }).when(rateMapper).map(defaultRate, createRate);
+        when(rateMapper.toReadDto(defaultRate)).thenReturn(readRate);
+
+        assertThat(driverRateService.update(DEFAULT_ID, createRate)).isNotNull();
+        verify(rateAggregateService).remove(DEFAULT_ID, UserType.DRIVER, DEFAULT_RATE);
+        verify(rateAggregateService).add(newUserId, UserType.DRIVER, DEFAULT_RATE);
+        verify(rateAggregateService, never()).replace(anyLong(), any(), anyInt(), anyInt());
+        verify(kafkaProducer).notifyDriver(new UserRateDto(DEFAULT_ID, 0D));
+        verify(kafkaProducer).notifyDriver(new UserRateDto(newUserId, 0D));
+    }
+
     @Test
     void update_whenRateIsNotFound_thenThrowRateNotFoundException() {
         RateCreateEditDto createRate = getDriverRateCreateEditDtoBuilder().build();
@@ -1,15 +1,21 @@
 package org.example.rating.unit.service;
 
+import com.example.exceptionhandlerstarter.exception.param.InvalidCursorException;
 import com.example.exceptionhandlerstarter.exception.rate.RateNotFoundException;
 import org.example.rating.constants.ExceptionConstants;
 import org.example.rating.dto.create.RateCreateEditDto;
+import org.example.rating.dto.read.CursorResponse;
 import org.example.rating.dto.read.RateReadDto;
 import org.example.rating.dto.read.RideReadDto;
+import org.example.rating.dto.read.UserRateDto;
 import org.example.rating.entity.DriverRate;
 import org.example.rating.entity.PassengerRate;
+import org.example.rating.entity.RateAggregate;
 import org.example.rating.kafka.KafkaProducer;
 import org.example.rating.mapper.RateMapper;
 import org.example.rating.repository.PassengerRateRepository;
+import org.example.rating.entity.enumeration.UserType;
+import org.example.rating.service.RateAggregateService;
 import org.example.rating.service.RateCounterService;
 import org.example.rating.service.RideClientService;
 import org.example.rating.service.impl.PassengerRateService;
@@ -20,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -30,14 +37,19 @@ import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.example.rating.util.DataUtil.DEFAULT_ID;
+import static org.example.rating.util.DataUtil.DEFAULT_RATE;
 import static org.example.rating.util.DataUtil.LIMIT_VALUE;
 import static org.example.rating.util.DataUtil.PAGE_VALUE;
 import static org.example.rating.util.DataUtil.getPassengerRateBuilder;
 import static org.example.rating.util.DataUtil.getPassengerRateCreateEditDtoBuilder;
 import static org.example.rating.util.DataUtil.getPassengerRateReadDtoBuilder;
+import static org.example.rating.util.DataUtil.getRateAggregateBuilder;
 import static org.example.rating.util.DataUtil.getRideReadDtoBuilder;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -63,6 +75,9 @@ class PassengerRateServiceImplTest {
     @Mock
     private RateCounterService rateCounterService;
 
+    @Mock
+    private RateAggregateService rateAggregateService;
+
     @Mock
     private KafkaProducer kafkaProducer;
 
@@ -84,6 +99,39 @@ class PassengerRateServiceImplTest {
         verify(rateMapper).toReadDto(defaultRate);
     }
 
+    @Test
+    void findAllByCursor_whenMoreRatesExist_thenReturnNextCursor() {
+        PassengerRate firstRate = getPassengerRateBuilder().build();
+        PassengerRate secondRate = getPassengerRateBuilder().id(DEFAULT_ID + 1).build();
+        RateReadDto readRate = getPassengerRateReadDtoBuilder().build();
+
+        when(passengerRateRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(List.of(firstRate, secondRate));
+        when(rateMapper.toReadDto(any(PassengerRate.class)))
+                .thenReturn(readRate, getPassengerRateReadDtoBuilder().id(DEFAULT_ID + 1).build());
+
+        CursorResponse<RateReadDto> result = passengerRateService.findAllByCursor(null, 1);
+
+        assertThat(result.content()).isEqualTo(List.of(readRate));
+        assertThat(result.next()).isEqualTo(CursorResponse.encode(DEFAULT_ID));
+    }
+
+    @Test
+    void findAllByCursor_whenCursorIsInvalid_thenThrowInvalidCursorException() {
+        String cursor = "not-a-cursor";
+        when(messageSource.getMessage(
+                ExceptionConstants.INVALID_CURSOR,
+                new Object[]{cursor},
+                LocaleContextHolder.getLocale()))
+                .thenReturn(ExceptionConstants.INVALID_CURSOR);
+
+        InvalidCursorException exception = assertThrows(InvalidCursorException.class,
+                () -> passengerRateService.findAllByCursor(cursor, LIMIT_VALUE));
+
+        assertThat(exception.getMessage()).isEqualTo(ExceptionConstants.INVALID_CURSOR);
+        verify(passengerRateRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
     @Test
     void findById_whenRateIsFound_thenReturnRateReadDto() {
         PassengerRate defaultRate = getPassengerRateBuilder().build();
@@ -124,16 +172,21 @@ class PassengerRateServiceImplTest {
         RateCreateEditDto createRate = getPassengerRateCreateEditDtoBuilder().build();
         RateReadDto readRate = getPassengerRateReadDtoBuilder().build();
         RideReadDto readRide = getRideReadDtoBuilder().build();
+        RateAggregate aggregate = getRateAggregateBuilder(UserType.PASSENGER).build();
 
         when(rateMapper.toPassengerRate(createRate)).thenReturn(defaultRate);
         when(rideClient.getRide(DEFAULT_ID)).thenReturn(readRide);
         when(passengerRateRepository.save(defaultRate)).thenReturn(defaultRate);
+        when(rateAggregateService.add(DEFAULT_ID, UserType.PASSENGER, DEFAULT_RATE)).thenReturn(aggregate);
+        when(rateCounterService.averageRating(aggregate)).thenReturn((double) DEFAULT_RATE);
         when(rateMapper.toReadDto(defaultRate)).thenReturn(readRate);
 
         assertThat(passengerRateService.create(createRate)).isNotNull();
         verify(rateMapper).toPassengerRate(createRate);
         verify(rideClient).getRide(DEFAULT_ID);
         verify(passengerRateRepository).save(defaultRate);
+        verify(rateAggregateService).add(DEFAULT_ID, UserType.PASSENGER, DEFAULT_RATE);
+        verify(kafkaProducer).notifyPassenger(new UserRateDto(DEFAULT_ID, DEFAULT_RATE));
         verify(rateMapper).toReadDto(defaultRate);
     }
 
@@ -154,9 +207,44 @@ class PassengerRateServiceImplTest {
         verify(rideClient).getRide(DEFAULT_ID);
         verify(rateMapper).map(defaultRate, createRate);
         verify(passengerRateRepository).save(defaultRate);
+        verify(rateAggregateService).replace(DEFAULT_ID, UserType.PASSENGER, DEFAULT_RATE, DEFAULT_RATE);
+        verify(rateAggregateService, never()).add(anyLong(), any(), anyInt());
         verify(rateMapper).toReadDto(defaultRate);
     }
 
+    @Test
+    void update_whenRideIsChanged_thenMoveRatingBetweenAggregates() {
+        Long newRideId = DEFAULT_ID + 1;
+        Long newUserId = DEFAULT_ID + 1;
+        PassengerRate defaultRate = getPassengerRateBuilder().build();
+        RateCreateEditDto createRate = getPassengerRateCreateEditDtoBuilder()
+                .rideId(newRideId)
+                .build();
+        RateReadDto readRate = getPassengerRateReadDtoBuilder().build();
+        RideReadDto previousRide = getRideReadDtoBuilder().build();
+        RideReadDto newRide = getRideReadDtoBuilder()
+                .id(newRideId)
+                .driverId(newUserId)
+                .passengerId(newUserId)
+                .build();
+
+        when(passengerRateRepository.findById(DEFAULT_ID)).thenReturn(Optional.of(defaultRate));
+        when(rideClient.getRide(newRideId)).thenReturn(newRide);
+        when(rideClient.getRide(DEFAULT_ID)).thenReturn(previousRide);
+        doAnswer(invocation -> {
+            defaultRate.setRideId(newRideId);
+            return null;
+        }).when(rateMapper).map(defaultRate, createRate);
+        when(rateMapper.toReadDto(defaultRate)).thenReturn(readRate);
+
+        assertThat(passengerRateService.update(DEFAULT_ID, createRate)).isNotNull();
+        verify(rateAggregateService).remove(DEFAULT_ID, UserType.PASSENGER, DEFAULT_RATE);
+        verify(rateAggregateService).add(newUserId, UserType.PASSENGER, DEFAULT_RATE);
+        verify(rateAggregateService, never()).replace(anyLong(), any(), anyInt(), anyInt());
+        verify(kafkaProducer).notifyPassenger(new UserRateDto(DEFAULT_ID, 0D));
+        verify(kafkaProducer).notifyPassenger(new UserRateDto(newUserId, 0D));
+    }
+
     @Test
     void update_whenRateIsNotFound_thenThrowRateNotFoundException() {
         RateCreateEditDto createRate = getPassengerRateCreateEditDtoBuilder().build();
@@ -0,0 +1,75 @@
+package org.example.rating.unit.service;
+
+import org.example.rating.entity.RateAggregate;
+import org.example.rating.entity.RateAggregateId;
+import org.example.rating.entity.enumeration.UserType;
+import org.example.rating.repository.RateAggregateRepository;
+import org.example.rating.service.RateAggregateService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.example.rating.util.DataUtil.DEFAULT_ID;
+import static org.example.rating.util.DataUtil.getRateAggregateBuilder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateAggregateServiceTest {
+
+    @InjectMocks
+    private RateAggregateService rateAggregateService;
+
+    @Mock
+    private RateAggregateRepository rateAggregateRepository;
+
+    @Test
+    void add_thenIncrementSumCountAndStar() {
+        RateAggregate aggregate = getRateAggregateBuilder(UserType.DRIVER).build();
+        when(rateAggregateRepository.findById(new RateAggregateId(DEFAULT_ID, UserType.DRIVER)))
+                .thenReturn(Optional.of(aggregate));
+
+        assertThat(rateAggregateService.add(DEFAULT_ID, UserType.DRIVER, 4)).isEqualTo(aggregate);
+        verify(rateAggregateRepository).applyDelta(DEFAULT_ID, UserType.DRIVER.name(), 4, 1, 0, 0, 0, 1, 0);
+    }
+
+    @Test
+    void remove_thenDecrementSumCountAndStar() {
+        RateAggregate aggregate = getRateAggregateBuilder(UserType.PASSENGER).build();
+        when(rateAggregateRepository.findById(new RateAggregateId(DEFAULT_ID, UserType.PASSENGER)))
+                .thenReturn(Optional.of(aggregate));
+
+        rateAggregateService.remove(DEFAULT_ID, UserType.PASSENGER, 2);
+
+        verify(rateAggregateRepository).applyDelta(DEFAULT_ID, UserType.PASSENGER.name(), -2, -1, 0, -1, 0, 0, 0);
+    }
+
+    @Test
+    void replace_thenApplyDeltaWithoutChangingCount() {
+        RateAggregate aggregate = getRateAggregateBuilder(UserType.DRIVER).build();
+        when(rateAggregateRepository.findById(new RateAggregateId(DEFAULT_ID, UserType.DRIVER)))
+                .thenReturn(Optional.of(aggregate));
+
+        rateAggregateService.replace(DEFAULT_ID, UserType.DRIVER, 1, 5);
+
+        verify(rateAggregateRepository).applyDelta(DEFAULT_ID, UserType.DRIVER.name(), 4, 0, -1, 0, 0, 0, 1);
+    }
+
+    @Test
+    void add_whenRatingIsOutOfRange_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> rateAggregateService.add(DEFAULT_ID, UserType.DRIVER, 6));
+
+        verify(rateAggregateRepository, never()).applyDelta(anyLong(), anyString(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+}
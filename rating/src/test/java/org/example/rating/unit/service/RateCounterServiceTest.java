@@ -1,6 +1,7 @@
 package org.example.rating.unit.service;
 
 import org.example.rating.dto.read.RateReadDto;
+import org.example.rating.entity.RateAggregate;
 import org.example.rating.entity.enumeration.UserType;
 import org.example.rating.service.RateCounterService;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,4 +63,25 @@ class RateCounterServiceTest {
 
         assertThat(result).isEqualTo(3.0);
     }
+
+    @Test
+    void averageRating_whenAggregateIsEmpty_shouldReturnZero() {
+        double result = rateCounterService.averageRating(new RateAggregate());
+
+        assertThat(result).isEqualTo(0D);
+    }
+
+    @Test
+    void averageRating_whenAggregateHasRatings_shouldReturnAverage() {
+        RateAggregate aggregate = RateAggregate.builder()
+                .ratingSum(9)
+                .ratingCount(2)
+                .fourStarCount(1)
+                .fiveStarCount(1)
+                .build();
+
+        double result = rateCounterService.averageRating(aggregate);
+
+        assertThat(result).isEqualTo(4.5);
+    }
 }
@@ -7,6 +7,8 @@ import org.example.rating.dto.read.RateReadDto;
 import org.example.rating.dto.read.RideReadDto;
 import org.example.rating.entity.DriverRate;
 import org.example.rating.entity.PassengerRate;
+import org.example.rating.entity.RateAggregate;
+import org.example.rating.entity.RateAggregateId;
 import org.example.rating.entity.enumeration.UserType;
 
 import java.math.BigDecimal;
@@ -116,6 +118,14 @@ public class DataUtil {
                 .userType(UserType.DRIVER);
     }
 
+    public static RateAggregate.RateAggregateBuilder getRateAggregateBuilder(UserType userType) {
+        return RateAggregate.builder()
+                .id(new RateAggregateId(DEFAULT_ID, userType))
+                .ratingSum(DEFAULT_RATE)
+                .ratingCount(1)
+                .fourStarCount(1);
+    }
+
     public static SignInUserDto signInUserDto() {
         return new SignInUserDto(DEFAULT_EMAIL, DEFAULT_PASSWORD);
     }
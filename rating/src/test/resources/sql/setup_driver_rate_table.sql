@@ -1,4 +1,7 @@
 TRUNCATE TABLE driver_rates;
 ALTER SEQUENCE rating_id_seq RESTART WITH 1;
 INSERT INTO driver_rates (ride_id, comment, rating, user_type, user_id)
-VALUES (1, 'Good', 4, 'PASSENGER', 1);
\ No newline at end of file
+VALUES (1, 'Good', 4, 'PASSENGER', 1);
+DELETE FROM rate_aggregates WHERE user_type = 'DRIVER';
+INSERT INTO rate_aggregates (user_id, user_type, rating_sum, rating_count, four_star_count)
+VALUES (1, 'DRIVER', 4, 1, 1);
\ No newline at end of file
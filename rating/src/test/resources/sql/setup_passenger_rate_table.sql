@@ -1,4 +1,7 @@
 TRUNCATE TABLE passenger_rates;
 ALTER SEQUENCE passenger_rates_id_seq RESTART WITH 1;
 INSERT INTO passenger_rates (ride_id, comment, rating, user_type, user_id)
-VALUES (1, 'Good', 4, 'DRIVER', 1);
\ No newline at end of file
+VALUES (1, 'Good', 4, 'DRIVER', 1);
+DELETE FROM rate_aggregates WHERE user_type = 'PASSENGER';
+INSERT INTO rate_aggregates (user_id, user_type, rating_sum, rating_count, four_star_count)
+VALUES (1, 'PASSENGER', 4, 1, 1);
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.example.registrationservice.client;
+
+import com.example.exceptionhandlerstarter.dto.ExceptionDto;
+import com.example.exceptionhandlerstarter.keycloak.ClientException;
+import com.example.exceptionhandlerstarter.keycloak.UnauthorizedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.example.registrationservice.constants.ExceptionConstants.UNAUTHORIZED_MESSAGE;
+
+/**
+ * Maps 4xx responses of the driver and passenger services to the exceptions the global handler
+ * answers with, 5xx responses are left to the default handler of the client.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientErrorHandler implements RestClient.ResponseSpec.ErrorHandler {
+
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Override
+    public void handle(HttpRequest request, ClientHttpResponse response) throws IOException {
+        if (response.getStatusCode().value() == HttpStatus.UNAUTHORIZED.value()) {
+            throw new UnauthorizedException(messageSource.getMessage(
+                    UNAUTHORIZED_MESSAGE,
+                    new Object[]{},
+                    LocaleContextHolder.getLocale()));
+        }
+
+        try (InputStream body = response.getBody()) {
+            throw new ClientException(objectMapper.readValue(body, ExceptionDto.class));
+        }
+    }
+}
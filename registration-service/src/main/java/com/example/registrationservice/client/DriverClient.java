@@ -1,21 +1,25 @@
 package com.example.registrationservice.client;
 
-import com.example.registrationservice.config.FeignConfig;
 import com.example.registrationservice.dto.create.SignUpDto;
 import com.example.registrationservice.dto.read.DriverReadDto;
-import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
-import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.service.annotation.DeleteExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
 
-@FeignClient(value = "driver", configuration = FeignConfig.class)
+@HttpExchange("/api/v1/drivers")
 public interface DriverClient {
 
-    @PostMapping(value = "/api/v1/drivers",
-            consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PostExchange(contentType = MediaType.MULTIPART_FORM_DATA_VALUE)
     DriverReadDto createDriver(@RequestPart SignUpDto dto,
                                @RequestPart(required = false) MultipartFile file,
                                @RequestHeader("Authorization") String authorization);
+
+    @DeleteExchange("/{id}")
+    void deleteDriver(@PathVariable("id") Long id,
+                      @RequestHeader("Authorization") String authorization);
 }
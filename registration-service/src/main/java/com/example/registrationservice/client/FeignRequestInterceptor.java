@@ -1,24 +0,0 @@
-package com.example.registrationservice.client;
-
-import com.example.registrationservice.constants.AppConstants;
-import feign.RequestInterceptor;
-import feign.RequestTemplate;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
-import org.springframework.stereotype.Component;
-
-@Component
-public class FeignRequestInterceptor implements RequestInterceptor {
-
-    @Override
-    public void apply(RequestTemplate template) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication instanceof JwtAuthenticationToken) {
-            Jwt jwt = (Jwt) authentication.getPrincipal();
-            String token = jwt.getTokenValue();
-            template.header("Authorization", AppConstants.BEARER_PREFIX + token);
-        }
-    }
-}
@@ -0,0 +1,33 @@
+package com.example.registrationservice.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Resolves the service id in the host of a request URI to an instance before the request is created.
+ * Unlike a {@code @LoadBalanced} interceptor it does not make the client buffer the request body,
+ * so uploads are streamed to the instance as they are read.
+ */
+@RequiredArgsConstructor
+public class LoadBalancedRequestFactory implements ClientHttpRequestFactory {
+
+    private final LoadBalancerClient loadBalancerClient;
+    private final ClientHttpRequestFactory delegate;
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        String serviceId = uri.getHost();
+        ServiceInstance instance = loadBalancerClient.choose(serviceId);
+        if (instance == null) {
+            throw new IOException("No instances available for " + serviceId);
+        }
+        return delegate.createRequest(loadBalancerClient.reconstructURI(instance, uri), httpMethod);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.registrationservice.config;
+
+import com.example.registrationservice.client.ClientErrorHandler;
+import com.example.registrationservice.client.DriverClient;
+import com.example.registrationservice.client.LoadBalancedRequestFactory;
+import com.example.registrationservice.client.PassengerClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import static com.example.registrationservice.constants.ServiceConstants.DRIVER_SERVICE;
+import static com.example.registrationservice.constants.ServiceConstants.PASSENGER_SERVICE;
+
+/**
+ * Clients of the driver and passenger services. Request bodies are written straight to the connection,
+ * an avatar part is read from the upload of the sign-up request while it is sent, so it is never
+ * held in memory as a whole.
+ */
+@Configuration
+public class ClientConfig {
+
+    @Value("${clients.connect-timeout}")
+    private Duration connectTimeout;
+
+    @Value("${clients.read-timeout}")
+    private Duration readTimeout;
+
+    @Bean
+    public DriverClient driverClient(RestClient.Builder restClientBuilder,
+                                     LoadBalancerClient loadBalancerClient,
+                                     ClientErrorHandler clientErrorHandler) {
+        return createClient(DriverClient.class, DRIVER_SERVICE,
+                restClientBuilder, loadBalancerClient, clientErrorHandler);
+    }
+
+    @Bean
+    public PassengerClient passengerClient(RestClient.Builder restClientBuilder,
+                                           LoadBalancerClient loadBalancerClient,
+                                           ClientErrorHandler clientErrorHandler) {
+        return createClient(PassengerClient.class, PASSENGER_SERVICE,
+                restClientBuilder, loadBalancerClient, clientErrorHandler);
+    }
+
+    private <T> T createClient(Class<T> clientType, String serviceId, RestClient.Builder restClientBuilder,
+                               LoadBalancerClient loadBalancerClient, ClientErrorHandler clientErrorHandler) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        RestClient restClient = restClientBuilder
+                .baseUrl("http://" + serviceId)
+                .requestFactory(new LoadBalancedRequestFactory(loadBalancerClient, requestFactory))
+                .defaultStatusHandler(HttpStatusCode::is4xxClientError, clientErrorHandler)
+                .build();
+        return HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient))
+                .build()
+                .createClient(clientType);
+    }
+}
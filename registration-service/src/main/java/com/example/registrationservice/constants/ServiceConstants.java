@@ -3,6 +3,8 @@ package com.example.registrationservice.constants;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ServiceConstants {
     public static final String GRANT_TYPE_FIELD = "grant_type";
@@ -17,4 +19,25 @@ public final class ServiceConstants {
     public static final String GRANT_TYPE_CLIENT_CREDENTIAlS_FIELD = "client_credentials";
     public static final String PASSENGER_ROLE = "PASSENGER";
     public static final String DRIVER_ROLE = "DRIVER";
+    public static final String DRIVER_SERVICE = "driver";
+    public static final String PASSENGER_SERVICE = "passenger";
+
+    public static final String SIGN_UP_STATUS_FIELD = "signUpStatus";
+    public static final String SIGN_UP_ROLE_FIELD = "signUpRole";
+    public static final String SIGN_UP_PROFILE_ID_FIELD = "signUpProfileId";
+    public static final List<String> SIGN_UP_FIELDS =
+            List.of(SIGN_UP_STATUS_FIELD, SIGN_UP_ROLE_FIELD, SIGN_UP_PROFILE_ID_FIELD);
+    public static final String PENDING_SIGN_UP_STATUS = "PENDING";
+    public static final String SIGN_UP_METRIC = "sign.up";
+    public static final String SIGN_UP_STEP_METRIC = "sign.up.step";
+    public static final String SIGN_UP_SWEEPER_METRIC = "sign.up.sweeper";
+    public static final String CREATE_USER_STEP = "create-user";
+    public static final String CREATE_PROFILE_STEP = "create-profile";
+    public static final String FIND_ROLE_STEP = "find-role";
+    public static final String ASSIGN_ROLE_STEP = "assign-role";
+    public static final String RECORD_PROFILE_STEP = "record-profile";
+    public static final String DELETE_PROFILE_STEP = "delete-profile";
+    public static final String DELETE_USER_STEP = "delete-user";
+    public static final String SUCCESS_OUTCOME = "success";
+    public static final String FAILURE_OUTCOME = "failure";
 }
@@ -0,0 +1,64 @@
+package com.example.registrationservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.representations.AccessTokenResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Holds the access token of the admin client. A scheduled check grants a new token
+ * {@code keycloak.admin-token.refresh-ahead} before the current one expires, so sign-ups and the admin
+ * client itself, which shares the token, do not wait for Keycloak to issue one. A token is only granted
+ * on the request path when there is no valid one, e.g. right after start or while Keycloak was down.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminTokenHolder {
+
+    private final Keycloak keycloak;
+
+    @Value("${keycloak.admin-token.refresh-ahead}")
+    private Duration refreshAhead;
+
+    private volatile AdminToken token;
+
+    public String getAccessToken() {
+        AdminToken current = token;
+        if (current == null || current.expiresAt() <= System.currentTimeMillis()) {
+            current = refresh(System.currentTimeMillis());
+        }
+        return current.value();
+    }
+
+    @Scheduled(fixedDelayString = "${keycloak.admin-token.check-interval}")
+    public void refreshBeforeExpiry() {
+        try {
+            refresh(System.currentTimeMillis() + refreshAhead.toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh the admin token, will retry: {}", e.getMessage());
+        }
+    }
+
+    private synchronized AdminToken refresh(long validUntil) {
+        AdminToken current = token;
+        if (current != null && current.expiresAt() > validUntil) {
+            return current;
+        }
+
+        long requestedAt = System.currentTimeMillis();
+        AccessTokenResponse response = keycloak.tokenManager().grantToken();
+        AdminToken granted = new AdminToken(response.getToken(),
+                requestedAt + Duration.ofSeconds(response.getExpiresIn()).toMillis());
+        token = granted;
+        return granted;
+    }
+
+    private record AdminToken(String value, long expiresAt) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.registrationservice.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.ws.rs.core.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.UserResource;
+import org.keycloak.admin.client.resource.UsersResource;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.registrationservice.constants.ServiceConstants.DRIVER_ROLE;
+import static com.example.registrationservice.constants.ServiceConstants.PASSENGER_ROLE;
+import static com.example.registrationservice.constants.ServiceConstants.PENDING_SIGN_UP_STATUS;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_FIELDS;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_PROFILE_ID_FIELD;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_ROLE_FIELD;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_STATUS_FIELD;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_SWEEPER_METRIC;
+
+/**
+ * Settles users that are still marked as pending some time after their sign-up started. A user that
+ * got its role finished the saga and only loses the sign-up attributes, any other user belongs to a
+ * sign-up that failed or was interrupted and is deleted together with the profile recorded on it. The
+ * user is kept while its profile can't be deleted, so the next sweep can try again.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PendingSignUpSweeper {
+    private static final Set<String> SIGN_UP_ROLES = Set.of(PASSENGER_ROLE, DRIVER_ROLE);
+
+    private final Keycloak keycloak;
+    private final ProfileService profileService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${keycloak.realm}")
+    private String realm;
+
+    @Value("${sign-up.sweeper.batch-size}")
+    private int batchSize;
+
+    @Value("${sign-up.sweeper.pending-timeout}")
+    private Duration pendingTimeout;
+
+    @Scheduled(fixedDelayString = "${sign-up.sweeper.poll-interval}")
+    public void sweep() {
+        UsersResource usersResource = keycloak.realm(realm).users();
+        List<UserRepresentation> users;
+        try {
+            users = usersResource.searchByAttributes(0, batchSize, null, false,
+                    SIGN_UP_STATUS_FIELD + ":" + PENDING_SIGN_UP_STATUS);
+        } catch (RuntimeException e) {
+            log.warn("Failed to look up pending sign-ups, will retry: {}", e.getMessage());
+            return;
+        }
+
+        long startedBefore = System.currentTimeMillis() - pendingTimeout.toMillis();
+        for (UserRepresentation user : users) {
+            if (user.getCreatedTimestamp() == null || user.getCreatedTimestamp() > startedBefore) {
+                continue;
+            }
+            try {
+                settle(usersResource, user);
+            } catch (RuntimeException e) {
+                log.warn("Failed to settle pending sign-up of user {}, will retry: {}", user.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void settle(UsersResource usersResource, UserRepresentation user) {
+        UserResource userResource = usersResource.get(user.getId());
+        boolean completed = userResource.roles().realmLevel().listAll().stream()
+                .anyMatch(role -> SIGN_UP_ROLES.contains(role.getName()));
+
+        if (completed) {
+            SIGN_UP_FIELDS.forEach(user.getAttributes()::remove);
+            userResource.update(user);
+        } else {
+            String profileId = getAttribute(user, SIGN_UP_PROFILE_ID_FIELD);
+            if (profileId != null) {
+                profileService.deleteProfile(getAttribute(user, SIGN_UP_ROLE_FIELD), Long.valueOf(profileId));
+                log.info("Deleted profile {} of an unfinished sign-up of user {}", profileId, user.getId());
+            }
+            try (Response response = usersResource.delete(user.getId())) {
+                log.info("Deleted user {} of an unfinished sign-up, Keycloak answered {}",
+                        user.getId(), response.getStatus());
+            }
+        }
+        meterRegistry.counter(SIGN_UP_SWEEPER_METRIC, "result", completed ? "completed" : "deleted").increment();
+    }
+
+    private static String getAttribute(UserRepresentation user, String name) {
+        List<String> values = user.getAttributes().get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.registrationservice.service;
+
+import com.example.exceptionhandlerstarter.keycloak.ClientException;
+import com.example.registrationservice.client.DriverClient;
+import com.example.registrationservice.client.PassengerClient;
+import com.example.registrationservice.dto.create.SignUpDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import static com.example.registrationservice.constants.AppConstants.BEARER_PREFIX;
+import static com.example.registrationservice.constants.ServiceConstants.DRIVER_ROLE;
+import static com.example.registrationservice.constants.ServiceConstants.PASSENGER_ROLE;
+
+/**
+ * Creates and removes the driver or passenger profile of a user on behalf of the admin client.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProfileService {
+
+    private final AdminTokenHolder adminTokenHolder;
+    private final DriverClient driverClient;
+    private final PassengerClient passengerClient;
+
+    /**
+     * @return id of the created profile or {@code null} when the role has no profile
+     */
+    public Long createProfile(SignUpDto dto, MultipartFile file) {
+        String authorization = BEARER_PREFIX + adminTokenHolder.getAccessToken();
+        if (PASSENGER_ROLE.equals(dto.role().name())) {
+            return passengerClient.createPassenger(dto, file, authorization).id();
+        } else if (DRIVER_ROLE.equals(dto.role().name())) {
+            return driverClient.createDriver(dto, file, authorization).id();
+        }
+        return null;
+    }
+
+    /**
+     * Marks the profile as deleted, a profile that is already gone counts as deleted.
+     */
+    public void deleteProfile(String role, Long id) {
+        String authorization = BEARER_PREFIX + adminTokenHolder.getAccessToken();
+        try {
+            if (PASSENGER_ROLE.equals(role)) {
+                passengerClient.deletePassenger(id, authorization);
+            } else if (DRIVER_ROLE.equals(role)) {
+                driverClient.deleteDriver(id, authorization);
+            }
+        } catch (ClientException e) {
+            if (e.getExceptionDto() == null || e.getExceptionDto().status() != HttpStatus.NOT_FOUND) {
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.registrationservice.service;
+
+import jakarta.ws.rs.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Realm roles by name. A role is read from Keycloak the first time it is needed and re-read every
+ * {@code keycloak.role-cache.refresh-interval}. A role that was deleted is dropped, a refresh that
+ * failed for any other reason keeps the previous representation.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RealmRoleCache {
+
+    private final Keycloak keycloak;
+    private final Map<String, RoleRepresentation> roles = new ConcurrentHashMap<>();
+
+    @Value("${keycloak.realm}")
+    private String realm;
+
+    public RoleRepresentation getRole(String name) {
+        RoleRepresentation role = roles.get(name);
+        if (role == null) {
+            role = loadRole(name);
+            roles.put(name, role);
+        }
+        return role;
+    }
+
+    @Scheduled(fixedDelayString = "${keycloak.role-cache.refresh-interval}")
+    public void refresh() {
+        for (String name : roles.keySet()) {
+            try {
+                roles.put(name, loadRole(name));
+            } catch (NotFoundException e) {
+                roles.remove(name);
+                log.warn("Role {} no longer exists and was dropped from the cache", name);
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh role {}, the cached one is kept: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    private RoleRepresentation loadRole(String name) {
+        return keycloak.realm(realm).roles().get(name).toRepresentation();
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.registrationservice.service;
+
+import com.example.exceptionhandlerstarter.dto.ExceptionDto;
+import com.example.exceptionhandlerstarter.keycloak.KeycloakException;
+import com.example.registrationservice.dto.create.SignUpDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.keycloak.admin.client.CreatedResponseUtil;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.UsersResource;
+import org.keycloak.representations.idm.CredentialRepresentation;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static com.example.registrationservice.constants.ServiceConstants.ASSIGN_ROLE_STEP;
+import static com.example.registrationservice.constants.ServiceConstants.CREATE_PROFILE_STEP;
+import static com.example.registrationservice.constants.ServiceConstants.CREATE_USER_STEP;
+import static com.example.registrationservice.constants.ServiceConstants.DELETE_PROFILE_STEP;
+import static com.example.registrationservice.constants.ServiceConstants.DELETE_USER_STEP;
+import static com.example.registrationservice.constants.ServiceConstants.FAILURE_OUTCOME;
+import static com.example.registrationservice.constants.ServiceConstants.FIND_ROLE_STEP;
+import static com.example.registrationservice.constants.ServiceConstants.GENDER_FIELD;
+import static com.example.registrationservice.constants.ServiceConstants.PENDING_SIGN_UP_STATUS;
+import static com.example.registrationservice.constants.ServiceConstants.PHONE_FIELD;
+import static com.example.registrationservice.constants.ServiceConstants.RECORD_PROFILE_STEP;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_FIELDS;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_METRIC;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_PROFILE_ID_FIELD;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_ROLE_FIELD;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_STATUS_FIELD;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_STEP_METRIC;
+import static com.example.registrationservice.constants.ServiceConstants.SUCCESS_OUTCOME;
+
+/**
+ * Runs a sign-up as a saga. The Keycloak user is created first and marked as pending, then the profile
+ * is created in the driver or passenger service on a virtual thread while the realm role is taken from
+ * {@link RealmRoleCache}, and the role is assigned once both are done. The id of a created profile is
+ * recorded on the user, so that the profile can be found again after a crash. When a step fails the
+ * profile and then the user are deleted, whatever could not be deleted keeps the pending mark and is
+ * settled later by {@link PendingSignUpSweeper}. The whole sign-up and every step are timed as
+ * {@code sign.up} and {@code sign.up.step}.
+ */
+@Slf4j
+@Service
+public class SignUpSaga {
+
+    private final Keycloak keycloak;
+    private final RealmRoleCache realmRoleCache;
+    private final ProfileService profileService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String realm;
+    private final ExecutorService executor;
+
+    public SignUpSaga(Keycloak keycloak,
+                      RealmRoleCache realmRoleCache,
+                      ProfileService profileService,
+                      ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${keycloak.realm}") String realm) {
+        this.keycloak = keycloak;
+        this.realmRoleCache = realmRoleCache;
+        this.profileService = profileService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.realm = realm;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sign-up-", 0).factory());
+    }
+
+    public UserRepresentation signUp(SignUpDto dto, MultipartFile file) {
+        return timed(SIGN_UP_METRIC, null, () -> run(dto, file));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private UserRepresentation run(SignUpDto dto, MultipartFile file) {
+        UsersResource usersResource = keycloak.realm(realm).users();
+        UserRepresentation user = getUserRepresentation(dto);
+        String userId = step(CREATE_USER_STEP, () -> createUser(usersResource, user));
+        String roleName = dto.role().name();
+        AtomicReference<Long> createdProfileId = new AtomicReference<>();
+        AtomicBoolean profileRecorded = new AtomicBoolean();
+
+        try {
+            CompletableFuture<Void> profile = async(CREATE_PROFILE_STEP, () -> profileService.createProfile(dto, file))
+                    .thenAccept(profileId -> {
+                        createdProfileId.set(profileId);
+                        if (profileId != null) {
+                            step(RECORD_PROFILE_STEP, () -> recordProfile(usersResource, userId, user, profileId));
+                            profileRecorded.set(true);
+                        }
+                    });
+            CompletableFuture<RoleRepresentation> role = async(FIND_ROLE_STEP, () -> realmRoleCache.getRole(roleName));
+            CompletableFuture.allOf(profile, role).join();
+
+            step(ASSIGN_ROLE_STEP, () -> {
+                usersResource.get(userId).roles().realmLevel().add(List.of(role.join()));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            compensate(usersResource, userId, user, roleName, createdProfileId.get(), profileRecorded.get());
+            throw unwrap(e);
+        }
+
+        user.setId(userId);
+        user.setCredentials(null);
+        SIGN_UP_FIELDS.forEach(user.getAttributes()::remove);
+        return user;
+    }
+
+    private String createUser(UsersResource usersResource, UserRepresentation user) {
+        try (Response response = usersResource.create(user)) {
+            if (response.getStatus() != HttpStatus.CREATED.value()) {
+                throw new KeycloakException(objectMapper.readValue(readResponseBody(response), ExceptionDto.class));
+            }
+            return CreatedResponseUtil.getCreatedId(response);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Void recordProfile(UsersResource usersResource, String userId, UserRepresentation user, Long profileId) {
+        UserRepresentation update = new UserRepresentation();
+        update.setUsername(user.getUsername());
+        update.setFirstName(user.getFirstName());
+        update.setLastName(user.getLastName());
+        update.setEmail(user.getEmail());
+        update.setEnabled(user.isEnabled());
+        update.setEmailVerified(user.isEmailVerified());
+        Map<String, List<String>> attributes = new HashMap<>(user.getAttributes());
+        attributes.put(SIGN_UP_PROFILE_ID_FIELD, List.of(profileId.toString()));
+        update.setAttributes(attributes);
+        usersResource.get(userId).update(update);
+        return null;
+    }
+
+    /**
+     * Undoes the completed steps in reverse order. The user is only deleted once its profile is gone, a
+     * profile that could not be deleted stays recorded on the pending user for the sweeper.
+     */
+    private void compensate(UsersResource usersResource, String userId, UserRepresentation user,
+                            String roleName, Long profileId, boolean profileRecorded) {
+        if (profileId != null) {
+            try {
+                step(DELETE_PROFILE_STEP, () -> {
+                    profileService.deleteProfile(roleName, profileId);
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                log.error("Failed to delete profile {} of user {} of a failed sign-up, both are left to the sweeper: {}",
+                        profileId, userId, e.getMessage());
+                if (!profileRecorded) {
+                    try {
+                        recordProfile(usersResource, userId, user, profileId);
+                    } catch (RuntimeException recordException) {
+                        log.error("Failed to record profile {} on user {}: {}",
+                                profileId, userId, recordException.getMessage());
+                    }
+                }
+                return;
+            }
+        }
+        deleteUser(usersResource, userId);
+    }
+
+    private void deleteUser(UsersResource usersResource, String userId) {
+        try {
+            step(DELETE_USER_STEP, () -> {
+                try (Response response = usersResource.delete(userId)) {
+                    if (response.getStatus() >= HttpStatus.BAD_REQUEST.value()
+                            && response.getStatus() != HttpStatus.NOT_FOUND.value()) {
+                        throw new IllegalStateException("Keycloak answered " + response.getStatus());
+                    }
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to delete user {} of a failed sign-up, it is left to the sweeper: {}",
+                    userId, e.getMessage());
+        }
+    }
+
+    private <T> CompletableFuture<T> async(String step, Supplier<T> action) {
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        return CompletableFuture.supplyAsync(() -> {
+            LocaleContextHolder.setLocaleContext(localeContext);
+            try {
+                return step(step, action);
+            } finally {
+                LocaleContextHolder.resetLocaleContext();
+            }
+        }, executor);
+    }
+
+    private <T> T step(String step, Supplier<T> action) {
+        return timed(SIGN_UP_STEP_METRIC, step, action);
+    }
+
+    private <T> T timed(String metric, String step, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = FAILURE_OUTCOME;
+        try {
+            T result = action.get();
+            outcome = SUCCESS_OUTCOME;
+            return result;
+        } finally {
+            Timer.Builder timer = Timer.builder(metric).tag("outcome", outcome);
+            if (step != null) {
+                timer.tag("step", step);
+            }
+            sample.stop(timer.register(meterRegistry));
+        }
+    }
+
+    private static RuntimeException unwrap(RuntimeException e) {
+        if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return e;
+    }
+
+    private static UserRepresentation getUserRepresentation(SignUpDto signUpDto) {
+        UserRepresentation user = new UserRepresentation();
+        CredentialRepresentation credential = new CredentialRepresentation();
+
+        credential.setType(CredentialRepresentation.PASSWORD);
+        credential.setValue(signUpDto.password());
+        credential.setTemporary(false);
+
+        Map<String, List<String>> attributes = new HashMap<>();
+        attributes.put(GENDER_FIELD, List.of(signUpDto.gender().name()));
+        attributes.put(PHONE_FIELD, List.of(signUpDto.phone()));
+        attributes.put(SIGN_UP_STATUS_FIELD, List.of(PENDING_SIGN_UP_STATUS));
+        attributes.put(SIGN_UP_ROLE_FIELD, List.of(signUpDto.role().name()));
+
+        user.setUsername(signUpDto.username());
+        user.setFirstName(signUpDto.firstName());
+        user.setLastName(signUpDto.lastName());
+        user.setEmail(signUpDto.email());
+        user.setCredentials(List.of(credential));
+        user.setEnabled(true);
+        user.setEmailVerified(true);
+        user.setAttributes(attributes);
+
+        return user;
+    }
+
+    private static String readResponseBody(Response response) {
+        if (response.hasEntity()) {
+            return response.readEntity(String.class);
+        }
+        return "";
+    }
+}
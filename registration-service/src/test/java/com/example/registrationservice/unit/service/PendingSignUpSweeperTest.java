@@ -0,0 +1,175 @@
+package com.example.registrationservice.unit.service;
+
+import com.example.registrationservice.service.PendingSignUpSweeper;
+import com.example.registrationservice.service.ProfileService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.RealmResource;
+import org.keycloak.admin.client.resource.RoleMappingResource;
+import org.keycloak.admin.client.resource.RoleScopeResource;
+import org.keycloak.admin.client.resource.UserResource;
+import org.keycloak.admin.client.resource.UsersResource;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.registrationservice.constants.ServiceConstants.PENDING_SIGN_UP_STATUS;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_FIELDS;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_PROFILE_ID_FIELD;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_ROLE_FIELD;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_STATUS_FIELD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PendingSignUpSweeperTest {
+    private static final String REALM = "taxi_realm";
+    private static final String USER_ID = "d2b1c1c4-0a5e-4f4e-9d55-2f8b1b0f4e11";
+    private static final int BATCH_SIZE = 50;
+    private static final Duration PENDING_TIMEOUT = Duration.ofMinutes(5);
+    private static final String PENDING_QUERY = SIGN_UP_STATUS_FIELD + ":" + PENDING_SIGN_UP_STATUS;
+    private static final String ROLE_NAME = "PASSENGER";
+
+    @Mock
+    private Keycloak keycloak;
+
+    @Mock
+    private RealmResource realmResource;
+
+    @Mock
+    private UsersResource usersResource;
+
+    @Mock
+    private UserResource userResource;
+
+    @Mock
+    private RoleMappingResource roleMappingResource;
+
+    @Mock
+    private RoleScopeResource roleScopeResource;
+
+    @Mock
+    private ProfileService profileService;
+
+    private PendingSignUpSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new PendingSignUpSweeper(keycloak, profileService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(sweeper, "realm", REALM);
+        ReflectionTestUtils.setField(sweeper, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(sweeper, "pendingTimeout", PENDING_TIMEOUT);
+
+        when(keycloak.realm(REALM)).thenReturn(realmResource);
+        when(realmResource.users()).thenReturn(usersResource);
+    }
+
+    @Test
+    void sweep_whenUserGotRole_thenRemovesSignUpFields() {
+        UserRepresentation user = getPendingUser(PENDING_TIMEOUT.multipliedBy(2), "5");
+        mockPendingUsers(user);
+        mockRealmRoles(List.of(new RoleRepresentation(ROLE_NAME, null, false)));
+
+        sweeper.sweep();
+
+        verify(userResource).update(user);
+        assertThat(user.getAttributes()).doesNotContainKeys(SIGN_UP_FIELDS.toArray(String[]::new));
+        verifyNoInteractions(profileService);
+        verify(usersResource, never()).delete(anyString());
+    }
+
+    @Test
+    void sweep_whenUserHasNoRole_thenDeletesProfileAndThenUser() {
+        mockPendingUsers(getPendingUser(PENDING_TIMEOUT.multipliedBy(2), "5"));
+        mockRealmRoles(List.of());
+        when(usersResource.delete(USER_ID)).thenReturn(Response.noContent().build());
+
+        sweeper.sweep();
+
+        InOrder inOrder = inOrder(profileService, usersResource);
+        inOrder.verify(profileService).deleteProfile(ROLE_NAME, 5L);
+        inOrder.verify(usersResource).delete(USER_ID);
+    }
+
+    @Test
+    void sweep_whenUserHasNoRoleAndNoProfile_thenDeletesUser() {
+        mockPendingUsers(getPendingUser(PENDING_TIMEOUT.multipliedBy(2), null));
+        mockRealmRoles(List.of());
+        when(usersResource.delete(USER_ID)).thenReturn(Response.noContent().build());
+
+        sweeper.sweep();
+
+        verifyNoInteractions(profileService);
+        verify(usersResource).delete(USER_ID);
+    }
+
+    @Test
+    void sweep_whenProfileDeletionFails_thenKeepsUser() {
+        mockPendingUsers(getPendingUser(PENDING_TIMEOUT.multipliedBy(2), "5"));
+        mockRealmRoles(List.of());
+        doThrow(new RuntimeException("passenger service is down"))
+                .when(profileService).deleteProfile(ROLE_NAME, 5L);
+
+        sweeper.sweep();
+
+        verify(usersResource, never()).delete(anyString());
+    }
+
+    @Test
+    void sweep_whenSignUpIsYoungerThanTimeout_thenSkipsUser() {
+        mockPendingUsers(getPendingUser(Duration.ofSeconds(10), "5"));
+
+        sweeper.sweep();
+
+        verify(usersResource, never()).get(anyString());
+        verify(usersResource, never()).delete(anyString());
+        verify(profileService, never()).deleteProfile(anyString(), anyLong());
+    }
+
+    private void mockPendingUsers(UserRepresentation... users) {
+        when(usersResource.searchByAttributes(0, BATCH_SIZE, null, false, PENDING_QUERY))
+                .thenReturn(List.of(users));
+    }
+
+    private void mockRealmRoles(List<RoleRepresentation> roles) {
+        when(usersResource.get(USER_ID)).thenReturn(userResource);
+        when(userResource.roles()).thenReturn(roleMappingResource);
+        when(roleMappingResource.realmLevel()).thenReturn(roleScopeResource);
+        when(roleScopeResource.listAll()).thenReturn(roles);
+    }
+
+    private static UserRepresentation getPendingUser(Duration age, String profileId) {
+        Map<String, List<String>> attributes = new HashMap<>();
+        attributes.put(SIGN_UP_STATUS_FIELD, List.of(PENDING_SIGN_UP_STATUS));
+        attributes.put(SIGN_UP_ROLE_FIELD, List.of(ROLE_NAME));
+        if (profileId != null) {
+            attributes.put(SIGN_UP_PROFILE_ID_FIELD, List.of(profileId));
+        }
+
+        UserRepresentation user = new UserRepresentation();
+        user.setId(USER_ID);
+        user.setCreatedTimestamp(System.currentTimeMillis() - age.toMillis());
+        user.setAttributes(attributes);
+        return user;
+    }
+}
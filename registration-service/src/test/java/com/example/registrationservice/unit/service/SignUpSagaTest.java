@@ -0,0 +1,172 @@
+package com.example.registrationservice.unit.service;
+
+import com.example.registrationservice.dto.create.SignUpDto;
+import com.example.registrationservice.enumeration.Gender;
+import com.example.registrationservice.enumeration.Role;
+import com.example.registrationservice.service.ProfileService;
+import com.example.registrationservice.service.RealmRoleCache;
+import com.example.registrationservice.service.SignUpSaga;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.RealmResource;
+import org.keycloak.admin.client.resource.RoleMappingResource;
+import org.keycloak.admin.client.resource.RoleScopeResource;
+import org.keycloak.admin.client.resource.UserResource;
+import org.keycloak.admin.client.resource.UsersResource;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.util.List;
+
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_FIELDS;
+import static com.example.registrationservice.constants.ServiceConstants.SIGN_UP_PROFILE_ID_FIELD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SignUpSagaTest {
+    private static final String REALM = "taxi_realm";
+    private static final String USER_ID = "d2b1c1c4-0a5e-4f4e-9d55-2f8b1b0f4e11";
+    private static final Long PROFILE_ID = 5L;
+    private static final String ROLE_NAME = Role.PASSENGER.name();
+
+    @Mock
+    private Keycloak keycloak;
+
+    @Mock
+    private RealmResource realmResource;
+
+    @Mock
+    private UsersResource usersResource;
+
+    @Mock
+    private UserResource userResource;
+
+    @Mock
+    private RoleMappingResource roleMappingResource;
+
+    @Mock
+    private RoleScopeResource roleScopeResource;
+
+    @Mock
+    private RealmRoleCache realmRoleCache;
+
+    @Mock
+    private ProfileService profileService;
+
+    private final RoleRepresentation role = new RoleRepresentation(ROLE_NAME, null, false);
+    private final SignUpDto signUpDto = new SignUpDto("john", "John", "Doe", "john@mail.com", "password",
+            "+375291234567", Gender.MALE, Role.PASSENGER, null);
+
+    private SignUpSaga signUpSaga;
+
+    @BeforeEach
+    void setUp() {
+        signUpSaga = new SignUpSaga(keycloak, realmRoleCache, profileService,
+                new ObjectMapper(), new SimpleMeterRegistry(), REALM);
+
+        when(keycloak.realm(REALM)).thenReturn(realmResource);
+        when(realmResource.users()).thenReturn(usersResource);
+        when(usersResource.create(any())).thenReturn(Response.created(URI.create("/users/" + USER_ID)).build());
+        lenient().when(usersResource.get(USER_ID)).thenReturn(userResource);
+        lenient().when(usersResource.delete(USER_ID)).thenReturn(Response.noContent().build());
+        lenient().when(userResource.roles()).thenReturn(roleMappingResource);
+        lenient().when(roleMappingResource.realmLevel()).thenReturn(roleScopeResource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        signUpSaga.shutdown();
+    }
+
+    @Test
+    void signUp_whenAllStepsSucceed_thenRecordsProfileAndReturnsUserWithoutSignUpFields() {
+        when(profileService.createProfile(signUpDto, null)).thenReturn(PROFILE_ID);
+        when(realmRoleCache.getRole(ROLE_NAME)).thenReturn(role);
+
+        UserRepresentation user = signUpSaga.signUp(signUpDto, null);
+
+        assertThat(user.getId()).isEqualTo(USER_ID);
+        assertThat(user.getCredentials()).isNull();
+        assertThat(user.getAttributes()).doesNotContainKeys(SIGN_UP_FIELDS.toArray(String[]::new));
+        verify(userResource).update(argThat(update ->
+                List.of(PROFILE_ID.toString()).equals(update.getAttributes().get(SIGN_UP_PROFILE_ID_FIELD))));
+        verify(roleScopeResource).add(List.of(role));
+        verify(profileService, never()).deleteProfile(anyString(), anyLong());
+        verify(usersResource, never()).delete(anyString());
+    }
+
+    @Test
+    void signUp_whenProfileCreationFails_thenDeletesUser() {
+        RuntimeException failure = new RuntimeException("passenger service is down");
+        when(profileService.createProfile(signUpDto, null)).thenThrow(failure);
+        when(realmRoleCache.getRole(ROLE_NAME)).thenReturn(role);
+
+        assertThatThrownBy(() -> signUpSaga.signUp(signUpDto, null)).isSameAs(failure);
+
+        verify(profileService, never()).deleteProfile(anyString(), anyLong());
+        verify(usersResource).delete(USER_ID);
+    }
+
+    @Test
+    void signUp_whenRoleAssignmentFailsAfterProfileCreated_thenDeletesProfileAndThenUser() {
+        RuntimeException failure = new RuntimeException("keycloak is down");
+        when(profileService.createProfile(signUpDto, null)).thenReturn(PROFILE_ID);
+        when(realmRoleCache.getRole(ROLE_NAME)).thenReturn(role);
+        doThrow(failure).when(roleScopeResource).add(List.of(role));
+
+        assertThatThrownBy(() -> signUpSaga.signUp(signUpDto, null)).isSameAs(failure);
+
+        InOrder inOrder = inOrder(profileService, usersResource);
+        inOrder.verify(profileService).deleteProfile(ROLE_NAME, PROFILE_ID);
+        inOrder.verify(usersResource).delete(USER_ID);
+    }
+
+    @Test
+    void signUp_whenRoleLookupFailsAfterProfileCreated_thenDeletesProfileAndThenUser() {
+        RuntimeException failure = new RuntimeException("role not found");
+        when(profileService.createProfile(signUpDto, null)).thenReturn(PROFILE_ID);
+        when(realmRoleCache.getRole(ROLE_NAME)).thenThrow(failure);
+
+        assertThatThrownBy(() -> signUpSaga.signUp(signUpDto, null)).isSameAs(failure);
+
+        InOrder inOrder = inOrder(profileService, usersResource);
+        inOrder.verify(profileService).deleteProfile(ROLE_NAME, PROFILE_ID);
+        inOrder.verify(usersResource).delete(USER_ID);
+    }
+
+    @Test
+    void signUp_whenProfileDeletionFails_thenKeepsUserForSweeper() {
+        RuntimeException failure = new RuntimeException("role not found");
+        when(profileService.createProfile(signUpDto, null)).thenReturn(PROFILE_ID);
+        when(realmRoleCache.getRole(ROLE_NAME)).thenThrow(failure);
+        doThrow(new RuntimeException("passenger service is down"))
+                .when(profileService).deleteProfile(ROLE_NAME, PROFILE_ID);
+
+        assertThatThrownBy(() -> signUpSaga.signUp(signUpDto, null)).isSameAs(failure);
+
+        verify(userResource).update(argThat(update ->
+                List.of(PROFILE_ID.toString()).equals(update.getAttributes().get(SIGN_UP_PROFILE_ID_FIELD))));
+        verify(usersResource, never()).delete(anyString());
+    }
+}
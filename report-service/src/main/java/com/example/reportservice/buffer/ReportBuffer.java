@@ -0,0 +1,23 @@
+package com.example.reportservice.buffer;
+
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+public class ReportBuffer extends ByteArrayOutputStream implements InputStreamSource {
+
+    public ReportBuffer(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+
+    public int capacity() {
+        return buf.length;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.reportservice.buffer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+@Component
+public class ReportBufferPool {
+    private final Queue<ReportBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final Semaphore available;
+    private final int initialCapacity;
+    private final int maxRetainedCapacity;
+
+    public ReportBufferPool(@Value("${app.report-buffer.pool-size}") int poolSize,
+                            @Value("${app.report-buffer.initial-capacity}") int initialCapacity,
+                            @Value("${app.report-buffer.max-retained-capacity}") int maxRetainedCapacity) {
+        this.available = new Semaphore(poolSize);
+        this.initialCapacity = initialCapacity;
+        this.maxRetainedCapacity = maxRetainedCapacity;
+    }
+
+    public ReportBuffer acquire() {
+        available.acquireUninterruptibly();
+        ReportBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : new ReportBuffer(initialCapacity);
+    }
+
+    public void release(ReportBuffer buffer) {
+        if (buffer.capacity() <= maxRetainedCapacity) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+        available.release();
+    }
+}
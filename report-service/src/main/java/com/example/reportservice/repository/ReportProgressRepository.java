@@ -0,0 +1,68 @@
+package com.example.reportservice.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public class ReportProgressRepository {
+
+    @Value("${app.report-scheduler.progress-file}")
+    private Path progressFile;
+
+    private BufferedWriter writer;
+
+    public synchronized Set<Long> findCompleted() {
+        if (!Files.exists(progressFile)) {
+            return new HashSet<>();
+        }
+        try {
+            List<String> lines = Files.readAllLines(progressFile, StandardCharsets.UTF_8);
+            Set<Long> completed = new HashSet<>(lines.size() * 2);
+            for (String line : lines) {
+                if (!line.isBlank()) {
+                    completed.add(Long.parseLong(line.strip()));
+                }
+            }
+            return completed;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading report progress: " + e.getMessage(), e);
+        }
+    }
+
+    public synchronized void markCompleted(long driverId) {
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(progressFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(Long.toString(driverId));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error saving report progress: " + e.getMessage(), e);
+        }
+    }
+
+    public synchronized void clear() {
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+            Files.deleteIfExists(progressFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error clearing report progress: " + e.getMessage(), e);
+        }
+    }
+}
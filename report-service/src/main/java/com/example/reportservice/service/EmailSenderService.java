@@ -1,31 +1,34 @@
 package com.example.reportservice.service;
 
+import com.example.reportservice.buffer.ReportBuffer;
+import com.example.reportservice.buffer.ReportBufferPool;
 import com.example.reportservice.client.DriverClient;
+import com.example.reportservice.client.RideClient;
 import com.example.reportservice.dto.DriverReadDto;
+import com.example.reportservice.dto.RideReadDto;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailSenderService {
+    private static final String REPORT_CONTENT_TYPE = "application/pdf";
 
     private final JavaMailSender mailSender;
     private final PDFGeneratorService pdfGeneratorService;
     private final DriverClient driverClient;
+    private final RideClient rideClient;
+    private final ReportBufferPool reportBufferPool;
 
     @Value("${sender.address}")
     private String toAddress;
@@ -33,40 +36,30 @@ public class EmailSenderService {
     @Value("${sender.subject}")
     private String subject;
 
-    @Scheduled(fixedDelayString = "PT${app.report-scheduler.interval}")
-    public void sendReportForAllDrivers() {
-        List<DriverReadDto> drivers = driverClient.findFullList();
-        for (DriverReadDto driver : drivers) {
-            sendReportByDriverId(driver.id());
-        }
-    }
-
     public void sendReportByDriverId(Long driverId) {
         DriverReadDto driver = driverClient.findById(driverId);
-        sendReport(driver);
+        List<RideReadDto> rides = rideClient.findTop100ByDriverId(driverId);
+        ReportBuffer report = reportBufferPool.acquire();
+        try {
+            pdfGeneratorService.writePDFForDriver(driver, rides, report);
+            sendReport(driver, report);
+        } finally {
+            reportBufferPool.release(report);
+        }
     }
 
-    private void sendReport(DriverReadDto driver) {
+    public void sendReport(DriverReadDto driver, InputStreamSource report) {
         try {
-            byte[] pdfBytes = pdfGeneratorService.generatePDFForDriver(driver);
-
-            Path tempFile = Files.createTempFile("report-", ".pdf");
-            Files.write(tempFile, pdfBytes);
-
             MimeMessage mimeMessage = mailSender.createMimeMessage();
             MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, true);
             mimeMessageHelper.setTo(toAddress);
             mimeMessageHelper.setSubject(subject);
             mimeMessageHelper.setText("Report");
 
-            mimeMessageHelper.addAttachment(tempFile.getFileName().toString(), new FileSystemResource(tempFile));
+            mimeMessageHelper.addAttachment("report-" + driver.id() + ".pdf", report, REPORT_CONTENT_TYPE);
             mailSender.send(mimeMessage);
-
-            Files.deleteIfExists(tempFile);
         } catch (MessagingException e) {
             throw new RuntimeException("Error sending email: " + e.getMessage(), e);
-        } catch (IOException e) {
-            throw new RuntimeException("I/O error while reading response: " + e.getMessage(), e);
         }
     }
 }
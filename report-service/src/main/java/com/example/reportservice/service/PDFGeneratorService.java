@@ -1,6 +1,5 @@
 package com.example.reportservice.service;
 
-import com.example.reportservice.client.RideClient;
 import com.example.reportservice.dto.DriverReadDto;
 import com.example.reportservice.dto.RideReadDto;
 import com.itextpdf.kernel.pdf.PdfDocument;
@@ -11,9 +10,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import com.itextpdf.kernel.pdf.PdfWriter;
-import java.io.ByteArrayOutputStream;
 import com.itextpdf.layout.Document;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Service
@@ -21,18 +21,16 @@ import java.util.List;
 @Slf4j
 public class PDFGeneratorService {
 
-    private final RideClient rideClient;
-
-    public byte[] generatePDFForDriver(DriverReadDto driver) throws IOException {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    public void writePDFForDriver(DriverReadDto driver, List<RideReadDto> rides, OutputStream outputStream) {
         try (PdfWriter writer = new PdfWriter(outputStream);
              PdfDocument pdfDocument = new PdfDocument(writer);
         Document document = new Document(pdfDocument)) {
         String title = "Report for " + driver.firstName() + " " + driver.lastName();
             addTitleText(document, title);
-            addReport(document, driver.id());
+            addReport(document, rides);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error generating report: " + e.getMessage(), e);
         }
-        return outputStream.toByteArray();
     }
 
     private void addTitleText(Document document, String title) {
@@ -44,9 +42,7 @@ public class PDFGeneratorService {
         document.add(paragraph);
     }
 
-    private void addReport(Document document, Long id) {
-        List<RideReadDto> rides = rideClient.findTop100ByDriverId(id);
-
+    private void addReport(Document document, List<RideReadDto> rides) {
         Table table = new Table(8);
         table.addCell(new Paragraph("ID").setFontSize(15));
         table.addCell(new Paragraph("Driver ID").setFontSize(15));
@@ -0,0 +1,110 @@
+package com.example.reportservice.service;
+
+import com.example.reportservice.buffer.ReportBuffer;
+import com.example.reportservice.buffer.ReportBufferPool;
+import com.example.reportservice.client.DriverClient;
+import com.example.reportservice.client.RideClient;
+import com.example.reportservice.dto.DriverReadDto;
+import com.example.reportservice.dto.RideReadDto;
+import com.example.reportservice.repository.ReportProgressRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportPipelineService {
+
+    private final DriverClient driverClient;
+    private final RideClient rideClient;
+    private final PDFGeneratorService pdfGeneratorService;
+    private final EmailSenderService emailSenderService;
+    private final ReportProgressRepository reportProgressRepository;
+    private final ReportBufferPool reportBufferPool;
+
+    @Value("${app.report-scheduler.max-in-flight}")
+    private Integer maxInFlight;
+
+    @Value("${app.report-scheduler.fetch-concurrency}")
+    private Integer fetchConcurrency;
+
+    @Value("${app.report-scheduler.render-concurrency}")
+    private Integer renderConcurrency;
+
+    @Value("${app.report-scheduler.send-concurrency}")
+    private Integer sendConcurrency;
+
+    @Scheduled(fixedDelayString = "${app.report-scheduler.interval}")
+    public void sendReportForAllDrivers() {
+        List<DriverReadDto> drivers = driverClient.findFullList();
+        Set<Long> completed = reportProgressRepository.findCompleted();
+        log.info("Report run started for {} drivers, {} already sent", drivers.size(), completed.size());
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Semaphore fetchPermits = new Semaphore(fetchConcurrency);
+        Semaphore renderPermits = new Semaphore(renderConcurrency);
+        Semaphore sendPermits = new Semaphore(sendConcurrency);
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (DriverReadDto driver : drivers) {
+                if (completed.contains(driver.id())) {
+                    continue;
+                }
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        List<RideReadDto> rides = withPermit(fetchPermits,
+                                () -> rideClient.findTop100ByDriverId(driver.id()));
+                        ReportBuffer report = reportBufferPool.acquire();
+                        try {
+                            withPermit(renderPermits, () -> {
+                                pdfGeneratorService.writePDFForDriver(driver, rides, report);
+                                return null;
+                            });
+                            withPermit(sendPermits, () -> {
+                                emailSenderService.sendReport(driver, report);
+                                return null;
+                            });
+                        } finally {
+                            reportBufferPool.release(report);
+                        }
+                        reportProgressRepository.markCompleted(driver.id());
+                        sent.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                        log.error("Failed to send report for driver {}: {}", driver.id(), e.getMessage());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        if (failed.get() == 0) {
+            reportProgressRepository.clear();
+        }
+        log.info("Report run finished: {} sent, {} failed", sent.get(), failed.get());
+    }
+
+    private <T> T withPermit(Semaphore permits, Supplier<T> stage) {
+        permits.acquireUninterruptibly();
+        try {
+            return stage.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.reportservice.benchmark;
+
+import com.example.reportservice.buffer.ReportBuffer;
+import com.example.reportservice.buffer.ReportBufferPool;
+import com.example.reportservice.dto.DriverReadDto;
+import com.example.reportservice.dto.RideReadDto;
+import com.example.reportservice.service.PDFGeneratorService;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportAttachmentBenchmark {
+    private final PDFGeneratorService pdfGeneratorService = new PDFGeneratorService();
+    private final Session session = Session.getInstance(new Properties());
+    private final ReportBufferPool reportBufferPool = new ReportBufferPool(1, 64 * 1024, 1024 * 1024);
+
+    private DriverReadDto driver;
+    private List<RideReadDto> rides;
+
+    @Setup
+    public void setUp() {
+        driver = DriverReadDto.builder()
+                .id(1L)
+                .firstName("Ivan")
+                .lastName("Ivanov")
+                .email("ivan@gmail.com")
+                .build();
+        rides = LongStream.rangeClosed(1, 100)
+                .mapToObj(id -> RideReadDto.builder()
+                        .id(id)
+                        .driverId(1L)
+                        .passengerId(id)
+                        .addressFrom("Nezavisimosti " + id)
+                        .addressTo("Pobediteley " + id)
+                        .driverRideStatus("COMPLETED")
+                        .passengerRideStatus("COMPLETED")
+                        .cost(BigDecimal.valueOf(id * 10 + 5, 1))
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public MimeMessage tempFileAttachment() throws IOException, MessagingException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        pdfGeneratorService.writePDFForDriver(driver, rides, outputStream);
+        byte[] pdfBytes = outputStream.toByteArray();
+
+        Path tempFile = Files.createTempFile("report-", ".pdf");
+        try {
+            Files.write(tempFile, pdfBytes);
+            MimeMessage mimeMessage = new MimeMessage(session);
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
+            helper.setText("Report");
+            helper.addAttachment(tempFile.getFileName().toString(), new FileSystemResource(tempFile));
+            mimeMessage.writeTo(OutputStream.nullOutputStream());
+            return mimeMessage;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Benchmark
+    public MimeMessage pooledBufferAttachment() throws IOException, MessagingException {
+        ReportBuffer report = reportBufferPool.acquire();
+        try {
+            pdfGeneratorService.writePDFForDriver(driver, rides, report);
+            MimeMessage mimeMessage = new MimeMessage(session);
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
+            helper.setText("Report");
+            helper.addAttachment("report-1.pdf", report, "application/pdf");
+            mimeMessage.writeTo(OutputStream.nullOutputStream());
+            return mimeMessage;
+        } finally {
+            reportBufferPool.release(report);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReportAttachmentBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
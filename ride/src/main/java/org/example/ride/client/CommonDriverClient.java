@@ -1,10 +1,18 @@
 package org.example.ride.client;
 
+import org.example.ride.dto.create.BatchRequestDto;
 import org.example.ride.dto.read.DriverReadDto;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
 
 public interface CommonDriverClient {
     @GetMapping("/api/v1/drivers/{id}")
     DriverReadDto findById(@PathVariable("id") Long id);
+
+    @PostMapping("/api/v1/drivers/batch")
+    List<DriverReadDto> findByIds(@RequestBody BatchRequestDto dto);
 }
@@ -0,0 +1,130 @@
+package org.example.ride.client.batch;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Aggregates lookups by id that arrive within a short window into one bulk call. A batch is sent
+ * when the window closes or when it reaches {@code maxBatchSize}, ids requested twice in one batch
+ * share a result. Bulk endpoints only require an authenticated caller, so a batch is sent with the
+ * security context of its first caller. Ids missing from the response complete with {@code null}.
+ */
+public class MicroBatcher<T> implements AutoCloseable {
+    private final Function<List<Long>, List<T>> loader;
+    private final ToLongFunction<T> idOf;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Object lock = new Object();
+
+    private Map<Long, CompletableFuture<T>> pending = new LinkedHashMap<>();
+    private SecurityContext pendingContext;
+    private ScheduledFuture<?> pendingFlush;
+
+    public MicroBatcher(String name,
+                        Function<List<Long>, List<T>> loader,
+                        ToLongFunction<T> idOf,
+                        Duration window,
+                        int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+        this.loader = loader;
+        this.idOf = idOf;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(name + "-batcher-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    public CompletableFuture<T> submit(Long id) {
+        Batch<T> full = null;
+        CompletableFuture<T> result;
+        synchronized (lock) {
+            result = pending.get(id);
+            if (result != null) {
+                return result;
+            }
+            result = new CompletableFuture<>();
+            if (pending.isEmpty()) {
+                pendingContext = SecurityContextHolder.getContext();
+                pendingFlush = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+            pending.put(id, result);
+            if (pending.size() >= maxBatchSize) {
+                pendingFlush.cancel(false);
+                full = takePending();
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        executor.close();
+    }
+
+    private void flush() {
+        Batch<T> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    private Batch<T> takePending() {
+        Batch<T> batch = new Batch<>(pending, pendingContext);
+        pending = new LinkedHashMap<>();
+        pendingContext = null;
+        pendingFlush = null;
+        return batch;
+    }
+
+    private void dispatch(Batch<T> batch) {
+        executor.execute(() -> load(batch));
+    }
+
+    private void load(Batch<T> batch) {
+        SecurityContextHolder.setContext(batch.context());
+        try {
+            List<T> loaded = loader.apply(new ArrayList<>(batch.results().keySet()));
+            Map<Long, T> byId = new HashMap<>();
+            for (T value : loaded) {
+                byId.put(idOf.applyAsLong(value), value);
+            }
+            batch.results().forEach((id, result) -> result.complete(byId.get(id)));
+        } catch (RuntimeException e) {
+            batch.results().values().forEach(result -> result.completeExceptionally(e));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private record Batch<T>(Map<Long, CompletableFuture<T>> results, SecurityContext context) {
+    }
+}
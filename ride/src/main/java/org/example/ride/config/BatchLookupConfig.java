@@ -0,0 +1,34 @@
+package org.example.ride.config;
+
+import org.example.ride.client.batch.MicroBatcher;
+import org.example.ride.dto.read.DriverReadDto;
+import org.example.ride.dto.read.PassengerReadDto;
+import org.example.ride.service.DriverClientService;
+import org.example.ride.service.PassengerClientService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class BatchLookupConfig {
+
+    @Value("${batch-lookup.window}")
+    private long window;
+
+    @Value("${batch-lookup.max-size}")
+    private int maxSize;
+
+    @Bean
+    public MicroBatcher<DriverReadDto> driverBatcher(DriverClientService driverClientService) {
+        return new MicroBatcher<>("driver", driverClientService::getDrivers, DriverReadDto::id,
+                Duration.ofMillis(window), maxSize);
+    }
+
+    @Bean
+    public MicroBatcher<PassengerReadDto> passengerBatcher(PassengerClientService passengerClientService) {
+        return new MicroBatcher<>("passenger", passengerClientService::getPassengers, PassengerReadDto::id,
+                Duration.ofMillis(window), maxSize);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.ride.config;
+
+import org.example.ride.dispatch.DriverLocationIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DispatchConfig {
+
+    @Value("${dispatch.cell-size}")
+    private double cellSize;
+
+    @Value("${dispatch.max-radius}")
+    private int maxRadius;
+
+    @Bean
+    public DriverLocationIndex driverLocationIndex() {
+        return new DriverLocationIndex(cellSize, maxRadius);
+    }
+}
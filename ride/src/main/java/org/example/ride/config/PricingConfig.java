@@ -0,0 +1,93 @@
+package org.example.ride.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.ride.dto.create.QuoteRequestDto;
+import org.example.ride.dto.read.QuoteReadDto;
+import org.example.ride.pricing.DemandTracker;
+import org.example.ride.pricing.QuoteSigner;
+import org.example.ride.pricing.SurgeCalculator;
+import org.example.ride.pricing.Tariff;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class PricingConfig {
+
+    @Value("${pricing.base-fare}")
+    private double baseFare;
+
+    @Value("${pricing.per-kilometer}")
+    private double perKilometer;
+
+    @Value("${pricing.per-minute}")
+    private double perMinute;
+
+    @Value("${pricing.minimum-fare}")
+    private double minimumFare;
+
+    @Value("${pricing.route-factor}")
+    private double routeFactor;
+
+    @Value("${pricing.average-speed}")
+    private double averageSpeed;
+
+    @Value("${pricing.surge.window}")
+    private long surgeWindow;
+
+    @Value("${pricing.surge.buckets}")
+    private int surgeBuckets;
+
+    @Value("${pricing.surge.sensitivity}")
+    private double surgeSensitivity;
+
+    @Value("${pricing.surge.max-multiplier}")
+    private double maxSurgeMultiplier;
+
+    @Value("${quote.secret}")
+    private String quoteSecret;
+
+    @Value("${quote.ttl}")
+    private long quoteTtl;
+
+    @Value("${quote.max-size}")
+    private long quoteMaxSize;
+
+    @Bean
+    public Tariff tariff() {
+        return Tariff.builder()
+                .baseFare(baseFare)
+                .perKilometer(perKilometer)
+                .perMinute(perMinute)
+                .minimumFare(minimumFare)
+                .routeFactor(routeFactor)
+                .averageSpeed(averageSpeed)
+                .build();
+    }
+
+    @Bean
+    public DemandTracker demandTracker() {
+        return new DemandTracker(surgeWindow, surgeBuckets);
+    }
+
+    @Bean
+    public SurgeCalculator surgeCalculator() {
+        return new SurgeCalculator(surgeSensitivity, maxSurgeMultiplier);
+    }
+
+    @Bean
+    public QuoteSigner quoteSigner() {
+        return new QuoteSigner(quoteSecret);
+    }
+
+    @Bean
+    public Cache<QuoteRequestDto, QuoteReadDto> quoteCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(quoteMaxSize)
+                .expireAfterWrite(Duration.ofMillis(quoteTtl / 2))
+                .build();
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.List;
 
 import static org.example.ride.constants.SecurityConstants.ROLE_ADMIN;
+import static org.example.ride.constants.SecurityConstants.ROLE_DRIVER;
 
 @Configuration
 @RequiredArgsConstructor
@@ -30,7 +31,9 @@ public class SecurityConfig {
                                 "/ride/swagger-ui.html",
                                 "/ride/webjars/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/rides").hasRole(ROLE_ADMIN)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/rides/cursor").hasRole(ROLE_ADMIN)
                         .requestMatchers(HttpMethod.GET, "/api/v1/rides/driver-list/{id}").hasRole(ROLE_ADMIN)
+                        .requestMatchers("/api/v1/rides/drivers/{driverId}/location").hasAnyRole(ROLE_ADMIN, ROLE_DRIVER)
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
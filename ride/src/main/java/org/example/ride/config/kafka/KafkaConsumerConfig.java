@@ -0,0 +1,77 @@
+package org.example.ride.config.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.example.ride.constants.KafkaConstants;
+import org.example.ride.kafka.PartitionFinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String kafkaBootstrapServers;
+
+    @Value("${projection.partition-lookup-timeout}")
+    private Duration partitionLookupTimeout;
+
+    @Bean
+    public ConsumerFactory<String, Object> consumerFactory() {
+        Map<String, Object> configProps = consumerProps();
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, KafkaConstants.GROUP_ID);
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            ConsumerFactory<String, Object> consumerFactory) {
+        return containerFactory(consumerFactory);
+    }
+
+    /**
+     * Every instance keeps its own full replica, so the projection listeners assign all partitions of
+     * the compacted topics to themselves and read them from the beginning. They don't join a group and
+     * commit nothing, so restarts and scaling leave no consumer groups behind on the broker.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> projectionContainerFactory() {
+        return containerFactory(new DefaultKafkaConsumerFactory<>(consumerProps()));
+    }
+
+    @Bean
+    public PartitionFinder projectionPartitionFinder() {
+        return new PartitionFinder(new DefaultKafkaConsumerFactory<>(consumerProps()), partitionLookupTimeout);
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<String, Object> containerFactory(
+            ConsumerFactory<String, Object> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.getContainerProperties().setObservationEnabled(true);
+        return factory;
+    }
+
+    private Map<String, Object> consumerProps() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        configProps.put(JsonDeserializer.TYPE_MAPPINGS, "DriverStateDto:org.example.ride.dto.read.DriverStateDto," +
+                                                           "DriverLocationReadDto:org.example.ride.dto.read.DriverLocationReadDto," +
+                                                           "PassengerStateDto:org.example.ride.dto.read.PassengerStateDto");
+        return configProps;
+    }
+}
@@ -10,6 +10,12 @@ public final class ExceptionConstants {
     public static final String CANCELED_STATUS_MESSAGE = "status.canceled";
     public static final String IRRELEVANT_DRIVER_STATUS = "irrelevant.status.driver";
     public static final String INVALID_COUNT_PARAMETERS_MESSAGE = "param.count.invalid";
+    public static final String INVALID_CURSOR_MESSAGE = "cursor.invalid";
+    public static final String CONCURRENT_UPDATE_MESSAGE = "ride.concurrent.update";
+    public static final String DRIVER_NOT_FOUND_MESSAGE = "driver.not.found";
+    public static final String PASSENGER_NOT_FOUND_MESSAGE = "passenger.not.found";
+    public static final String INVALID_QUOTE_MESSAGE = "quote.invalid";
+    public static final String ACCESS_DENIED_MESSAGE = "access.denied";
     public static final String INTERNAL_SERVER_ERROR_MESSAGE = "Something went wrong. Please, try again later";
 
 }
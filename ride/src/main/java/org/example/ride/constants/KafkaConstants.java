@@ -8,6 +8,13 @@ public class KafkaConstants {
     public static final String BOOTSTRAP_SERVERS_CONFIG = "localhost:9092";
     public static final String PASSENGER_NOTIFICATION_TOPIC = "passenger-notification-topic";
     public static final String DRIVER_NOTIFICATION_TOPIC = "driver-notification-topic";
+    public static final String DRIVER_STATE_TOPIC = "driver-state-topic";
+    public static final String PASSENGER_STATE_TOPIC = "passenger-state-topic";
+    public static final String DRIVER_LOCATION_TOPIC = "driver-location-topic";
+    public static final String GROUP_ID = "ride-group";
+    public static final String PROJECTION_CONTAINER_FACTORY = "projectionContainerFactory";
+    public static final String PROJECTION_PARTITION_FINDER = "projectionPartitionFinder";
+    public static final String PROJECTION_INITIAL_OFFSET = "0";
     public static final Integer NUM_PARTITIONS = 3;
     public static final Short REPLICATION_FACTOR = 1;
 }
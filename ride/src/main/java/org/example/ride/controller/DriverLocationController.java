@@ -0,0 +1,49 @@
+package org.example.ride.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.example.ride.dto.create.DriverLocationDto;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@Tag(name = "Driver location controller", description = """
+        Driver location controller contains endpoints for publishing location of available drivers,\s
+        which is used for assigning the nearest driver to a new ride
+        """)
+public interface DriverLocationController {
+
+    @Operation(summary = "Update location of available driver",
+            description = """
+                    Marks driver as available at the given point. Fields:\\s
+                    - **latitude**: Latitude (from -90 to 90)\\s
+                    - **longitude**: Longitude (from -180 to 180)\\s
+                    Example:
+                    {
+                        "latitude": 53.9006,
+                        "longitude": 27.5590
+                    }
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Location was successfully updated"),
+            @ApiResponse(responseCode = "400", description = "Validation error"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    void updateLocation(@PathVariable("driverId") Long driverId,
+                        @RequestBody @Valid DriverLocationDto dto,
+                        JwtAuthenticationToken token);
+
+    @Operation(summary = "Remove location of driver",
+            description = "Marks driver as unavailable, so no new rides are assigned to the driver")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Location was successfully removed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    void removeLocation(@PathVariable("driverId") Long driverId,
+                        JwtAuthenticationToken token);
+}
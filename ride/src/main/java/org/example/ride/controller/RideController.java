@@ -9,8 +9,11 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.example.ride.dto.create.DriverRideStatusDto;
 import org.example.ride.dto.create.PassengerRideStatusDto;
+import org.example.ride.dto.create.QuoteRequestDto;
 import org.example.ride.dto.create.RideCreateEditDto;
+import org.example.ride.dto.read.CursorResponse;
 import org.example.ride.dto.read.PageResponse;
+import org.example.ride.dto.read.QuoteReadDto;
 import org.example.ride.dto.read.RideReadDto;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -38,6 +41,24 @@ public interface RideController {
                                       @RequestParam(defaultValue = "0") Integer page,
                                       @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit);
 
+    @Operation(summary = "Find all rides by cursor",
+            description = """
+                    Retrieves rides ordered by id, starting after the given cursor. Also can find rides by\s
+                    passenger or driver id. The response contains an opaque **next** cursor for the following\s
+                    page, it is null when there are no more rides
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rides retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Validation error or invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "409", description = "Only one id-parameter can be provided at a time")
+    })
+    CursorResponse<RideReadDto> findAllByCursor(@RequestParam(name = "driverId", required = false) Long driverId,
+                                                @RequestParam(name = "passengerId", required = false) Long passengerId,
+                                                @RequestParam(name = "cursor", required = false) String cursor,
+                                                @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit);
+
     @Operation(summary = "Find all rides by driver id",
             description = "Retrieves list of rides by driver id.")
     @ApiResponses(value = {
@@ -66,6 +87,11 @@ public interface RideController {
                     - **passengerId**: Passenger's ID (non-empty string, valid range)\\s
                     - **addressFrom**: Address from (non-empty string)\\s
                     - **addressTo**: Address to (non-empty string)\\s
+                    - **latitudeFrom**, **longitudeFrom**: Pickup point (optional). When driverId is not provided,\\s
+                    the nearest available driver to the pickup point is assigned\\s
+                    - **latitudeTo**, **longitudeTo**: Destination point (optional), used to price the route\\s
+                    - **quoteId**: Id of a quote from POST /quote (optional). The ride is charged the quoted cost\\s
+                    if the quote has not expired and was issued for the same passenger and route\\s
                     Example:
                     {
                         "driverId": 1,
@@ -76,12 +102,26 @@ public interface RideController {
                     """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Ride was successfully created"),
-            @ApiResponse(responseCode = "400", description = "Validation error"),
+            @ApiResponse(responseCode = "400", description = "Validation error or invalid quote"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden")
     })
     RideReadDto create(@RequestBody @Valid RideCreateEditDto dto);
 
+    @Operation(summary = "Quote a ride",
+            description = """
+                    Returns the cost of a ride for the given passenger and route. The quote id is signed and\s
+                    expires after a short time, it can be passed as **quoteId** when creating the ride.\s
+                    Repeated requests for the same route return the same quote while it is fresh
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Quote was successfully created"),
+            @ApiResponse(responseCode = "400", description = "Validation error"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    QuoteReadDto quote(@RequestBody @Valid QuoteRequestDto dto);
+
     @Operation(summary = "Update ride by ID",
             description = """
                     Updating ride's data by ID. Fields to update:\\s
@@ -0,0 +1,43 @@
+package org.example.ride.controller.impl;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.ride.annotation.ValidateAccess;
+import org.example.ride.controller.DriverLocationController;
+import org.example.ride.dto.create.DriverLocationDto;
+import org.example.ride.service.DispatchService;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/rides/drivers")
+@RequiredArgsConstructor
+@Validated
+public class DriverLocationControllerImpl implements DriverLocationController {
+    private final DispatchService dispatchService;
+
+    @PutMapping("/{driverId}/location")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @ValidateAccess
+    public void updateLocation(@PathVariable("driverId") Long driverId,
+                               @RequestBody @Valid DriverLocationDto dto,
+                               JwtAuthenticationToken token) {
+        dispatchService.updateLocation(driverId, dto);
+    }
+
+    @DeleteMapping("/{driverId}/location")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @ValidateAccess
+    public void removeLocation(@PathVariable("driverId") Long driverId,
+                               JwtAuthenticationToken token) {
+        dispatchService.removeLocation(driverId);
+    }
+}
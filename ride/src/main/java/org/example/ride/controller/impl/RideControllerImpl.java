@@ -6,10 +6,14 @@ import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.example.ride.controller.RideController;
 import org.example.ride.dto.create.PassengerRideStatusDto;
+import org.example.ride.dto.create.QuoteRequestDto;
 import org.example.ride.dto.create.RideCreateEditDto;
+import org.example.ride.dto.read.CursorResponse;
 import org.example.ride.dto.read.PageResponse;
+import org.example.ride.dto.read.QuoteReadDto;
 import org.example.ride.dto.read.RideReadDto;
 import org.example.ride.dto.create.DriverRideStatusDto;
+import org.example.ride.service.QuoteService;
 import org.example.ride.service.RideService;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
@@ -31,6 +35,7 @@ import java.util.List;
 @Validated
 public class RideControllerImpl implements RideController {
     private final RideService rideService;
+    private final QuoteService quoteService;
 
     @GetMapping
     public PageResponse<RideReadDto> findAll(@RequestParam(name = "driverId", required = false) Long driverId,
@@ -40,6 +45,14 @@ public class RideControllerImpl implements RideController {
         return PageResponse.of(rideService.findRides(driverId, passengerId, page, limit));
     }
 
+    @GetMapping("/cursor")
+    public CursorResponse<RideReadDto> findAllByCursor(@RequestParam(name = "driverId", required = false) Long driverId,
+                                                       @RequestParam(name = "passengerId", required = false) Long passengerId,
+                                                       @RequestParam(name = "cursor", required = false) String cursor,
+                                                       @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit) {
+        return rideService.findRidesByCursor(driverId, passengerId, cursor, limit);
+    }
+
     @GetMapping("/driver-list")
     public List<RideReadDto> findTop100ByDriverId(@RequestParam(name = "driverId") Long driverId) {
         return rideService.findTop100ByDriverId(driverId);
@@ -56,6 +69,11 @@ public class RideControllerImpl implements RideController {
         return rideService.create(dto);
     }
 
+    @PostMapping("/quote")
+    public QuoteReadDto quote(@RequestBody @Valid QuoteRequestDto dto) {
+        return quoteService.quote(dto);
+    }
+
     @PutMapping("/{id}")
     public RideReadDto update(@PathVariable("id") Long id, @RequestBody @Valid RideCreateEditDto dto) {
         return rideService.update(id, dto);
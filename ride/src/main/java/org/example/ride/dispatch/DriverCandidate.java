@@ -0,0 +1,7 @@
+package org.example.ride.dispatch;
+
+public record DriverCandidate(
+        long driverId,
+        double distance
+) {
+}
@@ -0,0 +1,13 @@
+package org.example.ride.dispatch;
+
+public record DriverLocation(
+        long driverId,
+        double latitude,
+        double longitude,
+        long cell,
+        DriverStatus status
+) {
+    DriverLocation withStatus(DriverStatus status) {
+        return new DriverLocation(driverId, latitude, longitude, cell, status);
+    }
+}
@@ -0,0 +1,240 @@
+package org.example.ride.dispatch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Grid index of available drivers. The globe is split into square cells of {@code cellSize} degrees,
+ * every available driver is kept in exactly one cell and nearest drivers are searched ring by ring
+ * around the cell of the pickup point. Claimed and offline drivers keep their position but are not
+ * in any cell. Reads never block, updates of one driver are atomic.
+ */
+public class DriverLocationIndex {
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_KM;
+    private static final Comparator<DriverCandidate> BY_DISTANCE = Comparator.comparingDouble(DriverCandidate::distance);
+
+    private final ConcurrentHashMap<Long, DriverLocation> locations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final double cellSize;
+    private final int maxRadius;
+    private final int latitudeCells;
+    private final int longitudeCells;
+
+    public DriverLocationIndex(double cellSize, int maxRadius) {
+        if (cellSize <= 0 || cellSize > 90) {
+            throw new IllegalArgumentException("Cell size must be in (0, 90] degrees");
+        }
+        this.cellSize = cellSize;
+        this.maxRadius = maxRadius;
+        this.latitudeCells = (int) Math.ceil(180 / cellSize);
+        this.longitudeCells = (int) Math.ceil(360 / cellSize);
+    }
+
+    /**
+     * Refreshes the position of a driver. A driver seen for the first time becomes available, a claimed
+     * or offline driver only moves and stays out of the search.
+     */
+    public void update(long driverId, double latitude, double longitude) {
+        put(driverId, latitude, longitude, false);
+    }
+
+    /**
+     * Puts the driver back into the search after going offline. A claimed driver stays claimed until
+     * {@link #release(long)}.
+     */
+    public void markAvailable(long driverId, double latitude, double longitude) {
+        put(driverId, latitude, longitude, true);
+    }
+
+    /**
+     * Takes the driver out of the search until {@link #markAvailable}, position updates keep the
+     * driver offline.
+     */
+    public DriverLocation markOffline(long driverId) {
+        return transition(driverId, null, DriverStatus.OFFLINE);
+    }
+
+    /**
+     * @return the claimed driver or {@code null} when the driver is not available
+     */
+    public DriverLocation claim(long driverId) {
+        return transition(driverId, DriverStatus.AVAILABLE, DriverStatus.CLAIMED);
+    }
+
+    /**
+     * Makes a claimed driver available again at the last known position.
+     */
+    public DriverLocation release(long driverId) {
+        return transition(driverId, DriverStatus.CLAIMED, DriverStatus.AVAILABLE);
+    }
+
+    public DriverLocation get(long driverId) {
+        return locations.get(driverId);
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    public long cellAt(double latitude, double longitude) {
+        return cellOf(latitudeIndex(latitude), longitudeIndex(longitude));
+    }
+
+    public Map<Long, Integer> countByCell() {
+        Map<Long, Integer> counts = new HashMap<>();
+        cells.forEach((cell, driverIds) -> {
+            int size = driverIds.size();
+            if (size > 0) {
+                counts.put(cell, size);
+            }
+        });
+        return counts;
+    }
+
+    public List<DriverCandidate> findNearest(double latitude, double longitude, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<DriverCandidate> nearest = new PriorityQueue<>(limit, BY_DISTANCE.reversed());
+        int latitudeIndex = latitudeIndex(latitude);
+        int longitudeIndex = longitudeIndex(longitude);
+        double ringWidth = cellSize * KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+
+        for (int radius = 0; radius <= maxRadius; radius++) {
+            scanRing(latitudeIndex, longitudeIndex, radius, latitude, longitude, limit, nearest);
+            if (nearest.size() == limit && nearest.peek().distance() <= radius * ringWidth) {
+                break;
+            }
+        }
+
+        List<DriverCandidate> result = new ArrayList<>(nearest);
+        result.sort(BY_DISTANCE);
+        return result;
+    }
+
+    public static double distance(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        double fromPhi = Math.toRadians(fromLatitude);
+        double toPhi = Math.toRadians(toLatitude);
+        double deltaLongitude = toLongitude - fromLongitude;
+        if (deltaLongitude > 180) {
+            deltaLongitude -= 360;
+        } else if (deltaLongitude < -180) {
+            deltaLongitude += 360;
+        }
+        double x = Math.toRadians(deltaLongitude) * Math.cos((fromPhi + toPhi) / 2);
+        double y = toPhi - fromPhi;
+        return Math.sqrt(x * x + y * y) * EARTH_RADIUS_KM;
+    }
+
+    private void scanRing(int latitudeIndex, int longitudeIndex, int radius, double latitude, double longitude,
+                          int limit, PriorityQueue<DriverCandidate> nearest) {
+        if (radius == 0) {
+            scanCell(latitudeIndex, longitudeIndex, latitude, longitude, limit, nearest);
+            return;
+        }
+        for (int dx = -radius; dx <= radius; dx++) {
+            scanCell(latitudeIndex - radius, longitudeIndex + dx, latitude, longitude, limit, nearest);
+            scanCell(latitudeIndex + radius, longitudeIndex + dx, latitude, longitude, limit, nearest);
+        }
+        for (int dy = -radius + 1; dy < radius; dy++) {
+            scanCell(latitudeIndex + dy, longitudeIndex - radius, latitude, longitude, limit, nearest);
+            scanCell(latitudeIndex + dy, longitudeIndex + radius, latitude, longitude, limit, nearest);
+        }
+    }
+
+    private void scanCell(int latitudeIndex, int longitudeIndex, double latitude, double longitude,
+                          int limit, PriorityQueue<DriverCandidate> nearest) {
+        if (latitudeIndex < 0 || latitudeIndex >= latitudeCells) {
+            return;
+        }
+        long cell = cellOf(latitudeIndex, Math.floorMod(longitudeIndex, longitudeCells));
+        Set<Long> driverIds = cells.get(cell);
+        if (driverIds == null) {
+            return;
+        }
+        for (Long driverId : driverIds) {
+            DriverLocation location = locations.get(driverId);
+            if (location == null || location.cell() != cell || location.status() != DriverStatus.AVAILABLE) {
+                continue;
+            }
+            double distance = distance(latitude, longitude, location.latitude(), location.longitude());
+            if (nearest.size() < limit) {
+                nearest.add(new DriverCandidate(driverId, distance));
+            } else if (distance < nearest.peek().distance()) {
+                nearest.poll();
+                nearest.add(new DriverCandidate(driverId, distance));
+            }
+        }
+    }
+
+    private void put(long driverId, double latitude, double longitude, boolean available) {
+        long cell = cellAt(latitude, longitude);
+        locations.compute(driverId, (id, previous) -> {
+            DriverStatus status = previous == null ? DriverStatus.AVAILABLE : previous.status();
+            if (available && status == DriverStatus.OFFLINE) {
+                status = DriverStatus.AVAILABLE;
+            }
+            boolean wasIndexed = previous != null && previous.status() == DriverStatus.AVAILABLE;
+            boolean indexed = status == DriverStatus.AVAILABLE;
+            if (indexed && (!wasIndexed || previous.cell() != cell)) {
+                addToCell(cell, id);
+            }
+            if (wasIndexed && (!indexed || previous.cell() != cell)) {
+                removeFromCell(previous.cell(), id);
+            }
+            return new DriverLocation(id, latitude, longitude, cell, status);
+        });
+    }
+
+    private DriverLocation transition(long driverId, DriverStatus from, DriverStatus to) {
+        DriverLocation[] changed = new DriverLocation[1];
+        locations.computeIfPresent(driverId, (id, location) -> {
+            if ((from != null && location.status() != from) || location.status() == to) {
+                return location;
+            }
+            if (to == DriverStatus.AVAILABLE) {
+                addToCell(location.cell(), id);
+            } else if (location.status() == DriverStatus.AVAILABLE) {
+                removeFromCell(location.cell(), id);
+            }
+            changed[0] = location.withStatus(to);
+            return changed[0];
+        });
+        return changed[0];
+    }
+
+    private void addToCell(long cell, long driverId) {
+        cells.compute(cell, (key, driverIds) -> {
+            Set<Long> ids = driverIds != null ? driverIds : ConcurrentHashMap.newKeySet();
+            ids.add(driverId);
+            return ids;
+        });
+    }
+
+    private void removeFromCell(long cell, long driverId) {
+        cells.computeIfPresent(cell, (key, driverIds) -> {
+            driverIds.remove(driverId);
+            return driverIds.isEmpty() ? null : driverIds;
+        });
+    }
+
+    private int latitudeIndex(double latitude) {
+        return Math.min((int) ((latitude + 90) / cellSize), latitudeCells - 1);
+    }
+
+    private int longitudeIndex(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellSize), longitudeCells);
+    }
+
+    private static long cellOf(int latitudeIndex, int longitudeIndex) {
+        return ((long) latitudeIndex << 32) | (longitudeIndex & 0xFFFFFFFFL);
+    }
+}
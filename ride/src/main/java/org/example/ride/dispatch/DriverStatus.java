@@ -0,0 +1,7 @@
+package org.example.ride.dispatch;
+
+public enum DriverStatus {
+    AVAILABLE,
+    CLAIMED,
+    OFFLINE
+}
@@ -0,0 +1,8 @@
+package org.example.ride.dto.create;
+
+import java.util.List;
+
+public record BatchRequestDto(
+        List<Long> ids
+) {
+}
@@ -0,0 +1,36 @@
+package org.example.ride.dto.create;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Builder
+public record QuoteRequestDto(
+
+        @NotNull(message = "{passenger.null}")
+        @Min(value = 1, message = "{id.min}")
+        Long passengerId,
+
+        @NotNull(message = "{latitude.null}")
+        @DecimalMin(value = "-90.0", message = "{latitude.invalid}")
+        @DecimalMax(value = "90.0", message = "{latitude.invalid}")
+        Double latitudeFrom,
+
+        @NotNull(message = "{longitude.null}")
+        @DecimalMin(value = "-180.0", message = "{longitude.invalid}")
+        @DecimalMax(value = "180.0", message = "{longitude.invalid}")
+        Double longitudeFrom,
+
+        @NotNull(message = "{latitude.null}")
+        @DecimalMin(value = "-90.0", message = "{latitude.invalid}")
+        @DecimalMax(value = "90.0", message = "{latitude.invalid}")
+        Double latitudeTo,
+
+        @NotNull(message = "{longitude.null}")
+        @DecimalMin(value = "-180.0", message = "{longitude.invalid}")
+        @DecimalMax(value = "180.0", message = "{longitude.invalid}")
+        Double longitudeTo
+) {
+}
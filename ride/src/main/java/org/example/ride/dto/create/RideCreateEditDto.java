@@ -1,5 +1,7 @@
 package org.example.ride.dto.create;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -19,6 +21,24 @@ public record RideCreateEditDto(
         String addressFrom,
 
         @NotBlank(message = "{address.to.blank}")
-        String addressTo
+        String addressTo,
+
+        @DecimalMin(value = "-90.0", message = "{latitude.invalid}")
+        @DecimalMax(value = "90.0", message = "{latitude.invalid}")
+        Double latitudeFrom,
+
+        @DecimalMin(value = "-180.0", message = "{longitude.invalid}")
+        @DecimalMax(value = "180.0", message = "{longitude.invalid}")
+        Double longitudeFrom,
+
+        @DecimalMin(value = "-90.0", message = "{latitude.invalid}")
+        @DecimalMax(value = "90.0", message = "{latitude.invalid}")
+        Double latitudeTo,
+
+        @DecimalMin(value = "-180.0", message = "{longitude.invalid}")
+        @DecimalMax(value = "180.0", message = "{longitude.invalid}")
+        Double longitudeTo,
+
+        String quoteId
 ) {
 }
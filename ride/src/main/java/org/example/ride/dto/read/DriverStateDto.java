@@ -0,0 +1,10 @@
+package org.example.ride.dto.read;
+
+import lombok.Builder;
+
+@Builder
+public record DriverStateDto(
+        long id,
+        boolean deleted
+) {
+}
@@ -0,0 +1,14 @@
+package org.example.ride.dto.read;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Builder
+public record QuoteReadDto(
+        String id,
+        BigDecimal cost,
+        Instant expiresAt
+) {
+}
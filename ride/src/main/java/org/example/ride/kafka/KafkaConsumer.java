@@ -0,0 +1,50 @@
+package org.example.ride.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ride.constants.KafkaConstants;
+import org.example.ride.dto.read.DriverLocationReadDto;
+import org.example.ride.dto.read.DriverStateDto;
+import org.example.ride.dto.read.PassengerStateDto;
+import org.example.ride.projection.ParticipantProjection;
+import org.example.ride.service.DispatchService;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class KafkaConsumer {
+    private final ParticipantProjection participantProjection;
+    private final DispatchService dispatchService;
+
+    @KafkaListener(containerFactory = KafkaConstants.PROJECTION_CONTAINER_FACTORY,
+            topicPartitions = @TopicPartition(topic = KafkaConstants.DRIVER_STATE_TOPIC,
+                    partitions = "#{@" + KafkaConstants.PROJECTION_PARTITION_FINDER
+                            + ".partitions('" + KafkaConstants.DRIVER_STATE_TOPIC + "')}",
+                    partitionOffsets = @PartitionOffset(partition = "*",
+                            initialOffset = KafkaConstants.PROJECTION_INITIAL_OFFSET)))
+    public void consumeDriverState(DriverStateDto state) {
+        participantProjection.apply(state);
+    }
+
+    @KafkaListener(containerFactory = KafkaConstants.PROJECTION_CONTAINER_FACTORY,
+            topicPartitions = @TopicPartition(topic = KafkaConstants.PASSENGER_STATE_TOPIC,
+                    partitions = "#{@" + KafkaConstants.PROJECTION_PARTITION_FINDER
+                            + ".partitions('" + KafkaConstants.PASSENGER_STATE_TOPIC + "')}",
+                    partitionOffsets = @PartitionOffset(partition = "*",
+                            initialOffset = KafkaConstants.PROJECTION_INITIAL_OFFSET)))
+    public void consumePassengerState(PassengerStateDto state) {
+        participantProjection.apply(state);
+    }
+
+    @KafkaListener(containerFactory = KafkaConstants.PROJECTION_CONTAINER_FACTORY,
+            topicPartitions = @TopicPartition(topic = KafkaConstants.DRIVER_LOCATION_TOPIC,
+                    partitions = "#{@" + KafkaConstants.PROJECTION_PARTITION_FINDER
+                            + ".partitions('" + KafkaConstants.DRIVER_LOCATION_TOPIC + "')}",
+                    partitionOffsets = @PartitionOffset(partition = "*",
+                            initialOffset = KafkaConstants.PROJECTION_INITIAL_OFFSET)))
+    public void consumeDriverLocation(DriverLocationReadDto location) {
+        dispatchService.applyLocation(location);
+    }
+}
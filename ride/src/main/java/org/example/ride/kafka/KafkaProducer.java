@@ -1,46 +1,44 @@
 package org.example.ride.kafka;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.example.ride.constants.KafkaConstants;
 import org.example.ride.dto.read.RideReadDto;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
+import org.example.ride.entity.OutboxMessage;
+import org.example.ride.repository.OutboxMessageRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
+import java.time.Instant;
 
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class KafkaProducer {
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void notifyPassenger(RideReadDto rideReadDto) {
-        sendMessage(KafkaConstants.PASSENGER_NOTIFICATION_TOPIC, generateTransactionalKey(), rideReadDto);
+        saveMessage(KafkaConstants.PASSENGER_NOTIFICATION_TOPIC, rideReadDto);
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void notifyDriver(RideReadDto rideReadDto) {
-        sendMessage(KafkaConstants.DRIVER_NOTIFICATION_TOPIC, generateTransactionalKey(), rideReadDto);
+        saveMessage(KafkaConstants.DRIVER_NOTIFICATION_TOPIC, rideReadDto);
     }
 
-    private void sendMessage(String topic, String key, Object message) {
-        CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(topic, key, message);
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("Sent message successfully {} to {} with offset {}",
-                        message.toString(),
-                        topic,
-                        result.getRecordMetadata().offset());
-            } else {
-                log.error(ex.getMessage());
-            }
-        });
-    }
-
-    private String generateTransactionalKey() {
-        return UUID.randomUUID().toString();
+    private void saveMessage(String topic, RideReadDto rideReadDto) {
+        try {
+            outboxMessageRepository.save(OutboxMessage.builder()
+                    .topic(topic)
+                    .messageKey(String.valueOf(rideReadDto.id()))
+                    .payload(objectMapper.writeValueAsString(rideReadDto))
+                    .createdAt(Instant.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize message for " + topic, e);
+        }
     }
 }
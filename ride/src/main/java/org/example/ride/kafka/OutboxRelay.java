@@ -0,0 +1,116 @@
+package org.example.ride.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ride.dto.read.RideReadDto;
+import org.example.ride.entity.OutboxMessage;
+import org.example.ride.repository.OutboxMessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${outbox.send-timeout}")
+    private long sendTimeout;
+
+    @Value("${outbox.max-attempts}")
+    private int maxAttempts;
+
+    /**
+     * Sends a batch that holds at most one message per topic and key, so a failed message keeps the
+     * messages after it in the table. Every send is awaited for {@code outbox.send-timeout} on its own,
+     * a slow send doesn't cut the wait for the sends after it.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval}")
+    @Transactional
+    public void relay() throws InterruptedException {
+        List<OutboxMessage> messages = outboxMessageRepository.findBatchForUpdate(batchSize);
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<?>> futures = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            futures.add(send(message));
+        }
+
+        List<OutboxMessage> sent = new ArrayList<>(messages.size());
+        List<OutboxMessage> failed = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            OutboxMessage message = messages.get(i);
+            try {
+                futures.get(i).get(sendTimeout, TimeUnit.MILLISECONDS);
+                sent.add(message);
+            } catch (ExecutionException | TimeoutException e) {
+                registerFailure(message, e);
+                failed.add(message);
+            }
+        }
+
+        if (!sent.isEmpty()) {
+            outboxMessageRepository.deleteAllInBatch(sent);
+        }
+        if (!failed.isEmpty()) {
+            outboxMessageRepository.saveAll(failed);
+        }
+        log.debug("Relayed {} outbox messages, {} failed", sent.size(), failed.size());
+    }
+
+    private CompletableFuture<?> send(OutboxMessage message) {
+        try {
+            return kafkaTemplate.send(message.getTopic(), message.getMessageKey(), readPayload(message));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Counts the failed attempt, a message that failed {@code outbox.max-attempts} times is parked: it
+     * stays in the table for inspection but is no longer picked up. It holds back the later messages of
+     * its key, messages of other keys are relayed as usual.
+     */
+    private void registerFailure(OutboxMessage message, Exception e) {
+        String reason = e instanceof ExecutionException && e.getCause() != null
+                ? e.getCause().getMessage()
+                : e.getMessage();
+        message.setAttempts(message.getAttempts() + 1);
+        if (message.getAttempts() >= maxAttempts) {
+            message.setParkedAt(Instant.now());
+            log.error("Parked outbox message {} after {} failed attempts: {}",
+                    message.getId(), message.getAttempts(), reason);
+        } else {
+            log.warn("Failed to relay outbox message {}, attempt {}, will retry: {}",
+                    message.getId(), message.getAttempts(), reason);
+        }
+    }
+
+    private RideReadDto readPayload(OutboxMessage message) {
+        try {
+            return objectMapper.readValue(message.getPayload(), RideReadDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read outbox message " + message.getId(), e);
+        }
+    }
+}
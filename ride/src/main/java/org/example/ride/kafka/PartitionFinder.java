@@ -0,0 +1,44 @@
+package org.example.ride.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.PartitionInfo;
+import org.example.ride.constants.KafkaConstants;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Looks up the partitions of a topic when the projection listeners are registered, so that they read
+ * every partition the publishing service created. When the broker doesn't answer in time the topic is
+ * assumed to have {@link KafkaConstants#NUM_PARTITIONS} partitions, the count the services create
+ * their topics with, so that the service still starts without a broker.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PartitionFinder {
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final Duration timeout;
+
+    public String[] partitions(String topic) {
+        try (Consumer<String, Object> consumer = consumerFactory.createConsumer()) {
+            List<PartitionInfo> partitions = consumer.partitionsFor(topic, timeout);
+            if (partitions != null && !partitions.isEmpty()) {
+                return partitions.stream()
+                        .map(partition -> String.valueOf(partition.partition()))
+                        .toArray(String[]::new);
+            }
+            log.warn("Topic {} has no partitions yet, assuming {}", topic, KafkaConstants.NUM_PARTITIONS);
+        } catch (KafkaException e) {
+            log.warn("Failed to look up partitions of topic {}, assuming {}: {}",
+                    topic, KafkaConstants.NUM_PARTITIONS, e.getMessage());
+        }
+        return IntStream.range(0, KafkaConstants.NUM_PARTITIONS)
+                .mapToObj(String::valueOf)
+                .toArray(String[]::new);
+    }
+}
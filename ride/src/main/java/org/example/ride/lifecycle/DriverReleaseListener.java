@@ -0,0 +1,29 @@
+package org.example.ride.lifecycle;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ride.entity.Ride;
+import org.example.ride.entity.enumeration.DriverRideStatus;
+import org.example.ride.service.DispatchService;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Returns the driver of a ride to dispatch once the ride is completed or canceled.
+ */
+@Component
+@RequiredArgsConstructor
+public class DriverReleaseListener implements RideTransitionListener {
+    private static final Set<DriverRideStatus> FINISHED_STATUSES =
+            EnumSet.of(DriverRideStatus.COMPLETED, DriverRideStatus.CANCELED);
+
+    private final DispatchService dispatchService;
+
+    @Override
+    public <S extends Enum<S>> void onTransition(Ride ride, S from, S to) {
+        if (ride.getDriverId() != null && FINISHED_STATUSES.contains(to)) {
+            dispatchService.releaseDriver(ride.getDriverId());
+        }
+    }
+}
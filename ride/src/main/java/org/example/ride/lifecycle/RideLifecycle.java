@@ -0,0 +1,114 @@
+package org.example.ride.lifecycle;
+
+import com.example.exceptionhandlerstarter.exception.ride.CanceledRideStatusException;
+import com.example.exceptionhandlerstarter.exception.ride.InvalidRideStatusForChangingException;
+import com.example.exceptionhandlerstarter.exception.ride.IrrelevantDriverStatusException;
+import lombok.RequiredArgsConstructor;
+import org.example.ride.constants.ExceptionConstants;
+import org.example.ride.entity.Ride;
+import org.example.ride.entity.enumeration.DriverRideStatus;
+import org.example.ride.entity.enumeration.PassengerRideStatus;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Ride lifecycle for both sides of a ride. Allowed moves are precomputed transition tables,
+ * rejected moves throw stackless exceptions whose message is resolved only when it is read.
+ * A transition is planned against the loaded ride and applied only after it has been stored.
+ */
+@Component
+@RequiredArgsConstructor
+public class RideLifecycle {
+    private static final TransitionTable<DriverRideStatus> DRIVER_TRANSITIONS =
+            TransitionTable.builder(DriverRideStatus.class)
+                    .allow(DriverRideStatus.CREATED, DriverRideStatus.ACCEPTED, DriverRideStatus.CANCELED)
+                    .allow(DriverRideStatus.ACCEPTED, DriverRideStatus.ON_WAY_FOR_PASSENGER, DriverRideStatus.CANCELED)
+                    .allow(DriverRideStatus.ON_WAY_FOR_PASSENGER, DriverRideStatus.WAITING, DriverRideStatus.CANCELED)
+                    .allow(DriverRideStatus.WAITING, DriverRideStatus.ON_WAY_TO_DESTINATION, DriverRideStatus.CANCELED)
+                    .allow(DriverRideStatus.ON_WAY_TO_DESTINATION, DriverRideStatus.COMPLETED, DriverRideStatus.CANCELED)
+                    .build();
+
+    private static final TransitionTable<PassengerRideStatus> PASSENGER_TRANSITIONS =
+            TransitionTable.builder(PassengerRideStatus.class)
+                    .allow(PassengerRideStatus.WAITING, PassengerRideStatus.GETTING_OUT, PassengerRideStatus.IN_CAR)
+                    .allow(PassengerRideStatus.GETTING_OUT, PassengerRideStatus.IN_CAR)
+                    .build();
+
+    private static final EnumMap<DriverRideStatus, PassengerRideStatus> IMPLIED_PASSENGER_STATUSES =
+            new EnumMap<>(DriverRideStatus.class);
+
+    static {
+        IMPLIED_PASSENGER_STATUSES.put(DriverRideStatus.ON_WAY_TO_DESTINATION, PassengerRideStatus.IN_CAR);
+    }
+
+    private final MessageSource messageSource;
+    private final List<RideTransitionListener> listeners;
+
+    public RideTransition planDriverStatus(Ride ride, DriverRideStatus proposed) {
+        DriverRideStatus current = ride.getDriverRideStatus();
+        if (current == DriverRideStatus.CANCELED) {
+            rejected(ride, current, proposed);
+            throw new CanceledRideStatusException(message(ExceptionConstants.CANCELED_STATUS_MESSAGE));
+        }
+        if (!DRIVER_TRANSITIONS.isAllowed(current, proposed)) {
+            rejected(ride, current, proposed);
+            throw new InvalidRideStatusForChangingException(
+                    message(ExceptionConstants.INVALID_PROPOSED_STATUS_MESSAGE, current, proposed));
+        }
+
+        PassengerRideStatus passengerStatus = ride.getPassengerRideStatus();
+        PassengerRideStatus implied = IMPLIED_PASSENGER_STATUSES.getOrDefault(proposed, passengerStatus);
+        return new RideTransition(current, passengerStatus, proposed, implied);
+    }
+
+    public RideTransition planPassengerStatus(Ride ride, PassengerRideStatus proposed) {
+        PassengerRideStatus current = ride.getPassengerRideStatus();
+        if (ride.getDriverRideStatus() != DriverRideStatus.WAITING) {
+            rejected(ride, current, proposed);
+            throw new IrrelevantDriverStatusException(message(ExceptionConstants.IRRELEVANT_DRIVER_STATUS));
+        }
+        if (!PASSENGER_TRANSITIONS.isAllowed(current, proposed)) {
+            rejected(ride, current, proposed);
+            throw new InvalidRideStatusForChangingException(
+                    message(ExceptionConstants.INVALID_PROPOSED_STATUS_MESSAGE, current, proposed));
+        }
+
+        DriverRideStatus driverStatus = ride.getDriverRideStatus();
+        return new RideTransition(driverStatus, current, driverStatus, proposed);
+    }
+
+    public void apply(Ride ride, RideTransition transition) {
+        ride.setDriverRideStatus(transition.toDriverRideStatus());
+        ride.setPassengerRideStatus(transition.toPassengerRideStatus());
+
+        if (transition.fromDriverRideStatus() != transition.toDriverRideStatus()) {
+            transitioned(ride, transition.fromDriverRideStatus(), transition.toDriverRideStatus());
+        }
+        if (transition.isPassengerRideStatusChanged()) {
+            transitioned(ride, transition.fromPassengerRideStatus(), transition.toPassengerRideStatus());
+        }
+    }
+
+    private <S extends Enum<S>> void transitioned(Ride ride, S from, S to) {
+        for (RideTransitionListener listener : listeners) {
+            listener.onTransition(ride, from, to);
+        }
+    }
+
+    private <S extends Enum<S>> void rejected(Ride ride, S from, S to) {
+        for (RideTransitionListener listener : listeners) {
+            listener.onRejected(ride, from, to);
+        }
+    }
+
+    private Supplier<String> message(String code, Object... args) {
+        Locale locale = LocaleContextHolder.getLocale();
+        return () -> messageSource.getMessage(code, args, locale);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.ride.lifecycle;
+
+import org.example.ride.entity.enumeration.DriverRideStatus;
+import org.example.ride.entity.enumeration.PassengerRideStatus;
+
+public record RideTransition(
+        DriverRideStatus fromDriverRideStatus,
+        PassengerRideStatus fromPassengerRideStatus,
+        DriverRideStatus toDriverRideStatus,
+        PassengerRideStatus toPassengerRideStatus
+) {
+    public boolean isPassengerRideStatusChanged() {
+        return fromPassengerRideStatus != toPassengerRideStatus;
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.ride.lifecycle;
+
+import org.example.ride.entity.Ride;
+
+public interface RideTransitionListener {
+    default <S extends Enum<S>> void onTransition(Ride ride, S from, S to) {
+    }
+
+    default <S extends Enum<S>> void onRejected(Ride ride, S from, S to) {
+    }
+}
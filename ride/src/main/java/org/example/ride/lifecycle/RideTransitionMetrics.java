@@ -0,0 +1,33 @@
+package org.example.ride.lifecycle;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.example.ride.entity.Ride;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RideTransitionMetrics implements RideTransitionListener {
+    private static final String TRANSITIONS_METRIC = "ride.status.transitions";
+    private static final String REJECTED_TRANSITIONS_METRIC = "ride.status.transitions.rejected";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public <S extends Enum<S>> void onTransition(Ride ride, S from, S to) {
+        count(TRANSITIONS_METRIC, from, to);
+    }
+
+    @Override
+    public <S extends Enum<S>> void onRejected(Ride ride, S from, S to) {
+        count(REJECTED_TRANSITIONS_METRIC, from, to);
+    }
+
+    private <S extends Enum<S>> void count(String metric, S from, S to) {
+        meterRegistry.counter(metric,
+                        "status", to.getDeclaringClass().getSimpleName(),
+                        "from", from.name(),
+                        "to", to.name())
+                .increment();
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.ride.lifecycle;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * Immutable table of allowed status transitions. Successors of every state are kept in an
+ * {@link EnumSet}, so a lookup is a single bit test on the ordinal of the proposed state.
+ */
+public final class TransitionTable<S extends Enum<S>> {
+    private final EnumMap<S, EnumSet<S>> successors;
+
+    private TransitionTable(EnumMap<S, EnumSet<S>> successors) {
+        this.successors = successors;
+    }
+
+    public static <S extends Enum<S>> Builder<S> builder(Class<S> type) {
+        return new Builder<>(type);
+    }
+
+    public boolean isAllowed(S from, S to) {
+        return successors.get(from).contains(to);
+    }
+
+    public static final class Builder<S extends Enum<S>> {
+        private final Class<S> type;
+        private final EnumMap<S, EnumSet<S>> successors;
+
+        private Builder(Class<S> type) {
+            this.type = type;
+            this.successors = new EnumMap<>(type);
+            for (S state : type.getEnumConstants()) {
+                successors.put(state, EnumSet.noneOf(type));
+            }
+        }
+
+        @SafeVarargs
+        public final Builder<S> allow(S from, S... to) {
+            for (S state : to) {
+                successors.get(from).add(state);
+            }
+            return this;
+        }
+
+        public TransitionTable<S> build() {
+            EnumMap<S, EnumSet<S>> table = new EnumMap<>(type);
+            for (Map.Entry<S, EnumSet<S>> entry : successors.entrySet()) {
+                table.put(entry.getKey(), EnumSet.copyOf(entry.getValue()));
+            }
+            return new TransitionTable<>(table);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.ride.pricing;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ride requests per grid cell over a sliding window. The window is split into buckets that are
+ * reused round-robin, a bucket left over from an earlier lap is reset by the first request that
+ * lands in it. Counts are approximate under contention, which is enough for pricing.
+ */
+public class DemandTracker {
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final long bucketMillis;
+    private final int buckets;
+
+    public DemandTracker(long windowMillis, int buckets) {
+        if (buckets < 1 || windowMillis < buckets) {
+            throw new IllegalArgumentException("Window must hold at least one millisecond per bucket");
+        }
+        this.bucketMillis = windowMillis / buckets;
+        this.buckets = buckets;
+    }
+
+    public void record(long cell, long nowMillis) {
+        counters.computeIfAbsent(cell, key -> new Counter(buckets))
+                .increment(nowMillis / bucketMillis);
+    }
+
+    public Map<Long, Integer> countByCell(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        Map<Long, Integer> counts = new HashMap<>();
+        counters.forEach((cell, counter) -> {
+            int count = counter.sum(epoch);
+            if (count > 0) {
+                counts.put(cell, count);
+            } else {
+                counters.remove(cell, counter);
+            }
+        });
+        return counts;
+    }
+
+    private static final class Counter {
+        private final AtomicLongArray epochs;
+        private final AtomicIntegerArray counts;
+
+        private Counter(int buckets) {
+            this.epochs = new AtomicLongArray(buckets);
+            this.counts = new AtomicIntegerArray(buckets);
+            for (int i = 0; i < buckets; i++) {
+                epochs.set(i, Long.MIN_VALUE);
+            }
+        }
+
+        private void increment(long epoch) {
+            int bucket = (int) Math.floorMod(epoch, (long) epochs.length());
+            long current = epochs.get(bucket);
+            if (current != epoch && epochs.compareAndSet(bucket, current, epoch)) {
+                counts.set(bucket, 0);
+            }
+            counts.incrementAndGet(bucket);
+        }
+
+        private int sum(long epoch) {
+            int total = 0;
+            for (int i = 0; i < epochs.length(); i++) {
+                long bucketEpoch = epochs.get(i);
+                if (bucketEpoch != Long.MIN_VALUE && epoch - bucketEpoch < epochs.length()) {
+                    total += counts.get(i);
+                }
+            }
+            return total;
+        }
+    }
+}
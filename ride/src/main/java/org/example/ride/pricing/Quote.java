@@ -0,0 +1,18 @@
+package org.example.ride.pricing;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Builder
+public record Quote(
+        long passengerId,
+        double latitudeFrom,
+        double longitudeFrom,
+        double latitudeTo,
+        double longitudeTo,
+        BigDecimal cost,
+        Instant expiresAt
+) {
+}
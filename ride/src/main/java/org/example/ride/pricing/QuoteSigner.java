@@ -0,0 +1,88 @@
+package org.example.ride.pricing;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Self-contained quote ids. The id carries the quoted passenger, route, cost and expiry together
+ * with an HMAC-SHA256 signature over them, so any ride instance can check a quote without shared state.
+ */
+public class QuoteSigner {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String FIELD_SEPARATOR = ":";
+    private static final String SIGNATURE_SEPARATOR = ".";
+    private static final int FIELDS = 7;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> macs;
+
+    public QuoteSigner(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("Quote secret must not be blank");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialize quote signature", e);
+            }
+        });
+    }
+
+    public String sign(Quote quote) {
+        byte[] payload = String.join(FIELD_SEPARATOR,
+                        Long.toString(quote.passengerId()),
+                        Double.toString(quote.latitudeFrom()),
+                        Double.toString(quote.longitudeFrom()),
+                        Double.toString(quote.latitudeTo()),
+                        Double.toString(quote.longitudeTo()),
+                        quote.cost().toPlainString(),
+                        Long.toString(quote.expiresAt().toEpochMilli()))
+                .getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payload) + SIGNATURE_SEPARATOR + ENCODER.encodeToString(signature(payload));
+    }
+
+    public Optional<Quote> verify(String id) {
+        int separator = id.indexOf(SIGNATURE_SEPARATOR);
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = DECODER.decode(id.substring(0, separator));
+            byte[] signature = DECODER.decode(id.substring(separator + 1));
+            if (!MessageDigest.isEqual(signature(payload), signature)) {
+                return Optional.empty();
+            }
+            String[] fields = new String(payload, StandardCharsets.UTF_8).split(FIELD_SEPARATOR);
+            if (fields.length != FIELDS) {
+                return Optional.empty();
+            }
+            return Optional.of(Quote.builder()
+                    .passengerId(Long.parseLong(fields[0]))
+                    .latitudeFrom(Double.parseDouble(fields[1]))
+                    .longitudeFrom(Double.parseDouble(fields[2]))
+                    .latitudeTo(Double.parseDouble(fields[3]))
+                    .longitudeTo(Double.parseDouble(fields[4]))
+                    .cost(new BigDecimal(fields[5]))
+                    .expiresAt(Instant.ofEpochMilli(Long.parseLong(fields[6])))
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] signature(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+}
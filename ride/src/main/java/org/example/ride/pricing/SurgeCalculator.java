@@ -0,0 +1,35 @@
+package org.example.ride.pricing;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Derives surge multipliers from demand and supply per cell. A cell with more requests than available
+ * drivers gets {@code 1 + sensitivity * (demand / supply - 1)}, rounded to one decimal and capped
+ * at {@code maxMultiplier}. A cell without drivers is priced as if it had one.
+ */
+public class SurgeCalculator {
+    private final double sensitivity;
+    private final double maxMultiplier;
+
+    public SurgeCalculator(double sensitivity, double maxMultiplier) {
+        if (maxMultiplier < 1) {
+            throw new IllegalArgumentException("Max multiplier must not be less than 1");
+        }
+        this.sensitivity = sensitivity;
+        this.maxMultiplier = maxMultiplier;
+    }
+
+    public SurgeTable compute(Map<Long, Integer> demand, Map<Long, Integer> supply) {
+        Map<Long, Double> multipliers = new HashMap<>();
+        demand.forEach((cell, requests) -> {
+            double ratio = (double) requests / Math.max(supply.getOrDefault(cell, 0), 1);
+            double multiplier = Math.min(1 + sensitivity * (ratio - 1), maxMultiplier);
+            multiplier = Math.round(multiplier * 10) / 10.0;
+            if (multiplier > 1) {
+                multipliers.put(cell, multiplier);
+            }
+        });
+        return SurgeTable.of(multipliers);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.ride.pricing;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable surge multipliers by grid cell. Cells are kept in a sorted primitive array so a lookup
+ * is a binary search without boxing, cells that are not in the table have no surge.
+ */
+public final class SurgeTable {
+    public static final SurgeTable EMPTY = new SurgeTable(new long[0], new double[0]);
+    private static final double NO_SURGE = 1.0;
+
+    private final long[] cells;
+    private final double[] multipliers;
+
+    private SurgeTable(long[] cells, double[] multipliers) {
+        this.cells = cells;
+        this.multipliers = multipliers;
+    }
+
+    public static SurgeTable of(Map<Long, Double> multipliersByCell) {
+        long[] cells = multipliersByCell.keySet().stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        double[] multipliers = new double[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            multipliers[i] = multipliersByCell.get(cells[i]);
+        }
+        return new SurgeTable(cells, multipliers);
+    }
+
+    public double multiplier(long cell) {
+        int index = Arrays.binarySearch(cells, cell);
+        return index >= 0 ? multipliers[index] : NO_SURGE;
+    }
+
+    public int size() {
+        return cells.length;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.ride.pricing;
+
+import lombok.Builder;
+
+@Builder
+public record Tariff(
+        double baseFare,
+        double perKilometer,
+        double perMinute,
+        double minimumFare,
+        double routeFactor,
+        double averageSpeed
+) {
+}
@@ -0,0 +1,38 @@
+package org.example.ride.projection;
+
+import org.example.ride.dto.read.DriverStateDto;
+import org.example.ride.dto.read.PassengerStateDto;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local replica of driver and passenger ids and their status, fed from the compacted state topics
+ * of the driver and passenger services. An unknown id means the replica has not seen it yet,
+ * not that it does not exist, so callers fall back to the owning service.
+ */
+@Component
+public class ParticipantProjection {
+    private final ConcurrentHashMap<Long, ParticipantStatus> drivers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, ParticipantStatus> passengers = new ConcurrentHashMap<>();
+
+    public void apply(DriverStateDto state) {
+        drivers.put(state.id(), statusOf(state.deleted()));
+    }
+
+    public void apply(PassengerStateDto state) {
+        passengers.put(state.id(), statusOf(state.deleted()));
+    }
+
+    public ParticipantStatus driverStatus(long id) {
+        return drivers.get(id);
+    }
+
+    public ParticipantStatus passengerStatus(long id) {
+        return passengers.get(id);
+    }
+
+    private static ParticipantStatus statusOf(boolean deleted) {
+        return deleted ? ParticipantStatus.DELETED : ParticipantStatus.ACTIVE;
+    }
+}
@@ -0,0 +1,6 @@
+package org.example.ride.projection;
+
+public enum ParticipantStatus {
+    ACTIVE,
+    DELETED
+}
@@ -0,0 +1,31 @@
+package org.example.ride.repository;
+
+import org.example.ride.entity.OutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Locks the oldest unsent message of every topic and key. A later message of a key is picked up only
+     * once the messages before it are deleted, so it can't overtake one that is still retried, parked or
+     * held by another relay.
+     */
+    @Query(value = """
+            SELECT * FROM outbox_messages m
+            WHERE m.parked_at IS NULL
+              AND NOT EXISTS (SELECT 1 FROM outbox_messages o
+                              WHERE o.topic = m.topic
+                                AND o.message_key = m.message_key
+                                AND o.id < m.id)
+            ORDER BY m.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxMessage> findBatchForUpdate(@Param("limit") int limit);
+}
@@ -1,12 +1,18 @@
 package org.example.ride.repository;
 
 import org.example.ride.entity.Ride;
+import org.example.ride.entity.enumeration.DriverRideStatus;
+import org.example.ride.entity.enumeration.PassengerRideStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,5 +21,37 @@ public interface RideRepository extends JpaRepository<Ride, Long> {
 
     Page<Ride> findByDriverId(Long id, Pageable pageable);
 
-    List<Ride> findTop100ByDriverId(Long id, Sort sort);
+    List<Ride> findTop100ByDriverIdOrderByCreatedAtDescIdDesc(Long id);
+
+    List<Ride> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<Ride> findByDriverIdAndIdGreaterThanOrderByIdAsc(Long driverId, Long id, Limit limit);
+
+    List<Ride> findByPassengerIdAndIdGreaterThanOrderByIdAsc(Long passengerId, Long id, Limit limit);
+
+    boolean existsByDriverIdAndDriverRideStatusNotIn(Long driverId, Collection<DriverRideStatus> statuses);
+
+    /**
+     * Takes a transaction scoped advisory lock on the driver, so that only one transaction at a time,
+     * on any instance, can assign that driver. Returns false instead of waiting when the lock is taken.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:driverId)", nativeQuery = true)
+    boolean tryLockDriver(@Param("driverId") long driverId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Ride r
+            SET r.driverRideStatus = :driverRideStatus,
+                r.passengerRideStatus = :passengerRideStatus,
+                r.version = r.version + 1,
+                r.modifiedAt = CURRENT_TIMESTAMP
+            WHERE r.id = :id
+              AND r.driverRideStatus = :expectedDriverRideStatus
+              AND r.passengerRideStatus = :expectedPassengerRideStatus
+            """)
+    int updateStatuses(@Param("id") Long id,
+                       @Param("expectedDriverRideStatus") DriverRideStatus expectedDriverRideStatus,
+                       @Param("expectedPassengerRideStatus") PassengerRideStatus expectedPassengerRideStatus,
+                       @Param("driverRideStatus") DriverRideStatus driverRideStatus,
+                       @Param("passengerRideStatus") PassengerRideStatus passengerRideStatus);
 }
@@ -0,0 +1,56 @@
+package org.example.ride.service;
+
+import com.example.exceptionhandlerstarter.exception.security.AccessDeniedException;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.example.ride.client.batch.MicroBatcher;
+import org.example.ride.constants.ExceptionConstants;
+import org.example.ride.dto.read.DriverReadDto;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+import static org.example.ride.constants.SecurityConstants.EMAIL_CLAIM;
+import static org.example.ride.constants.SecurityConstants.PREFIX_ROLE;
+import static org.example.ride.constants.SecurityConstants.ROLE_ADMIN;
+
+/**
+ * Lets admins and the driver that owns the id in the first argument through. The driver is looked up
+ * through the driver micro-batcher and matched by the email claim of the token in the last argument.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class AccessValidator {
+
+    private final MicroBatcher<DriverReadDto> driverBatcher;
+    private final MessageSource messageSource;
+
+    @Around("@annotation(org.example.ride.annotation.ValidateAccess)")
+    public Object validateAccess(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        JwtAuthenticationToken authenticationToken = (JwtAuthenticationToken) args[args.length - 1];
+        Long driverId = (Long) args[0];
+        if (authenticationToken.getAuthorities()
+                .stream()
+                .filter(Objects::nonNull)
+                .anyMatch(authority -> authority.getAuthority()
+                        .equals(PREFIX_ROLE + ROLE_ADMIN))) {
+            return joinPoint.proceed(args);
+        }
+        DriverReadDto driver = driverBatcher.submit(driverId).join();
+        if (driver == null || !Objects.equals(driver.email(),
+                authenticationToken.getToken().getClaims().get(EMAIL_CLAIM))) {
+            throw new AccessDeniedException(messageSource.getMessage(
+                    ExceptionConstants.ACCESS_DENIED_MESSAGE,
+                    new Object[]{},
+                    LocaleContextHolder.getLocale()));
+        }
+        return joinPoint.proceed(args);
+    }
+}
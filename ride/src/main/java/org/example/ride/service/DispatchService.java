@@ -0,0 +1,122 @@
+package org.example.ride.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ride.dispatch.DriverCandidate;
+import org.example.ride.dispatch.DriverLocation;
+import org.example.ride.dispatch.DriverLocationIndex;
+import org.example.ride.dto.create.DriverLocationDto;
+import org.example.ride.dto.read.DriverLocationReadDto;
+import org.example.ride.entity.enumeration.DriverRideStatus;
+import org.example.ride.repository.RideRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Assigns drivers from the {@link DriverLocationIndex}. Claims in the index are local to this instance,
+ * a driver claimed here is still available in the index of every other instance. So before a driver is
+ * assigned the database is checked under an advisory lock on the driver: a driver whose lock is held by
+ * another transaction, or who already has an unfinished ride, is skipped.
+ */
+@Service
+@RequiredArgsConstructor
+public class DispatchService {
+    private static final Set<DriverRideStatus> FINISHED_STATUSES =
+            EnumSet.of(DriverRideStatus.COMPLETED, DriverRideStatus.CANCELED);
+
+    private final DriverLocationIndex driverLocationIndex;
+    private final RideRepository rideRepository;
+
+    @Value("${dispatch.candidates}")
+    private int candidates;
+
+    @Value("${dispatch.location-max-age}")
+    private Duration locationMaxAge;
+
+    public void updateLocation(Long driverId, DriverLocationDto locationDto) {
+        driverLocationIndex.markAvailable(driverId, locationDto.latitude(), locationDto.longitude());
+    }
+
+    /**
+     * Applies a location published by the driver service. It only moves the driver, so a claimed or
+     * offline driver doesn't become dispatchable again. The location topic is compacted and keeps the
+     * last location of drivers that went offline long ago, such locations are skipped.
+     */
+    public void applyLocation(DriverLocationReadDto location) {
+        if (location.recordedAt() != null && location.recordedAt().isBefore(Instant.now().minus(locationMaxAge))) {
+            return;
+        }
+        driverLocationIndex.update(location.driverId(), location.latitude(), location.longitude());
+    }
+
+    public void removeLocation(Long driverId) {
+        driverLocationIndex.markOffline(driverId);
+    }
+
+    public Optional<Long> assignNearestDriver(double latitude, double longitude) {
+        for (DriverCandidate candidate : driverLocationIndex.findNearest(latitude, longitude, candidates)) {
+            DriverLocation claimed = driverLocationIndex.claim(candidate.driverId());
+            if (claimed == null) {
+                continue;
+            }
+            if (!isFree(claimed.driverId())) {
+                driverLocationIndex.release(claimed.driverId());
+                continue;
+            }
+            releaseOnRollback(claimed.driverId());
+            return Optional.of(claimed.driverId());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Takes a driver chosen by the caller out of the pool, so that it isn't assigned to another ride.
+     */
+    public void claimDriver(long driverId) {
+        if (driverLocationIndex.claim(driverId) != null) {
+            releaseOnRollback(driverId);
+        }
+    }
+
+    /**
+     * Returns a driver whose ride has finished to the pool once the transaction commits.
+     */
+    public void releaseDriver(long driverId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            driverLocationIndex.release(driverId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                driverLocationIndex.release(driverId);
+            }
+        });
+    }
+
+    private boolean isFree(long driverId) {
+        return rideRepository.tryLockDriver(driverId)
+                && !rideRepository.existsByDriverIdAndDriverRideStatusNotIn(driverId, FINISHED_STATUSES);
+    }
+
+    private void releaseOnRollback(long driverId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    driverLocationIndex.release(driverId);
+                }
+            }
+        });
+    }
+}
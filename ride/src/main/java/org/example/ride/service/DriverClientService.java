@@ -3,9 +3,12 @@ package org.example.ride.service;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import org.example.ride.client.CommonDriverClient;
+import org.example.ride.dto.create.BatchRequestDto;
 import org.example.ride.dto.read.DriverReadDto;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 @Service
 public class DriverClientService {
@@ -15,4 +18,9 @@ public class DriverClientService {
     public DriverReadDto getDriver(Long id) {
         return driverClient.findById(id);
     }
+
+    @CircuitBreaker(name = "driver-client")
+    public List<DriverReadDto> getDrivers(List<Long> ids) {
+        return driverClient.findByIds(new BatchRequestDto(ids));
+    }
 }
@@ -0,0 +1,84 @@
+package org.example.ride.service;
+
+import com.example.exceptionhandlerstarter.exception.driver.DriverNotFoundException;
+import com.example.exceptionhandlerstarter.exception.passenger.PassengerNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.example.ride.client.batch.MicroBatcher;
+import org.example.ride.constants.ExceptionConstants;
+import org.example.ride.dto.read.DriverReadDto;
+import org.example.ride.dto.read.PassengerReadDto;
+import org.example.ride.projection.ParticipantProjection;
+import org.example.ride.projection.ParticipantStatus;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Existence checks of ride participants. Ids known to the local projection are answered in memory,
+ * only ids it has not seen yet go to the owning service through the micro-batchers.
+ */
+@Service
+@RequiredArgsConstructor
+public class ParticipantLookupService {
+    private final ParticipantProjection participantProjection;
+    private final MicroBatcher<DriverReadDto> driverBatcher;
+    private final MicroBatcher<PassengerReadDto> passengerBatcher;
+    private final MessageSource messageSource;
+
+    public CompletableFuture<Void> requireDriver(Long id) {
+        Locale locale = LocaleContextHolder.getLocale();
+        if (id == null) {
+            return CompletableFuture.failedFuture(driverNotFound(null, locale));
+        }
+        ParticipantStatus status = participantProjection.driverStatus(id);
+        if (status == ParticipantStatus.ACTIVE) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (status == ParticipantStatus.DELETED) {
+            return CompletableFuture.failedFuture(driverNotFound(id, locale));
+        }
+        return driverBatcher.submit(id)
+                .thenAccept(driver -> {
+                    if (driver == null) {
+                        throw driverNotFound(id, locale);
+                    }
+                });
+    }
+
+    public CompletableFuture<Void> requirePassenger(Long id) {
+        Locale locale = LocaleContextHolder.getLocale();
+        if (id == null) {
+            return CompletableFuture.failedFuture(passengerNotFound(null, locale));
+        }
+        ParticipantStatus status = participantProjection.passengerStatus(id);
+        if (status == ParticipantStatus.ACTIVE) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (status == ParticipantStatus.DELETED) {
+            return CompletableFuture.failedFuture(passengerNotFound(id, locale));
+        }
+        return passengerBatcher.submit(id)
+                .thenAccept(passenger -> {
+                    if (passenger == null) {
+                        throw passengerNotFound(id, locale);
+                    }
+                });
+    }
+
+    private DriverNotFoundException driverNotFound(Long id, Locale locale) {
+        return new DriverNotFoundException(messageSource.getMessage(
+                ExceptionConstants.DRIVER_NOT_FOUND_MESSAGE,
+                new Object[]{id},
+                locale));
+    }
+
+    private PassengerNotFoundException passengerNotFound(Long id, Locale locale) {
+        return new PassengerNotFoundException(messageSource.getMessage(
+                ExceptionConstants.PASSENGER_NOT_FOUND_MESSAGE,
+                new Object[]{id},
+                locale));
+    }
+}
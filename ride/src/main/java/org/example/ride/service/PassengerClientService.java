@@ -3,9 +3,12 @@ package org.example.ride.service;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import org.example.ride.client.CommonPassengerClient;
+import org.example.ride.dto.create.BatchRequestDto;
 import org.example.ride.dto.read.PassengerReadDto;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 @Service
 public class PassengerClientService {
@@ -15,4 +18,9 @@ public class PassengerClientService {
     public PassengerReadDto getPassenger(Long id) {
         return passengerClient.findById(id);
     }
+
+    @CircuitBreaker(name = "passenger-client")
+    public List<PassengerReadDto> getPassengers(List<Long> ids) {
+        return passengerClient.findByIds(new BatchRequestDto(ids));
+    }
 }
@@ -0,0 +1,78 @@
+package org.example.ride.service;
+
+import com.example.exceptionhandlerstarter.exception.ride.InvalidQuoteException;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.example.ride.constants.ExceptionConstants;
+import org.example.ride.dto.create.QuoteRequestDto;
+import org.example.ride.dto.create.RideCreateEditDto;
+import org.example.ride.dto.read.QuoteReadDto;
+import org.example.ride.pricing.Quote;
+import org.example.ride.pricing.QuoteSigner;
+import org.example.ride.utils.PriceGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Issues and redeems signed price quotes. Repeated requests for the same passenger and route are
+ * answered from a bounded cache that expires entries after half of the quote lifetime, so a polled
+ * quote always has time left to be redeemed.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuoteService {
+    private final PriceGenerator priceGenerator;
+    private final QuoteSigner quoteSigner;
+    private final Cache<QuoteRequestDto, QuoteReadDto> quoteCache;
+    private final MessageSource messageSource;
+
+    @Value("${quote.ttl}")
+    private long ttl;
+
+    public QuoteReadDto quote(QuoteRequestDto request) {
+        return quoteCache.get(request, this::createQuote);
+    }
+
+    public BigDecimal redeem(String quoteId, RideCreateEditDto rideDto) {
+        return quoteSigner.verify(quoteId)
+                .filter(quote -> quote.expiresAt().isAfter(Instant.now()))
+                .filter(quote -> matches(quote, rideDto))
+                .map(Quote::cost)
+                .orElseThrow(() -> new InvalidQuoteException(messageSource.getMessage(
+                        ExceptionConstants.INVALID_QUOTE_MESSAGE,
+                        null,
+                        LocaleContextHolder.getLocale())));
+    }
+
+    private QuoteReadDto createQuote(QuoteRequestDto request) {
+        Quote quote = Quote.builder()
+                .passengerId(request.passengerId())
+                .latitudeFrom(request.latitudeFrom())
+                .longitudeFrom(request.longitudeFrom())
+                .latitudeTo(request.latitudeTo())
+                .longitudeTo(request.longitudeTo())
+                .cost(priceGenerator.calculateCost(request.latitudeFrom(), request.longitudeFrom(),
+                        request.latitudeTo(), request.longitudeTo()))
+                .expiresAt(Instant.now().plusMillis(ttl))
+                .build();
+        return QuoteReadDto.builder()
+                .id(quoteSigner.sign(quote))
+                .cost(quote.cost())
+                .expiresAt(quote.expiresAt())
+                .build();
+    }
+
+    private boolean matches(Quote quote, RideCreateEditDto rideDto) {
+        return Objects.equals(quote.passengerId(), rideDto.passengerId())
+               && Objects.equals(quote.latitudeFrom(), rideDto.latitudeFrom())
+               && Objects.equals(quote.longitudeFrom(), rideDto.longitudeFrom())
+               && Objects.equals(quote.latitudeTo(), rideDto.latitudeTo())
+               && Objects.equals(quote.longitudeTo(), rideDto.longitudeTo());
+    }
+}
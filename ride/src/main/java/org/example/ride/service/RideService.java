@@ -1,6 +1,8 @@
 package org.example.ride.service;
 
 import com.example.exceptionhandlerstarter.exception.param.InvalidCountParametersException;
+import com.example.exceptionhandlerstarter.exception.param.InvalidCursorException;
+import com.example.exceptionhandlerstarter.exception.ride.ConcurrentRideUpdateException;
 import com.example.exceptionhandlerstarter.exception.ride.RideNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,27 +10,33 @@ import org.example.ride.constants.ExceptionConstants;
 import org.example.ride.dto.create.PassengerRideStatusDto;
 import org.example.ride.dto.create.RideCreateEditDto;
 import org.example.ride.dto.create.DriverRideStatusDto;
+import org.example.ride.dto.read.CursorResponse;
 import org.example.ride.dto.read.RideReadDto;
 import org.example.ride.entity.Ride;
 import org.example.ride.entity.enumeration.DriverRideStatus;
 import org.example.ride.entity.enumeration.PassengerRideStatus;
 import org.example.ride.kafka.KafkaProducer;
+import org.example.ride.lifecycle.RideLifecycle;
+import org.example.ride.lifecycle.RideTransition;
 import org.example.ride.mapper.RideMapper;
 import org.example.ride.repository.RideRepository;
 import org.example.ride.utils.PriceGenerator;
-import org.example.ride.validation.RideStatusValidation;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.example.ride.constants.RedisConstants.RIDE_CACHE_VALUE;
 
@@ -40,18 +48,14 @@ public class RideService {
     private final MessageSource messageSource;
     private final RideMapper rideMapper;
     private final PriceGenerator priceGenerator;
-    private final RideStatusValidation rideStatusValidation;
-    private final PassengerClientService passengerClient;
-    private final DriverClientService driverClient;
+    private final RideLifecycle rideLifecycle;
+    private final ParticipantLookupService participantLookup;
     private final KafkaProducer kafkaProducer;
+    private final DispatchService dispatchService;
+    private final QuoteService quoteService;
 
     public Page<RideReadDto> findRides(Long driverId, Long passengerId, Integer page, Integer limit) {
-        if (driverId != null && passengerId != null) {
-            throw new InvalidCountParametersException(messageSource.getMessage(
-                    ExceptionConstants.INVALID_COUNT_PARAMETERS_MESSAGE,
-                    new Object[]{},
-                    LocaleContextHolder.getLocale()));
-        }
+        validateSingleIdParameter(driverId, passengerId);
 
         if (driverId != null) return findByDriverId(driverId, page, limit);
         if (passengerId != null) return findByPassengerId(passengerId, page, limit);
@@ -59,13 +63,32 @@ public class RideService {
         return findAll(page, limit);
     }
 
+    public CursorResponse<RideReadDto> findRidesByCursor(Long driverId, Long passengerId, String cursor, Integer limit) {
+        validateSingleIdParameter(driverId, passengerId);
+
+        long afterId = decodeCursor(cursor);
+        Limit request = Limit.of(limit + 1);
+        List<Ride> rides;
+        if (driverId != null) {
+            rides = rideRepository.findByDriverIdAndIdGreaterThanOrderByIdAsc(driverId, afterId, request);
+        } else if (passengerId != null) {
+            rides = rideRepository.findByPassengerIdAndIdGreaterThanOrderByIdAsc(passengerId, afterId, request);
+        } else {
+            rides = rideRepository.findByIdGreaterThanOrderByIdAsc(afterId, request);
+        }
+
+        return CursorResponse.of(rides.stream()
+                .map(rideMapper::toReadDto)
+                .toList(), limit, RideReadDto::id);
+    }
+
     public Page<RideReadDto> findAll(Integer page, Integer limit) {
         Pageable request = PageRequest.of(page, limit);
         return rideRepository.findAll(request)
                 .map(rideMapper::toReadDto);
     }
 
-    @Cacheable(value = RIDE_CACHE_VALUE, key = "#id")
+    @Cacheable(value = RIDE_CACHE_VALUE, key = "#id", sync = true)
     public RideReadDto findById(Long id) {
         return rideRepository.findById(id)
                 .map(rideMapper::toReadDto)
@@ -88,8 +111,7 @@ public class RideService {
     }
 
     public List<RideReadDto> findTop100ByDriverId(Long id) {
-        Sort sort = Sort.by(Sort.Direction.DESC, "driverId");
-        return rideRepository.findTop100ByDriverId(id, sort)
+        return rideRepository.findTop100ByDriverIdOrderByCreatedAtDescIdDesc(id)
                 .stream()
                 .map(rideMapper::toReadDto)
                 .toList();
@@ -98,13 +120,27 @@ public class RideService {
     @Transactional
     @CachePut(value = RIDE_CACHE_VALUE, key = "#result.id()")
     public RideReadDto create(RideCreateEditDto rideDto) {
-        driverClient.getDriver(rideDto.driverId());
-        passengerClient.getPassenger(rideDto.passengerId());
+        CompletableFuture<Void> passenger = participantLookup.requirePassenger(rideDto.passengerId());
+        BigDecimal cost = rideDto.quoteId() != null
+                ? quoteService.redeem(rideDto.quoteId(), rideDto)
+                : priceGenerator.calculateCost(rideDto.latitudeFrom(), rideDto.longitudeFrom(),
+                        rideDto.latitudeTo(), rideDto.longitudeTo());
+        priceGenerator.recordDemand(rideDto.latitudeFrom(), rideDto.longitudeFrom());
 
         Ride ride = rideMapper.toRide(rideDto);
+        if (ride.getDriverId() == null) {
+            assignNearestDriver(ride, rideDto);
+        } else {
+            dispatchService.claimDriver(ride.getDriverId());
+        }
+        CompletableFuture<Void> driver = ride.getDriverId() != null
+                ? participantLookup.requireDriver(ride.getDriverId())
+                : CompletableFuture.completedFuture(null);
+        awaitLookups(passenger, driver);
+
         ride.setDriverRideStatus(DriverRideStatus.CREATED);
         ride.setPassengerRideStatus(PassengerRideStatus.WAITING);
-        ride.setCost(priceGenerator.generateRandomCost());
+        ride.setCost(cost);
 
         return rideMapper.toReadDto(rideRepository.save(ride));
     }
@@ -114,12 +150,12 @@ public class RideService {
     public RideReadDto update(Long id, RideCreateEditDto rideDto) {
         return rideRepository.findById(id)
                 .map(ride -> {
-                    driverClient.getDriver(rideDto.driverId());
-                    passengerClient.getPassenger(rideDto.passengerId());
+                    awaitLookups(participantLookup.requireDriver(rideDto.driverId()),
+                            participantLookup.requirePassenger(rideDto.passengerId()));
                     rideMapper.map(ride, rideDto);
                     return ride;
                 })
-                .map(rideRepository::save)
+                .map(this::saveVersioned)
                 .map(rideMapper::toReadDto)
                 .orElseThrow(() -> new RideNotFoundException(messageSource.getMessage(
                         ExceptionConstants.RIDE_NOT_FOUND_EXCEPTION_MESSAGE,
@@ -136,17 +172,14 @@ public class RideService {
                         new Object[]{id},
                         LocaleContextHolder.getLocale())));
 
-        DriverRideStatus driverRideStatus = driverRideStatusDto.rideStatus();
-
-        rideStatusValidation.validateUpdatingDriverStatus(ride, driverRideStatus);
-        rideMapper.mapDriverStatus(ride, driverRideStatus);
+        RideTransition transition = rideLifecycle.planDriverStatus(ride, driverRideStatusDto.rideStatus());
+        applyTransition(ride, transition);
 
-        if (driverRideStatus == DriverRideStatus.ON_WAY_TO_DESTINATION) {
-            updatePassengerStatus(id, new PassengerRideStatusDto(PassengerRideStatus.IN_CAR));
-        }
-
-        RideReadDto rideRead = rideMapper.toReadDto(rideRepository.save(ride));
+        RideReadDto rideRead = rideMapper.toReadDto(ride);
         kafkaProducer.notifyPassenger(rideRead);
+        if (transition.isPassengerRideStatusChanged()) {
+            kafkaProducer.notifyDriver(rideRead);
+        }
 
         return rideRead;
     }
@@ -160,12 +193,83 @@ public class RideService {
                         new Object[]{id},
                         LocaleContextHolder.getLocale())));
 
-        rideStatusValidation.validateUpdatingPassengerStatus(ride);
-        rideMapper.mapPassengerStatus(ride, passengerRideStatusDto.rideStatus());
+        RideTransition transition = rideLifecycle.planPassengerStatus(ride, passengerRideStatusDto.rideStatus());
+        applyTransition(ride, transition);
 
-        RideReadDto rideRead = rideMapper.toReadDto(rideRepository.save(ride));
+        RideReadDto rideRead = rideMapper.toReadDto(ride);
         kafkaProducer.notifyDriver(rideRead);
 
         return rideRead;
     }
+
+    private void applyTransition(Ride ride, RideTransition transition) {
+        int updated = rideRepository.updateStatuses(ride.getId(),
+                transition.fromDriverRideStatus(),
+                transition.fromPassengerRideStatus(),
+                transition.toDriverRideStatus(),
+                transition.toPassengerRideStatus());
+        if (updated == 0) {
+            throw concurrentUpdate(ride.getId());
+        }
+        rideLifecycle.apply(ride, transition);
+    }
+
+    private Ride saveVersioned(Ride ride) {
+        try {
+            return rideRepository.saveAndFlush(ride);
+        } catch (OptimisticLockingFailureException e) {
+            throw concurrentUpdate(ride.getId());
+        }
+    }
+
+    private ConcurrentRideUpdateException concurrentUpdate(Long id) {
+        return new ConcurrentRideUpdateException(messageSource.getMessage(
+                ExceptionConstants.CONCURRENT_UPDATE_MESSAGE,
+                new Object[]{id},
+                LocaleContextHolder.getLocale()));
+    }
+
+    private void awaitLookups(CompletableFuture<?>... lookups) {
+        for (CompletableFuture<?> lookup : lookups) {
+            try {
+                lookup.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void assignNearestDriver(Ride ride, RideCreateEditDto rideDto) {
+        if (rideDto.latitudeFrom() == null || rideDto.longitudeFrom() == null) {
+            return;
+        }
+        dispatchService.assignNearestDriver(rideDto.latitudeFrom(), rideDto.longitudeFrom())
+                .ifPresent(ride::setDriverId);
+    }
+
+    private void validateSingleIdParameter(Long driverId, Long passengerId) {
+        if (driverId != null && passengerId != null) {
+            throw new InvalidCountParametersException(messageSource.getMessage(
+                    ExceptionConstants.INVALID_COUNT_PARAMETERS_MESSAGE,
+                    new Object[]{},
+                    LocaleContextHolder.getLocale()));
+        }
+    }
+
+    private long decodeCursor(String cursor) {
+        if (cursor == null) {
+            return 0L;
+        }
+        try {
+            return CursorResponse.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(messageSource.getMessage(
+                    ExceptionConstants.INVALID_CURSOR_MESSAGE,
+                    new Object[]{cursor},
+                    LocaleContextHolder.getLocale()));
+        }
+    }
 }
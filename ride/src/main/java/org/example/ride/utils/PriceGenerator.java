@@ -1,23 +1,61 @@
 package org.example.ride.utils;
 
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import org.example.ride.constants.PriceGeneratorConstants;
+import org.example.ride.dispatch.DriverLocationIndex;
+import org.example.ride.pricing.DemandTracker;
+import org.example.ride.pricing.SurgeCalculator;
+import org.example.ride.pricing.SurgeTable;
+import org.example.ride.pricing.Tariff;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.Random;
 
+/**
+ * Ride cost from the estimated route and the surge of the pickup cell. The route is the straight
+ * line between pickup and destination stretched by the tariff route factor and driven at its average
+ * speed. Surge multipliers are recomputed on a schedule from requests and available drivers per
+ * dispatch cell, so pricing a ride is plain arithmetic over an immutable table.
+ */
 @Component
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
-public final class PriceGenerator {
-
-    public BigDecimal generateRandomCost() {
-        Random random = new Random();
-        int integerPart = random.nextInt(PriceGeneratorConstants.MAX_VALUE.intValue() + 1);
-        int fractionalPart = random.nextInt(100);
-        BigDecimal randomCost = new BigDecimal(integerPart + "." + String.format("%02d", fractionalPart));
-        return randomCost.setScale(PriceGeneratorConstants.SCALE, RoundingMode.HALF_UP);
+@RequiredArgsConstructor
+public class PriceGenerator {
+    private static final long MAX_CENTS =
+            PriceGeneratorConstants.MAX_VALUE.movePointRight(PriceGeneratorConstants.SCALE).longValueExact();
+    private static final double MINUTES_PER_HOUR = 60;
+
+    private final Tariff tariff;
+    private final DriverLocationIndex driverLocationIndex;
+    private final DemandTracker demandTracker;
+    private final SurgeCalculator surgeCalculator;
+
+    private volatile SurgeTable surgeTable = SurgeTable.EMPTY;
+
+    public BigDecimal calculateCost(Double latitudeFrom, Double longitudeFrom, Double latitudeTo, Double longitudeTo) {
+        boolean hasPickup = latitudeFrom != null && longitudeFrom != null;
+        double distance = hasPickup && latitudeTo != null && longitudeTo != null
+                ? DriverLocationIndex.distance(latitudeFrom, longitudeFrom, latitudeTo, longitudeTo) * tariff.routeFactor()
+                : 0;
+        double minutes = distance / tariff.averageSpeed() * MINUTES_PER_HOUR;
+        double fare = Math.max(tariff.baseFare() + distance * tariff.perKilometer() + minutes * tariff.perMinute(),
+                tariff.minimumFare());
+        double surge = hasPickup ? surgeTable.multiplier(driverLocationIndex.cellAt(latitudeFrom, longitudeFrom)) : 1;
+
+        long cents = Math.min(Math.round(fare * surge * 100), MAX_CENTS);
+        return BigDecimal.valueOf(cents, PriceGeneratorConstants.SCALE);
+    }
+
+    public void recordDemand(Double latitude, Double longitude) {
+        if (latitude != null && longitude != null) {
+            demandTracker.record(driverLocationIndex.cellAt(latitude, longitude), System.currentTimeMillis());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${pricing.surge.recompute-interval}")
+    public void recomputeSurge() {
+        surgeTable = surgeCalculator.compute(
+                demandTracker.countByCell(System.currentTimeMillis()),
+                driverLocationIndex.countByCell());
     }
 }
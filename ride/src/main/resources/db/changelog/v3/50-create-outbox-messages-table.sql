@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id           BIGSERIAL     PRIMARY KEY,
+    topic        VARCHAR(128)  NOT NULL,
+    message_key  VARCHAR(64)   NOT NULL,
+    payload      TEXT          NOT NULL,
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
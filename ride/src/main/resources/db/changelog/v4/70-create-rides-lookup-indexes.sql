@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS idx_rides_driver_id_created_at
+    ON rides (driver_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_rides_passenger_id_created_at
+    ON rides (passenger_id, created_at DESC, id DESC);
@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS idx_rides_driver_id_created_at;
+
+DROP INDEX IF EXISTS idx_rides_passenger_id_created_at;
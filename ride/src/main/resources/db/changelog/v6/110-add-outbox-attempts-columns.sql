@@ -0,0 +1,3 @@
+ALTER TABLE outbox_messages
+ADD COLUMN attempts INTEGER NOT NULL DEFAULT 0,
+ADD COLUMN parked_at TIMESTAMP(6) WITH TIME ZONE;
@@ -0,0 +1,3 @@
+ALTER TABLE outbox_messages
+DROP COLUMN parked_at,
+DROP COLUMN attempts;
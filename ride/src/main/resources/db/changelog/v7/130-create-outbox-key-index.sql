@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_outbox_messages_topic_message_key_id
+    ON outbox_messages (topic, message_key, id);
@@ -0,0 +1,96 @@
+package org.example.ride.benchmark;
+
+import org.example.ride.dispatch.DriverCandidate;
+import org.example.ride.dispatch.DriverLocationIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DriverLocationIndexBenchmark {
+    private static final double LATITUDE = 53.9006;
+    private static final double LONGITUDE = 27.5590;
+    private static final double SPREAD = 0.3;
+    private static final int POINTS = 1 << 16;
+
+    @Param("100000")
+    private int drivers;
+
+    @Param("5")
+    private int candidates;
+
+    private final double[] latitudes = new double[POINTS];
+    private final double[] longitudes = new double[POINTS];
+    private final AtomicInteger cursor = new AtomicInteger();
+    private DriverLocationIndex index;
+    private long nextDriverId;
+
+    @Setup(Level.Trial)
+    public void generatePoints() {
+        Random random = new Random(42);
+        for (int i = 0; i < POINTS; i++) {
+            latitudes[i] = LATITUDE + (random.nextDouble() - 0.5) * SPREAD;
+            longitudes[i] = LONGITUDE + (random.nextDouble() - 0.5) * SPREAD;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void fillIndex() {
+        index = new DriverLocationIndex(0.01, 30);
+        for (int id = 0; id < drivers; id++) {
+            index.update(id, latitudes[id & (POINTS - 1)], longitudes[(id * 7) & (POINTS - 1)]);
+        }
+        nextDriverId = drivers;
+    }
+
+    @Benchmark
+    public void insert() {
+        int point = nextPoint();
+        index.update(nextDriverId++, latitudes[point], longitudes[point]);
+    }
+
+    @Benchmark
+    public void move() {
+        int point = nextPoint();
+        index.update(point % drivers, latitudes[point], longitudes[(point * 3) & (POINTS - 1)]);
+    }
+
+    @Benchmark
+    public List<DriverCandidate> nearest() {
+        int point = nextPoint();
+        return index.findNearest(latitudes[point], longitudes[point], candidates);
+    }
+
+    private int nextPoint() {
+        return cursor.getAndIncrement() & (POINTS - 1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DriverLocationIndexBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
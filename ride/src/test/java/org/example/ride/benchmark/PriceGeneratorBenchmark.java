@@ -0,0 +1,98 @@
+package org.example.ride.benchmark;
+
+import org.example.ride.dispatch.DriverLocationIndex;
+import org.example.ride.pricing.DemandTracker;
+import org.example.ride.pricing.SurgeCalculator;
+import org.example.ride.pricing.Tariff;
+import org.example.ride.utils.PriceGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceGeneratorBenchmark {
+    private static final double LATITUDE = 53.9006;
+    private static final double LONGITUDE = 27.5590;
+    private static final double SPREAD = 0.3;
+    private static final int POINTS = 1 << 16;
+    private static final int DRIVERS = 20_000;
+    private static final int REQUESTS = 50_000;
+
+    private final double[] latitudes = new double[POINTS];
+    private final double[] longitudes = new double[POINTS];
+    private final AtomicInteger cursor = new AtomicInteger();
+    private PriceGenerator priceGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < POINTS; i++) {
+            latitudes[i] = LATITUDE + (random.nextDouble() - 0.5) * SPREAD;
+            longitudes[i] = LONGITUDE + (random.nextDouble() - 0.5) * SPREAD;
+        }
+
+        DriverLocationIndex index = new DriverLocationIndex(0.01, 30);
+        for (int id = 0; id < DRIVERS; id++) {
+            index.update(id, latitudes[id & (POINTS - 1)], longitudes[(id * 7) & (POINTS - 1)]);
+        }
+        Tariff tariff = Tariff.builder()
+                .baseFare(2.5)
+                .perKilometer(0.8)
+                .perMinute(0.2)
+                .minimumFare(4)
+                .routeFactor(1.3)
+                .averageSpeed(30)
+                .build();
+        priceGenerator = new PriceGenerator(tariff, index, new DemandTracker(600_000, 10), new SurgeCalculator(0.5, 3));
+        for (int i = 0; i < REQUESTS; i++) {
+            priceGenerator.recordDemand(latitudes[(i * 3) & (POINTS - 1)], longitudes[(i * 5) & (POINTS - 1)]);
+        }
+        priceGenerator.recomputeSurge();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public BigDecimal quote() {
+        int from = nextPoint();
+        int to = (from * 31) & (POINTS - 1);
+        return priceGenerator.calculateCost(latitudes[from], longitudes[from], latitudes[to], longitudes[to]);
+    }
+
+    @Benchmark
+    public void recomputeSurge() {
+        priceGenerator.recomputeSurge();
+    }
+
+    private int nextPoint() {
+        return cursor.getAndIncrement() & (POINTS - 1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PriceGeneratorBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.ride.benchmark;
+
+import com.example.exceptionhandlerstarter.exception.BaseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.ride.entity.Ride;
+import org.example.ride.entity.enumeration.DriverRideStatus;
+import org.example.ride.entity.enumeration.PassengerRideStatus;
+import org.example.ride.lifecycle.RideLifecycle;
+import org.example.ride.lifecycle.RideTransition;
+import org.example.ride.lifecycle.RideTransitionMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RideLifecycleBenchmark {
+    private static final DriverRideStatus[] DRIVER_PATH = {
+            DriverRideStatus.ACCEPTED,
+            DriverRideStatus.ON_WAY_FOR_PASSENGER,
+            DriverRideStatus.WAITING,
+            DriverRideStatus.ON_WAY_TO_DESTINATION,
+            DriverRideStatus.COMPLETED
+    };
+
+    private RideLifecycle rideLifecycle;
+    private Ride ride;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rideLifecycle = new RideLifecycle(new StaticMessageSource(),
+                List.of(new RideTransitionMetrics(new SimpleMeterRegistry())));
+        ride = new Ride();
+    }
+
+    @Benchmark
+    public Ride driverLifecycle() {
+        ride.setDriverRideStatus(DriverRideStatus.CREATED);
+        ride.setPassengerRideStatus(PassengerRideStatus.WAITING);
+        for (DriverRideStatus status : DRIVER_PATH) {
+            if (status == DriverRideStatus.ON_WAY_TO_DESTINATION) {
+                RideTransition boarding = rideLifecycle.planPassengerStatus(ride, PassengerRideStatus.IN_CAR);
+                rideLifecycle.apply(ride, boarding);
+            }
+            rideLifecycle.apply(ride, rideLifecycle.planDriverStatus(ride, status));
+        }
+        return ride;
+    }
+
+    @Benchmark
+    public RideTransition allowedTransition() {
+        ride.setDriverRideStatus(DriverRideStatus.WAITING);
+        ride.setPassengerRideStatus(PassengerRideStatus.WAITING);
+        return rideLifecycle.planDriverStatus(ride, DriverRideStatus.ON_WAY_TO_DESTINATION);
+    }
+
+    @Benchmark
+    public BaseException rejectedTransition() {
+        ride.setDriverRideStatus(DriverRideStatus.CREATED);
+        try {
+            rideLifecycle.planDriverStatus(ride, DriverRideStatus.COMPLETED);
+            throw new IllegalStateException("Transition must be rejected");
+        } catch (BaseException e) {
+            return e;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RideLifecycleBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.ride.benchmark;
+
+import org.example.ride.dto.create.RideCreateEditDto;
+import org.example.ride.dto.read.RideReadDto;
+import org.example.ride.entity.Ride;
+import org.example.ride.entity.enumeration.DriverRideStatus;
+import org.example.ride.entity.enumeration.PassengerRideStatus;
+import org.example.ride.mapper.RideMapper;
+import org.example.ride.mapper.RideMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RideMapperBenchmark {
+    private final RideMapper rideMapper = new RideMapperImpl();
+    private Ride ride;
+    private RideCreateEditDto dto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ride = Ride.builder()
+                .id(1L)
+                .driverId(2L)
+                .passengerId(3L)
+                .addressFrom("Nezavisimosti avenue, 4")
+                .addressTo("Pobediteley avenue, 65")
+                .driverRideStatus(DriverRideStatus.ON_WAY_FOR_PASSENGER)
+                .passengerRideStatus(PassengerRideStatus.WAITING)
+                .cost(new BigDecimal("12.40"))
+                .version(3L)
+                .build();
+        dto = RideCreateEditDto.builder()
+                .driverId(2L)
+                .passengerId(3L)
+                .addressFrom("Nezavisimosti avenue, 4")
+                .addressTo("Pobediteley avenue, 65")
+                .latitudeFrom(53.9006)
+                .longitudeFrom(27.5590)
+                .latitudeTo(53.9345)
+                .longitudeTo(27.6512)
+                .build();
+    }
+
+    @Benchmark
+    public RideReadDto toReadDto() {
+        return rideMapper.toReadDto(ride);
+    }
+
+    @Benchmark
+    public Ride toRide() {
+        return rideMapper.toRide(dto);
+    }
+
+    @Benchmark
+    public Ride map() {
+        Ride target = new Ride();
+        rideMapper.map(target, dto);
+        return target;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RideMapperBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
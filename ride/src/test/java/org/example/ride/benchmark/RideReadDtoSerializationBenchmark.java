@@ -0,0 +1,95 @@
+package org.example.ride.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.example.ride.constants.KafkaConstants;
+import org.example.ride.dto.read.RideReadDto;
+import org.example.ride.entity.enumeration.DriverRideStatus;
+import org.example.ride.entity.enumeration.PassengerRideStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the ride notification on its way to Kafka: the outbox payload written in the ride
+ * transaction, read back by the relay and serialized again by the producer's value serializer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RideReadDtoSerializationBenchmark {
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final JsonSerializer<Object> serializer = new JsonSerializer<>(objectMapper);
+    private RideReadDto ride;
+    private String payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        serializer.configure(Map.of(JsonSerializer.TYPE_MAPPINGS, "RideReadDto:" + RideReadDto.class.getName()), false);
+        ride = RideReadDto.builder()
+                .id(1L)
+                .driverId(2L)
+                .passengerId(3L)
+                .addressFrom("Nezavisimosti avenue, 4")
+                .addressTo("Pobediteley avenue, 65")
+                .driverRideStatus(DriverRideStatus.ON_WAY_FOR_PASSENGER)
+                .passengerRideStatus(PassengerRideStatus.WAITING)
+                .cost(new BigDecimal("12.40"))
+                .build();
+        payload = objectMapper.writeValueAsString(ride);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        serializer.close();
+    }
+
+    @Benchmark
+    public String writeOutboxPayload() throws Exception {
+        return objectMapper.writeValueAsString(ride);
+    }
+
+    @Benchmark
+    public RideReadDto readOutboxPayload() throws Exception {
+        return objectMapper.readValue(payload, RideReadDto.class);
+    }
+
+    @Benchmark
+    public byte[] serializeRecordValue() {
+        return serializer.serialize(KafkaConstants.DRIVER_NOTIFICATION_TOPIC, new RecordHeaders(), ride);
+    }
+
+    @Benchmark
+    public byte[] relay() throws Exception {
+        RideReadDto value = objectMapper.readValue(payload, RideReadDto.class);
+        return serializer.serialize(KafkaConstants.DRIVER_NOTIFICATION_TOPIC, new RecordHeaders(), value);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RideReadDtoSerializationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
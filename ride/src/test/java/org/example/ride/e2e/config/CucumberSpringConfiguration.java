@@ -5,6 +5,6 @@ import org.example.ride.RideApplication;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @CucumberContextConfiguration
-@SpringBootTest(classes = RideApplication.class)
+@SpringBootTest(classes = RideApplication.class, properties = "quote.secret=e2e-quote-secret")
 public class CucumberSpringConfiguration {
 }
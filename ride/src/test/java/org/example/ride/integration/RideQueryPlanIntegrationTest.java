@@ -0,0 +1,158 @@
+package org.example.ride.integration;
+
+import org.example.ride.repository.RideRepository;
+import org.example.ride.util.CapturingStatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.ride.util.DataUtil.DEFAULT_ID;
+import static org.example.ride.util.DataUtil.LIMIT_VALUE;
+
+@Testcontainers
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.example.ride.util.CapturingStatementInspector"
+})
+@Sql(scripts = "/sql/seed_rides_for_query_plans.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+@ActiveProfiles("test")
+public class RideQueryPlanIntegrationTest {
+    private static final String RIDES_TABLE = "rides";
+    private static final String SEQ_SCAN_ON_RIDES = "Seq Scan on " + RIDES_TABLE;
+
+    @Container
+    public static PostgreSQLContainer postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void postgresqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+    }
+
+    @Autowired
+    private RideRepository rideRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void init() {
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    void findByDriverId_thenUseIndex() {
+        rideRepository.findByDriverId(DEFAULT_ID, PageRequest.of(1, LIMIT_VALUE));
+
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findByPassengerId_thenUseIndex() {
+        rideRepository.findByPassengerId(DEFAULT_ID, PageRequest.of(1, LIMIT_VALUE));
+
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findTop100ByDriverId_thenUseIndex() {
+        rideRepository.findTop100ByDriverIdOrderByCreatedAtDescIdDesc(DEFAULT_ID);
+
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findByIdGreaterThan_thenUseIndex() {
+        rideRepository.findByIdGreaterThanOrderByIdAsc(DEFAULT_ID, Limit.of(LIMIT_VALUE + 1));
+
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findByDriverIdAndIdGreaterThan_thenUseIndex() {
+        rideRepository.findByDriverIdAndIdGreaterThanOrderByIdAsc(DEFAULT_ID, DEFAULT_ID, Limit.of(LIMIT_VALUE + 1));
+
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findByPassengerIdAndIdGreaterThan_thenUseIndex() {
+        rideRepository.findByPassengerIdAndIdGreaterThanOrderByIdAsc(DEFAULT_ID, DEFAULT_ID, Limit.of(LIMIT_VALUE + 1));
+
+        assertNoSeqScan();
+    }
+
+    private void assertNoSeqScan() {
+        List<String> statements = CapturingStatementInspector.statements().stream()
+                .filter(sql -> sql.contains(RIDES_TABLE))
+                .toList();
+        assertThat(statements).isNotEmpty();
+        statements.forEach(sql -> assertThat(explain(sql))
+                .as("Query plan of %s", sql)
+                .doesNotContain(SEQ_SCAN_ON_RIDES));
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                int parameters = countParameters(sql);
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE query_plan_probe AS " + numberParameters(sql));
+                try (ResultSet plan = statement.executeQuery(
+                        "EXPLAIN EXECUTE query_plan_probe" + nullArguments(parameters))) {
+                    List<String> lines = new ArrayList<>();
+                    while (plan.next()) {
+                        lines.add(plan.getString(1));
+                    }
+                    return String.join(System.lineSeparator(), lines);
+                } finally {
+                    statement.execute("DEALLOCATE query_plan_probe");
+                    statement.execute("RESET plan_cache_mode");
+                }
+            }
+        });
+    }
+
+    private static int countParameters(String sql) {
+        return (int) sql.chars().filter(c -> c == '?').count();
+    }
+
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 8);
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private static String nullArguments(int parameters) {
+        return parameters == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")";
+    }
+}
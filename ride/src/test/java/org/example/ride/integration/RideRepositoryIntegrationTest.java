@@ -0,0 +1,97 @@
+package org.example.ride.integration;
+
+import org.example.ride.entity.Ride;
+import org.example.ride.entity.enumeration.DriverRideStatus;
+import org.example.ride.entity.enumeration.PassengerRideStatus;
+import org.example.ride.repository.RideRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.ride.util.DataUtil.getRideBuilder;
+
+@Testcontainers
+@SpringBootTest(properties = "eureka.client.enabled=false")
+@ActiveProfiles("test")
+public class RideRepositoryIntegrationTest {
+
+    @Container
+    public static PostgreSQLContainer postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void postgresqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+    }
+
+    @Autowired
+    private RideRepository rideRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        rideRepository.deleteAll();
+    }
+
+    @Test
+    void updateStatuses_whenStatusesMatch_thenUpdateStatusesAndModifiedAt() {
+        Instant modifiedBefore = Instant.now().minus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MICROS);
+        Ride ride = getRideBuilder()
+                .id(null)
+                .build();
+        ride.setCreatedAt(modifiedBefore);
+        ride.setModifiedAt(modifiedBefore);
+        Long id = rideRepository.save(ride).getId();
+
+        Integer updated = transactionTemplate.execute(status -> rideRepository.updateStatuses(id,
+                DriverRideStatus.ACCEPTED, PassengerRideStatus.WAITING,
+                DriverRideStatus.ON_WAY_FOR_PASSENGER, PassengerRideStatus.WAITING));
+
+        assertThat(updated).isEqualTo(1);
+        Ride actual = rideRepository.findById(id).orElseThrow();
+        assertThat(actual.getDriverRideStatus()).isEqualTo(DriverRideStatus.ON_WAY_FOR_PASSENGER);
+        Timestamp modifiedAt = jdbcTemplate.queryForObject(
+                "SELECT modified_at FROM rides WHERE id = ?", Timestamp.class, id);
+        assertThat(modifiedAt.toInstant()).isAfter(modifiedBefore);
+    }
+
+    @Test
+    void updateStatuses_whenStatusesChanged_thenKeepModifiedAt() {
+        Instant modifiedBefore = Instant.now().minus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MICROS);
+        Ride ride = getRideBuilder()
+                .id(null)
+                .build();
+        ride.setModifiedAt(modifiedBefore);
+        Long id = rideRepository.save(ride).getId();
+
+        Integer updated = transactionTemplate.execute(status -> rideRepository.updateStatuses(id,
+                DriverRideStatus.WAITING, PassengerRideStatus.WAITING,
+                DriverRideStatus.ON_WAY_TO_DESTINATION, PassengerRideStatus.IN_CAR));
+
+        assertThat(updated).isZero();
+        Timestamp modifiedAt = jdbcTemplate.queryForObject(
+                "SELECT modified_at FROM rides WHERE id = ?", Timestamp.class, id);
+        assertThat(modifiedAt.toInstant()).isEqualTo(modifiedBefore);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.ride.unit.client;
+
+import org.example.ride.client.batch.MicroBatcher;
+import org.example.ride.dto.read.DriverReadDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.ride.util.DataUtil.getDriverReadDtoBuilder;
+
+class MicroBatcherTest {
+    private final List<List<Long>> calls = new CopyOnWriteArrayList<>();
+
+    @Test
+    void submit_whenLookupsArriveWithinWindow_thenLoadsThemInOneCall() throws Exception {
+        try (MicroBatcher<DriverReadDto> batcher = batcher(Duration.ofMillis(50), 100)) {
+            CompletableFuture<DriverReadDto> first = batcher.submit(1L);
+            CompletableFuture<DriverReadDto> second = batcher.submit(2L);
+            CompletableFuture<DriverReadDto> duplicate = batcher.submit(1L);
+
+            assertThat(first.get(1, TimeUnit.SECONDS).id()).isEqualTo(1L);
+            assertThat(second.get(1, TimeUnit.SECONDS).id()).isEqualTo(2L);
+            assertThat(duplicate).isSameAs(first);
+            assertThat(calls).containsExactly(List.of(1L, 2L));
+        }
+    }
+
+    @Test
+    void submit_whenBatchIsFull_thenLoadsWithoutWaitingForWindow() throws Exception {
+        try (MicroBatcher<DriverReadDto> batcher = batcher(Duration.ofHours(1), 2)) {
+            CompletableFuture<DriverReadDto> first = batcher.submit(1L);
+            CompletableFuture<DriverReadDto> second = batcher.submit(2L);
+
+            assertThat(first.get(1, TimeUnit.SECONDS)).isNotNull();
+            assertThat(second.get(1, TimeUnit.SECONDS)).isNotNull();
+            assertThat(calls).containsExactly(List.of(1L, 2L));
+        }
+    }
+
+    @Test
+    void submit_whenIdIsMissingInResponse_thenCompletesWithNull() throws Exception {
+        try (MicroBatcher<DriverReadDto> batcher = batcher(Duration.ofMillis(1), 100)) {
+            assertThat(batcher.submit(404L).get(1, TimeUnit.SECONDS)).isNull();
+        }
+    }
+
+    @Test
+    void submit_whenLoaderFails_thenCompletesAllExceptionally() {
+        try (MicroBatcher<DriverReadDto> batcher = new MicroBatcher<>("driver", ids -> {
+            throw new IllegalStateException("unavailable");
+        }, DriverReadDto::id, Duration.ofMillis(1), 100)) {
+            CompletableFuture<DriverReadDto> result = batcher.submit(1L);
+
+            assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private MicroBatcher<DriverReadDto> batcher(Duration window, int maxBatchSize) {
+        return new MicroBatcher<>("driver", ids -> {
+            calls.add(ids);
+            return ids.stream()
+                    .filter(id -> id != 404L)
+                    .map(id -> getDriverReadDtoBuilder().id(id).build())
+                    .toList();
+        }, DriverReadDto::id, window, maxBatchSize);
+    }
+}
@@ -8,10 +8,13 @@ import org.example.ride.config.MessageSourceConfig;
 import org.example.ride.controller.RideController;
 import org.example.ride.dto.create.DriverRideStatusDto;
 import org.example.ride.dto.create.PassengerRideStatusDto;
+import org.example.ride.dto.create.QuoteRequestDto;
 import org.example.ride.dto.create.RideCreateEditDto;
+import org.example.ride.dto.read.QuoteReadDto;
 import org.example.ride.dto.read.RideReadDto;
 import org.example.ride.entity.enumeration.DriverRideStatus;
 import org.example.ride.entity.enumeration.PassengerRideStatus;
+import org.example.ride.service.QuoteService;
 import org.example.ride.service.RideService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -29,11 +32,14 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.example.ride.util.DataUtil.DEFAULT_ADDRESS_FROM;
 import static org.example.ride.util.DataUtil.DEFAULT_ADDRESS_TO;
+import static org.example.ride.util.DataUtil.DEFAULT_COST;
 import static org.example.ride.util.DataUtil.DEFAULT_ID;
 import static org.example.ride.util.DataUtil.DRIVER_STATUS;
 import static org.example.ride.util.DataUtil.LIMIT;
@@ -43,8 +49,11 @@ import static org.example.ride.util.DataUtil.PAGE_VALUE;
 import static org.example.ride.util.DataUtil.PASSENGER_STATUS;
 import static org.example.ride.util.DataUtil.URL;
 import static org.example.ride.util.DataUtil.URL_WITH_ID;
+import static org.example.ride.util.DataUtil.getQuoteRequestDtoBuilder;
 import static org.example.ride.util.DataUtil.getRideCreateEditDtoBuilder;
 import static org.example.ride.util.DataUtil.getRideReadDtoBuilder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -68,6 +77,9 @@ class RideControllerTest {
     @MockBean
     private RideService rideService;
 
+    @MockBean
+    private QuoteService quoteService;
+
     @Nested
     @DisplayName("Find all tests")
     public class findAllTests {
@@ -288,6 +300,53 @@ class RideControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Quote tests")
+    public class QuoteTests {
+        @Test
+        void quote_whenValidInput_thenReturn200AndQuoteReadDto() throws Exception {
+            QuoteRequestDto request = getQuoteRequestDtoBuilder().build();
+            QuoteReadDto quote = QuoteReadDto.builder()
+                    .id("quote")
+                    .cost(new BigDecimal(DEFAULT_COST))
+                    .expiresAt(Instant.parse("2030-01-01T00:00:00Z"))
+                    .build();
+
+            when(quoteService.quote(request)).thenReturn(quote);
+
+            MvcResult mvcResult = mockMvc.perform(post(URL + "/quote")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            assertThat(mvcResult.getResponse().getContentAsString())
+                    .isEqualToIgnoringWhitespace(objectMapper.writeValueAsString(quote));
+        }
+
+        @Test
+        void quote_whenDestinationIsMissing_thenReturn400() throws Exception {
+            QuoteRequestDto request = getQuoteRequestDtoBuilder()
+                    .latitudeTo(null)
+                    .build();
+
+            MvcResult mvcResult = mockMvc.perform(post(URL + "/quote")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest())
+                    .andReturn();
+
+            ValidationResponse actualResponse = objectMapper.readValue(
+                    mvcResult.getResponse().getContentAsString(), ValidationResponse.class);
+
+            assertThat(actualResponse.violations())
+                    .containsExactly(new Violation("latitudeTo", "Latitude cannot be null"));
+            verify(quoteService, never()).quote(any());
+        }
+    }
+
     @Nested
     @DisplayName("Update tests")
     public class UpdateTests {
@@ -0,0 +1,143 @@
+package org.example.ride.unit.dispatch;
+
+import org.example.ride.dispatch.DriverCandidate;
+import org.example.ride.dispatch.DriverLocation;
+import org.example.ride.dispatch.DriverLocationIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DriverLocationIndexTest {
+    private static final double LATITUDE = 53.9006;
+    private static final double LONGITUDE = 27.5590;
+
+    private DriverLocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DriverLocationIndex(0.01, 30);
+    }
+
+    @Test
+    void findNearest_whenDriversAreIndexed_thenReturnClosestSortedByDistance() {
+        index.update(1L, LATITUDE + 0.05, LONGITUDE);
+        index.update(2L, LATITUDE + 0.001, LONGITUDE);
+        index.update(3L, LATITUDE, LONGITUDE + 0.02);
+
+        List<DriverCandidate> result = index.findNearest(LATITUDE, LONGITUDE, 2);
+
+        assertThat(result).extracting(DriverCandidate::driverId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void findNearest_whenDriverMoves_thenReturnDriverOnlyOnce() {
+        index.update(1L, LATITUDE + 0.1, LONGITUDE);
+        index.update(1L, LATITUDE + 0.001, LONGITUDE);
+
+        List<DriverCandidate> result = index.findNearest(LATITUDE, LONGITUDE, 5);
+
+        assertThat(result).extracting(DriverCandidate::driverId).containsExactly(1L);
+        assertThat(result.get(0).distance()).isLessThan(0.2);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void findNearest_whenDriverIsOutOfMaxRadius_thenReturnEmptyList() {
+        index.update(1L, LATITUDE + 1, LONGITUDE);
+
+        assertThat(index.findNearest(LATITUDE, LONGITUDE, 1)).isEmpty();
+    }
+
+    @Test
+    void findNearest_whenDriversAreAcrossAntimeridian_thenReturnDriver() {
+        index.update(1L, 0, -179.999);
+
+        assertThat(index.findNearest(0, 179.999, 1))
+                .extracting(DriverCandidate::driverId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void findNearest_whenManyDrivers_thenMatchBruteForce() {
+        Random random = new Random(42);
+        for (long id = 0; id < 5_000; id++) {
+            index.update(id, LATITUDE + random.nextDouble() * 0.2 - 0.1, LONGITUDE + random.nextDouble() * 0.2 - 0.1);
+        }
+
+        List<DriverCandidate> result = index.findNearest(LATITUDE, LONGITUDE, 10);
+
+        List<Long> expected = LongStream.range(0, 5_000)
+                .mapToObj(index::get)
+                .sorted(Comparator.comparingDouble((DriverLocation location) -> DriverLocationIndex.distance(
+                        LATITUDE, LONGITUDE, location.latitude(), location.longitude())))
+                .limit(10)
+                .map(DriverLocation::driverId)
+                .toList();
+        assertThat(result).extracting(DriverCandidate::driverId).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void claim_whenDriverIsClaimed_thenDriverIsNotFoundAnymore() {
+        index.update(1L, LATITUDE, LONGITUDE);
+
+        DriverLocation claimed = index.claim(1L);
+
+        assertThat(claimed).isNotNull();
+        assertThat(index.claim(1L)).isNull();
+        assertThat(index.findNearest(LATITUDE, LONGITUDE, 1)).isEmpty();
+    }
+
+    @Test
+    void release_whenDriverWasClaimed_thenDriverIsAvailableAgain() {
+        index.update(1L, LATITUDE, LONGITUDE);
+        index.claim(1L);
+
+        index.release(1L);
+
+        assertThat(index.findNearest(LATITUDE, LONGITUDE, 1))
+                .extracting(DriverCandidate::driverId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void update_whenDriverIsClaimed_thenOnlyMovesDriver() {
+        index.update(1L, LATITUDE, LONGITUDE);
+        index.claim(1L);
+
+        index.update(1L, LATITUDE + 0.05, LONGITUDE);
+        index.markAvailable(1L, LATITUDE + 0.05, LONGITUDE);
+
+        assertThat(index.findNearest(LATITUDE, LONGITUDE, 1)).isEmpty();
+        assertThat(index.get(1L).latitude()).isEqualTo(LATITUDE + 0.05);
+        assertThat(index.countByCell()).isEmpty();
+    }
+
+    @Test
+    void update_whenDriverIsOffline_thenDriverStaysOffline() {
+        index.update(1L, LATITUDE, LONGITUDE);
+        index.markOffline(1L);
+
+        index.update(1L, LATITUDE, LONGITUDE);
+
+        assertThat(index.findNearest(LATITUDE, LONGITUDE, 1)).isEmpty();
+        assertThat(index.claim(1L)).isNull();
+    }
+
+    @Test
+    void markAvailable_whenDriverIsOffline_thenDriverIsFoundAgain() {
+        index.update(1L, LATITUDE, LONGITUDE);
+        index.markOffline(1L);
+
+        index.markAvailable(1L, LATITUDE, LONGITUDE);
+
+        assertThat(index.findNearest(LATITUDE, LONGITUDE, 1))
+                .extracting(DriverCandidate::driverId)
+                .containsExactly(1L);
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.ride.unit.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.ride.constants.KafkaConstants;
+import org.example.ride.dto.read.RideReadDto;
+import org.example.ride.entity.OutboxMessage;
+import org.example.ride.kafka.OutboxRelay;
+import org.example.ride.repository.OutboxMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.ride.util.DataUtil.DEFAULT_ID;
+import static org.example.ride.util.DataUtil.getRideReadDtoBuilder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxMessageRepository, kafkaTemplate, objectMapper);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(outboxRelay, "sendTimeout", 1000L);
+        ReflectionTestUtils.setField(outboxRelay, "maxAttempts", MAX_ATTEMPTS);
+    }
+
+    @Test
+    void relay_whenMessagesAreSent_thenDeleteThem() throws Exception {
+        RideReadDto readRide = getRideReadDtoBuilder().build();
+        List<OutboxMessage> messages = List.of(getOutboxMessage(readRide));
+
+        when(outboxMessageRepository.findBatchForUpdate(BATCH_SIZE)).thenReturn(messages);
+        when(kafkaTemplate.send(KafkaConstants.PASSENGER_NOTIFICATION_TOPIC, DEFAULT_ID.toString(), readRide))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        outboxRelay.relay();
+
+        verify(kafkaTemplate).send(KafkaConstants.PASSENGER_NOTIFICATION_TOPIC, DEFAULT_ID.toString(), readRide);
+        verify(outboxMessageRepository).deleteAllInBatch(messages);
+    }
+
+    @Test
+    void relay_whenSendingFails_thenKeepMessages() throws Exception {
+        RideReadDto readRide = getRideReadDtoBuilder().build();
+        List<OutboxMessage> messages = List.of(getOutboxMessage(readRide));
+
+        when(outboxMessageRepository.findBatchForUpdate(BATCH_SIZE)).thenReturn(messages);
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker is down")));
+
+        outboxRelay.relay();
+
+        verify(outboxMessageRepository, never()).deleteAllInBatch(any());
+        verify(outboxMessageRepository).saveAll(messages);
+        assertThat(messages.get(0).getAttempts()).isEqualTo(1);
+        assertThat(messages.get(0).getParkedAt()).isNull();
+    }
+
+    @Test
+    void relay_whenOneMessageFails_thenDeleteOnlySentMessages() throws Exception {
+        RideReadDto readRide = getRideReadDtoBuilder().build();
+        OutboxMessage failedMessage = getOutboxMessage(readRide);
+        OutboxMessage sentMessage = getOutboxMessage(readRide);
+        sentMessage.setId(DEFAULT_ID + 1);
+        sentMessage.setMessageKey(sentMessage.getId().toString());
+
+        when(outboxMessageRepository.findBatchForUpdate(BATCH_SIZE)).thenReturn(List.of(failedMessage, sentMessage));
+        when(kafkaTemplate.send(KafkaConstants.PASSENGER_NOTIFICATION_TOPIC, DEFAULT_ID.toString(), readRide))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker is down")));
+        when(kafkaTemplate.send(KafkaConstants.PASSENGER_NOTIFICATION_TOPIC, sentMessage.getMessageKey(), readRide))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        outboxRelay.relay();
+
+        verify(outboxMessageRepository).deleteAllInBatch(argThat(sent -> containsOnly(sent, sentMessage)));
+        verify(outboxMessageRepository).saveAll(argThat(failed -> containsOnly(failed, failedMessage)));
+        assertThat(failedMessage.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void relay_whenPayloadIsUnreadable_thenSendOtherMessages() throws Exception {
+        RideReadDto readRide = getRideReadDtoBuilder().build();
+        OutboxMessage unreadableMessage = getOutboxMessage(readRide);
+        unreadableMessage.setPayload("{");
+        OutboxMessage sentMessage = getOutboxMessage(readRide);
+        sentMessage.setId(DEFAULT_ID + 1);
+
+        when(outboxMessageRepository.findBatchForUpdate(BATCH_SIZE))
+                .thenReturn(List.of(unreadableMessage, sentMessage));
+        when(kafkaTemplate.send(KafkaConstants.PASSENGER_NOTIFICATION_TOPIC, DEFAULT_ID.toString(), readRide))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        outboxRelay.relay();
+
+        verify(kafkaTemplate).send(KafkaConstants.PASSENGER_NOTIFICATION_TOPIC, DEFAULT_ID.toString(), readRide);
+        verify(outboxMessageRepository).deleteAllInBatch(argThat(sent -> containsOnly(sent, sentMessage)));
+        verify(outboxMessageRepository).saveAll(argThat(failed -> containsOnly(failed, unreadableMessage)));
+        assertThat(unreadableMessage.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void relay_whenMessageReachesMaxAttempts_thenParkIt() throws Exception {
+        RideReadDto readRide = getRideReadDtoBuilder().build();
+        OutboxMessage message = getOutboxMessage(readRide);
+        message.setAttempts(MAX_ATTEMPTS - 1);
+
+        when(outboxMessageRepository.findBatchForUpdate(BATCH_SIZE)).thenReturn(List.of(message));
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker is down")));
+
+        outboxRelay.relay();
+
+        verify(outboxMessageRepository).saveAll(argThat(failed -> containsOnly(failed, message)));
+        assertThat(message.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(message.getParkedAt()).isNotNull();
+    }
+
+    @Test
+    void relay_whenEarlierSendTimesOut_thenStillWaitForLaterSend() throws Exception {
+        long sendTimeout = 100L;
+        ReflectionTestUtils.setField(outboxRelay, "sendTimeout", sendTimeout);
+        RideReadDto readRide = getRideReadDtoBuilder().build();
+        OutboxMessage hangingMessage = getOutboxMessage(readRide);
+        OutboxMessage sentMessage = getOutboxMessage(readRide);
+        sentMessage.setId(DEFAULT_ID + 1);
+        sentMessage.setMessageKey(sentMessage.getId().toString());
+
+        when(outboxMessageRepository.findBatchForUpdate(BATCH_SIZE)).thenReturn(List.of(hangingMessage, sentMessage));
+        when(kafkaTemplate.send(KafkaConstants.PASSENGER_NOTIFICATION_TOPIC, DEFAULT_ID.toString(), readRide))
+                .thenReturn(new CompletableFuture<>());
+        when(kafkaTemplate.send(KafkaConstants.PASSENGER_NOTIFICATION_TOPIC, sentMessage.getMessageKey(), readRide))
+                .thenReturn(CompletableFuture.supplyAsync(() -> new SendResult<>(null, null),
+                        CompletableFuture.delayedExecutor(sendTimeout * 3 / 2, TimeUnit.MILLISECONDS)));
+
+        outboxRelay.relay();
+
+        verify(outboxMessageRepository).deleteAllInBatch(argThat(sent -> containsOnly(sent, sentMessage)));
+        verify(outboxMessageRepository).saveAll(argThat(failed -> containsOnly(failed, hangingMessage)));
+    }
+
+    @Test
+    void relay_whenOutboxIsEmpty_thenSendNothing() throws Exception {
+        when(outboxMessageRepository.findBatchForUpdate(BATCH_SIZE)).thenReturn(List.of());
+
+        outboxRelay.relay();
+
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    private static boolean containsOnly(Iterable<OutboxMessage> messages, OutboxMessage expected) {
+        Iterator<OutboxMessage> iterator = messages.iterator();
+        return iterator.hasNext() && iterator.next() == expected && !iterator.hasNext();
+    }
+
+    private OutboxMessage getOutboxMessage(RideReadDto readRide) throws Exception {
+        return OutboxMessage.builder()
+                .id(DEFAULT_ID)
+                .topic(KafkaConstants.PASSENGER_NOTIFICATION_TOPIC)
+                .messageKey(DEFAULT_ID.toString())
+                .payload(objectMapper.writeValueAsString(readRide))
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.ride.unit.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.example.ride.constants.KafkaConstants;
+import org.example.ride.kafka.PartitionFinder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionFinderTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    @Mock
+    private ConsumerFactory<String, Object> consumerFactory;
+
+    @Mock
+    private Consumer<String, Object> consumer;
+
+    private PartitionFinder partitionFinder;
+
+    @BeforeEach
+    void setUp() {
+        partitionFinder = new PartitionFinder(consumerFactory, TIMEOUT);
+        when(consumerFactory.createConsumer()).thenReturn(consumer);
+    }
+
+    @Test
+    void partitions_whenTopicExists_thenReturnAllItsPartitions() {
+        List<PartitionInfo> partitions = IntStream.range(0, 6)
+                .mapToObj(partition -> new PartitionInfo(KafkaConstants.DRIVER_STATE_TOPIC, partition, null, null, null))
+                .toList();
+        when(consumer.partitionsFor(KafkaConstants.DRIVER_STATE_TOPIC, TIMEOUT)).thenReturn(partitions);
+
+        assertThat(partitionFinder.partitions(KafkaConstants.DRIVER_STATE_TOPIC))
+                .containsExactly("0", "1", "2", "3", "4", "5");
+        verify(consumer).close();
+    }
+
+    @Test
+    void partitions_whenBrokerDoesNotAnswer_thenAssumeDefaultPartitionCount() {
+        when(consumer.partitionsFor(KafkaConstants.DRIVER_STATE_TOPIC, TIMEOUT))
+                .thenThrow(new TimeoutException("broker is down"));
+
+        assertThat(partitionFinder.partitions(KafkaConstants.DRIVER_STATE_TOPIC))
+                .hasSize(KafkaConstants.NUM_PARTITIONS)
+                .containsExactly("0", "1", "2");
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.ride.unit.lifecycle;
+
+import org.example.ride.entity.Ride;
+import org.example.ride.entity.enumeration.DriverRideStatus;
+import org.example.ride.entity.enumeration.PassengerRideStatus;
+import org.example.ride.lifecycle.DriverReleaseListener;
+import org.example.ride.service.DispatchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.example.ride.util.DataUtil.DEFAULT_ID;
+import static org.example.ride.util.DataUtil.getRideBuilder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DriverReleaseListenerTest {
+
+    @Mock
+    private DispatchService dispatchService;
+
+    private DriverReleaseListener listener;
+
+    @BeforeEach
+    void init() {
+        listener = new DriverReleaseListener(dispatchService);
+    }
+
+    @Test
+    void onTransition_whenRideIsCompleted_thenReleaseDriver() {
+        Ride ride = getRideBuilder().driverId(DEFAULT_ID).build();
+
+        listener.onTransition(ride, DriverRideStatus.ON_WAY_TO_DESTINATION, DriverRideStatus.COMPLETED);
+
+        verify(dispatchService).releaseDriver(DEFAULT_ID);
+    }
+
+    @Test
+    void onTransition_whenRideIsCanceled_thenReleaseDriver() {
+        Ride ride = getRideBuilder().driverId(DEFAULT_ID).build();
+
+        listener.onTransition(ride, DriverRideStatus.ACCEPTED, DriverRideStatus.CANCELED);
+
+        verify(dispatchService).releaseDriver(DEFAULT_ID);
+    }
+
+    @Test
+    void onTransition_whenRideIsNotFinished_thenKeepDriverClaimed() {
+        Ride ride = getRideBuilder().driverId(DEFAULT_ID).build();
+
+        listener.onTransition(ride, DriverRideStatus.CREATED, DriverRideStatus.ACCEPTED);
+        listener.onTransition(ride, PassengerRideStatus.WAITING, PassengerRideStatus.IN_CAR);
+
+        verifyNoInteractions(dispatchService);
+    }
+}
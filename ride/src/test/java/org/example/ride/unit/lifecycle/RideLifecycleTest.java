@@ -0,0 +1,160 @@
+package org.example.ride.unit.lifecycle;
+
+import com.example.exceptionhandlerstarter.exception.ride.CanceledRideStatusException;
+import com.example.exceptionhandlerstarter.exception.ride.InvalidRideStatusForChangingException;
+import com.example.exceptionhandlerstarter.exception.ride.IrrelevantDriverStatusException;
+import org.example.ride.constants.ExceptionConstants;
+import org.example.ride.entity.Ride;
+import org.example.ride.entity.enumeration.DriverRideStatus;
+import org.example.ride.entity.enumeration.PassengerRideStatus;
+import org.example.ride.lifecycle.RideLifecycle;
+import org.example.ride.lifecycle.RideTransition;
+import org.example.ride.lifecycle.RideTransitionListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.ride.util.DataUtil.getRideBuilder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RideLifecycleTest {
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Mock
+    private RideTransitionListener listener;
+
+    private RideLifecycle rideLifecycle;
+
+    @BeforeEach
+    void init() {
+        rideLifecycle = new RideLifecycle(messageSource, List.of(listener));
+    }
+
+    @Test
+    void planDriverStatus_whenTransitionIsAllowed_thenReturnTransitionWithoutChangingRide() {
+        Ride ride = getRideBuilder().driverRideStatus(DriverRideStatus.CREATED).build();
+
+        RideTransition transition = rideLifecycle.planDriverStatus(ride, DriverRideStatus.ACCEPTED);
+
+        assertThat(transition).isEqualTo(new RideTransition(DriverRideStatus.CREATED, PassengerRideStatus.WAITING,
+                DriverRideStatus.ACCEPTED, PassengerRideStatus.WAITING));
+        assertThat(ride.getDriverRideStatus()).isEqualTo(DriverRideStatus.CREATED);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void apply_thenChangeStatusesAndNotifyListeners() {
+        Ride ride = getRideBuilder().driverRideStatus(DriverRideStatus.CREATED).build();
+        RideTransition transition = new RideTransition(DriverRideStatus.CREATED, PassengerRideStatus.WAITING,
+                DriverRideStatus.ACCEPTED, PassengerRideStatus.WAITING);
+
+        rideLifecycle.apply(ride, transition);
+
+        assertThat(ride.getDriverRideStatus()).isEqualTo(DriverRideStatus.ACCEPTED);
+        verify(listener).onTransition(ride, DriverRideStatus.CREATED, DriverRideStatus.ACCEPTED);
+        verify(listener, never()).onTransition(ride, PassengerRideStatus.WAITING, PassengerRideStatus.WAITING);
+    }
+
+    @Test
+    void planDriverStatus_whenOnWayToDestination_thenPutPassengerInCar() {
+        Ride ride = getRideBuilder()
+                .driverRideStatus(DriverRideStatus.WAITING)
+                .passengerRideStatus(PassengerRideStatus.GETTING_OUT)
+                .build();
+
+        RideTransition transition = rideLifecycle.planDriverStatus(ride, DriverRideStatus.ON_WAY_TO_DESTINATION);
+
+        assertThat(transition.toDriverRideStatus()).isEqualTo(DriverRideStatus.ON_WAY_TO_DESTINATION);
+        assertThat(transition.toPassengerRideStatus()).isEqualTo(PassengerRideStatus.IN_CAR);
+        assertThat(transition.isPassengerRideStatusChanged()).isTrue();
+    }
+
+    @Test
+    void planDriverStatus_whenStatusIsSkipped_thenThrowInvalidRideStatusForChangingException() {
+        Ride ride = getRideBuilder().driverRideStatus(DriverRideStatus.CREATED).build();
+
+        InvalidRideStatusForChangingException exception = assertThrows(InvalidRideStatusForChangingException.class,
+                () -> rideLifecycle.planDriverStatus(ride, DriverRideStatus.WAITING));
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(ride.getDriverRideStatus()).isEqualTo(DriverRideStatus.CREATED);
+        verify(listener).onRejected(ride, DriverRideStatus.CREATED, DriverRideStatus.WAITING);
+        verify(listener, never()).onTransition(any(), any(), any());
+        verifyNoInteractions(messageSource);
+    }
+
+    @Test
+    void planDriverStatus_whenRideIsCompleted_thenThrowInvalidRideStatusForChangingException() {
+        Ride ride = getRideBuilder().driverRideStatus(DriverRideStatus.COMPLETED).build();
+
+        assertThrows(InvalidRideStatusForChangingException.class,
+                () -> rideLifecycle.planDriverStatus(ride, DriverRideStatus.CANCELED));
+    }
+
+    @Test
+    void planDriverStatus_whenRideIsCanceled_thenThrowCanceledRideStatusException() {
+        Ride ride = getRideBuilder().driverRideStatus(DriverRideStatus.CANCELED).build();
+        when(messageSource.getMessage(
+                ExceptionConstants.CANCELED_STATUS_MESSAGE,
+                new Object[]{},
+                LocaleContextHolder.getLocale()))
+                .thenReturn(ExceptionConstants.CANCELED_STATUS_MESSAGE);
+
+        CanceledRideStatusException exception = assertThrows(CanceledRideStatusException.class,
+                () -> rideLifecycle.planDriverStatus(ride, DriverRideStatus.ACCEPTED));
+
+        assertThat(exception.getMessage()).isEqualTo(ExceptionConstants.CANCELED_STATUS_MESSAGE);
+    }
+
+    @Test
+    void planPassengerStatus_whenDriverIsWaiting_thenReturnTransition() {
+        Ride ride = getRideBuilder()
+                .driverRideStatus(DriverRideStatus.WAITING)
+                .passengerRideStatus(PassengerRideStatus.WAITING)
+                .build();
+
+        RideTransition transition = rideLifecycle.planPassengerStatus(ride, PassengerRideStatus.GETTING_OUT);
+
+        assertThat(transition).isEqualTo(new RideTransition(DriverRideStatus.WAITING, PassengerRideStatus.WAITING,
+                DriverRideStatus.WAITING, PassengerRideStatus.GETTING_OUT));
+    }
+
+    @Test
+    void planPassengerStatus_whenDriverIsNotWaiting_thenThrowIrrelevantDriverStatusException() {
+        Ride ride = getRideBuilder()
+                .driverRideStatus(DriverRideStatus.ACCEPTED)
+                .passengerRideStatus(PassengerRideStatus.WAITING)
+                .build();
+
+        assertThrows(IrrelevantDriverStatusException.class,
+                () -> rideLifecycle.planPassengerStatus(ride, PassengerRideStatus.GETTING_OUT));
+
+        assertThat(ride.getPassengerRideStatus()).isEqualTo(PassengerRideStatus.WAITING);
+    }
+
+    @Test
+    void planPassengerStatus_whenStatusGoesBack_thenThrowInvalidRideStatusForChangingException() {
+        Ride ride = getRideBuilder()
+                .driverRideStatus(DriverRideStatus.WAITING)
+                .passengerRideStatus(PassengerRideStatus.IN_CAR)
+                .build();
+
+        assertThrows(InvalidRideStatusForChangingException.class,
+                () -> rideLifecycle.planPassengerStatus(ride, PassengerRideStatus.GETTING_OUT));
+    }
+}
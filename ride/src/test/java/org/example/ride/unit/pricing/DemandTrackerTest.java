@@ -0,0 +1,34 @@
+package org.example.ride.unit.pricing;
+
+import org.example.ride.pricing.DemandTracker;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DemandTrackerTest {
+    private static final long CELL = 42L;
+
+    @Test
+    void countByCell_whenRequestsAreWithinWindow_thenCountAll() {
+        DemandTracker tracker = new DemandTracker(60_000, 6);
+
+        tracker.record(CELL, 1_000);
+        tracker.record(CELL, 15_000);
+        tracker.record(CELL + 1, 30_000);
+
+        assertThat(tracker.countByCell(59_000)).isEqualTo(Map.of(CELL, 2, CELL + 1, 1));
+    }
+
+    @Test
+    void countByCell_whenRequestsLeftWindow_thenDropThem() {
+        DemandTracker tracker = new DemandTracker(60_000, 6);
+
+        tracker.record(CELL, 1_000);
+        tracker.record(CELL, 65_000);
+
+        assertThat(tracker.countByCell(70_000)).isEqualTo(Map.of(CELL, 1));
+        assertThat(tracker.countByCell(200_000)).isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.ride.unit.pricing;
+
+import org.example.ride.dispatch.DriverLocationIndex;
+import org.example.ride.pricing.DemandTracker;
+import org.example.ride.pricing.SurgeCalculator;
+import org.example.ride.pricing.Tariff;
+import org.example.ride.utils.PriceGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceGeneratorTest {
+    private static final double LATITUDE = 53.9006;
+    private static final double LONGITUDE = 27.5590;
+
+    private final Tariff tariff = Tariff.builder()
+            .baseFare(2.5)
+            .perKilometer(1)
+            .perMinute(0.5)
+            .minimumFare(4)
+            .routeFactor(1)
+            .averageSpeed(60)
+            .build();
+
+    private DriverLocationIndex driverLocationIndex;
+    private PriceGenerator priceGenerator;
+
+    @BeforeEach
+    void setUp() {
+        driverLocationIndex = new DriverLocationIndex(0.01, 30);
+        priceGenerator = new PriceGenerator(tariff, driverLocationIndex,
+                new DemandTracker(60_000, 6), new SurgeCalculator(0.5, 2));
+    }
+
+    @Test
+    void calculateCost_whenRouteIsKnown_thenChargeDistanceAndTime() {
+        double latitudeTo = LATITUDE + 0.1;
+        double distance = DriverLocationIndex.distance(LATITUDE, LONGITUDE, latitudeTo, LONGITUDE);
+
+        BigDecimal cost = priceGenerator.calculateCost(LATITUDE, LONGITUDE, latitudeTo, LONGITUDE);
+
+        assertThat(cost).isEqualTo(BigDecimal.valueOf(Math.round((2.5 + distance * 1.5) * 100), 2));
+    }
+
+    @Test
+    void calculateCost_whenDestinationIsUnknown_thenChargeMinimumFare() {
+        assertThat(priceGenerator.calculateCost(LATITUDE, LONGITUDE, null, null)).isEqualTo(new BigDecimal("4.00"));
+        assertThat(priceGenerator.calculateCost(null, null, null, null)).isEqualTo(new BigDecimal("4.00"));
+    }
+
+    @Test
+    void calculateCost_whenDemandExceedsSupply_thenApplySurgeOfPickupCell() {
+        driverLocationIndex.update(1L, LATITUDE, LONGITUDE);
+        for (int i = 0; i < 3; i++) {
+            priceGenerator.recordDemand(LATITUDE, LONGITUDE);
+        }
+        priceGenerator.recomputeSurge();
+
+        assertThat(priceGenerator.calculateCost(LATITUDE, LONGITUDE, null, null)).isEqualTo(new BigDecimal("8.00"));
+        assertThat(priceGenerator.calculateCost(LATITUDE + 1, LONGITUDE, null, null)).isEqualTo(new BigDecimal("4.00"));
+    }
+
+    @Test
+    void calculateCost_whenSupplyCoversDemand_thenApplyNoSurge() {
+        driverLocationIndex.update(1L, LATITUDE, LONGITUDE);
+        driverLocationIndex.update(2L, LATITUDE, LONGITUDE);
+        priceGenerator.recordDemand(LATITUDE, LONGITUDE);
+        priceGenerator.recomputeSurge();
+
+        assertThat(priceGenerator.calculateCost(LATITUDE, LONGITUDE, null, null)).isEqualTo(new BigDecimal("4.00"));
+    }
+
+    @Test
+    void calculateCost_whenRouteIsVeryLong_thenCapAtMaxCost() {
+        assertThat(priceGenerator.calculateCost(LATITUDE, LONGITUDE, -LATITUDE, -LONGITUDE))
+                .isEqualTo(new BigDecimal("9999.99"));
+    }
+}
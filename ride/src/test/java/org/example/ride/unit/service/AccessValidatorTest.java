@@ -0,0 +1,98 @@
+package org.example.ride.unit.service;
+
+import com.example.exceptionhandlerstarter.exception.security.AccessDeniedException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.example.ride.client.batch.MicroBatcher;
+import org.example.ride.dto.read.DriverReadDto;
+import org.example.ride.service.AccessValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.ride.util.DataUtil.DEFAULT_ID;
+import static org.example.ride.util.DataUtil.getDriverReadDtoBuilder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccessValidatorTest {
+
+    @Mock
+    private MicroBatcher<DriverReadDto> driverBatcher;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @InjectMocks
+    private AccessValidator accessValidator;
+
+    @Test
+    void validateAccess_whenAdmin_thenProceedWithoutLookup() throws Throwable {
+        Object[] args = {DEFAULT_ID, token("admin@gmail.com", "ROLE_ADMIN")};
+        when(joinPoint.getArgs()).thenReturn(args);
+        when(joinPoint.proceed(args)).thenReturn(null);
+
+        accessValidator.validateAccess(joinPoint);
+
+        verify(joinPoint).proceed(args);
+        verify(driverBatcher, never()).submit(any());
+    }
+
+    @Test
+    void validateAccess_whenDriverOwnsId_thenProceed() throws Throwable {
+        DriverReadDto driver = getDriverReadDtoBuilder().build();
+        Object[] args = {DEFAULT_ID, token(driver.email(), "ROLE_DRIVER")};
+        when(joinPoint.getArgs()).thenReturn(args);
+        when(driverBatcher.submit(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(driver));
+        when(joinPoint.proceed(args)).thenReturn("result");
+
+        assertThat(accessValidator.validateAccess(joinPoint)).isEqualTo("result");
+    }
+
+    @Test
+    void validateAccess_whenDriverDoesNotOwnId_thenThrowAccessDenied() throws Throwable {
+        Object[] args = {DEFAULT_ID, token("other@gmail.com", "ROLE_DRIVER")};
+        when(joinPoint.getArgs()).thenReturn(args);
+        when(driverBatcher.submit(DEFAULT_ID))
+                .thenReturn(CompletableFuture.completedFuture(getDriverReadDtoBuilder().build()));
+
+        assertThatThrownBy(() -> accessValidator.validateAccess(joinPoint))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(joinPoint, never()).proceed(any());
+    }
+
+    @Test
+    void validateAccess_whenDriverNotFound_thenThrowAccessDenied() throws Throwable {
+        Object[] args = {DEFAULT_ID, token("name@gmail.com", "ROLE_DRIVER")};
+        when(joinPoint.getArgs()).thenReturn(args);
+        when(driverBatcher.submit(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThatThrownBy(() -> accessValidator.validateAccess(joinPoint))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(joinPoint, never()).proceed(any());
+    }
+
+    private static JwtAuthenticationToken token(String email, String authority) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("email", email)
+                .build();
+        return new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority(authority)));
+    }
+}
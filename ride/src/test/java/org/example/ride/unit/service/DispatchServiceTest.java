@@ -0,0 +1,119 @@
+package org.example.ride.unit.service;
+
+import org.example.ride.dispatch.DriverLocationIndex;
+import org.example.ride.dto.read.DriverLocationReadDto;
+import org.example.ride.repository.RideRepository;
+import org.example.ride.service.DispatchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DispatchServiceTest {
+    private static final long DRIVER_ID = 1L;
+    private static final double LATITUDE = 53.9006;
+    private static final double LONGITUDE = 27.5590;
+    private static final Duration LOCATION_MAX_AGE = Duration.ofMinutes(5);
+
+    private DriverLocationIndex driverLocationIndex;
+    private RideRepository rideRepository;
+    private DispatchService dispatchService;
+
+    @BeforeEach
+    void setUp() {
+        driverLocationIndex = new DriverLocationIndex(0.01, 30);
+        rideRepository = mock(RideRepository.class);
+        when(rideRepository.tryLockDriver(anyLong())).thenReturn(true);
+        dispatchService = new DispatchService(driverLocationIndex, rideRepository);
+        ReflectionTestUtils.setField(dispatchService, "locationMaxAge", LOCATION_MAX_AGE);
+        ReflectionTestUtils.setField(dispatchService, "candidates", 5);
+    }
+
+    @Test
+    void applyLocation_whenLocationIsRecent_thenIndexDriver() {
+        dispatchService.applyLocation(getLocation(Instant.now()));
+
+        assertThat(driverLocationIndex.get(DRIVER_ID)).isNotNull();
+        assertThat(driverLocationIndex.findNearest(LATITUDE, LONGITUDE, 1)).hasSize(1);
+    }
+
+    @Test
+    void applyLocation_whenLocationIsOlderThanMaxAge_thenSkipIt() {
+        dispatchService.applyLocation(getLocation(Instant.now().minus(LOCATION_MAX_AGE.multipliedBy(2))));
+
+        assertThat(driverLocationIndex.get(DRIVER_ID)).isNull();
+    }
+
+    @Test
+    void applyLocation_whenDriverIsClaimed_thenKeepDriverClaimed() {
+        dispatchService.applyLocation(getLocation(Instant.now()));
+        assertThat(dispatchService.assignNearestDriver(LATITUDE, LONGITUDE)).contains(DRIVER_ID);
+
+        dispatchService.applyLocation(getLocation(Instant.now()));
+
+        assertThat(dispatchService.assignNearestDriver(LATITUDE, LONGITUDE)).isEmpty();
+    }
+
+    @Test
+    void applyLocation_whenDriverWentOffline_thenKeepDriverOffline() {
+        dispatchService.applyLocation(getLocation(Instant.now()));
+        dispatchService.removeLocation(DRIVER_ID);
+
+        dispatchService.applyLocation(getLocation(Instant.now()));
+
+        assertThat(driverLocationIndex.findNearest(LATITUDE, LONGITUDE, 1)).isEmpty();
+    }
+
+    @Test
+    void assignNearestDriver_whenDriverHasUnfinishedRide_thenSkipDriverAndKeepItAvailable() {
+        dispatchService.applyLocation(getLocation(Instant.now()));
+        when(rideRepository.existsByDriverIdAndDriverRideStatusNotIn(any(), any())).thenReturn(true);
+
+        assertThat(dispatchService.assignNearestDriver(LATITUDE, LONGITUDE)).isEmpty();
+        assertThat(driverLocationIndex.findNearest(LATITUDE, LONGITUDE, 1)).hasSize(1);
+    }
+
+    @Test
+    void assignNearestDriver_whenDriverIsLockedByAnotherTransaction_thenSkipDriver() {
+        dispatchService.applyLocation(getLocation(Instant.now()));
+        when(rideRepository.tryLockDriver(DRIVER_ID)).thenReturn(false);
+
+        assertThat(dispatchService.assignNearestDriver(LATITUDE, LONGITUDE)).isEmpty();
+    }
+
+    @Test
+    void claimDriver_whenDriverIsAvailable_thenTakeDriverOutOfPool() {
+        dispatchService.applyLocation(getLocation(Instant.now()));
+
+        dispatchService.claimDriver(DRIVER_ID);
+
+        assertThat(driverLocationIndex.findNearest(LATITUDE, LONGITUDE, 1)).isEmpty();
+    }
+
+    @Test
+    void releaseDriver_whenDriverIsClaimed_thenReturnDriverToPool() {
+        dispatchService.applyLocation(getLocation(Instant.now()));
+        assertThat(dispatchService.assignNearestDriver(LATITUDE, LONGITUDE)).contains(DRIVER_ID);
+
+        dispatchService.releaseDriver(DRIVER_ID);
+
+        assertThat(dispatchService.assignNearestDriver(LATITUDE, LONGITUDE)).contains(DRIVER_ID);
+    }
+
+    private DriverLocationReadDto getLocation(Instant recordedAt) {
+        return DriverLocationReadDto.builder()
+                .driverId(DRIVER_ID)
+                .latitude(LATITUDE)
+                .longitude(LONGITUDE)
+                .recordedAt(recordedAt)
+                .build();
+    }
+}
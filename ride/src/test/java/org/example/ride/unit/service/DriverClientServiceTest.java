@@ -1,6 +1,7 @@
 package org.example.ride.unit.service;
 
 import org.example.ride.client.DriverClient;
+import org.example.ride.dto.create.BatchRequestDto;
 import org.example.ride.dto.read.DriverReadDto;
 import org.example.ride.service.DriverClientService;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.example.ride.util.DataUtil.DEFAULT_ID;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.example.ride.util.DataUtil.getDriverReadDtoBuilder;
@@ -33,4 +36,15 @@ class DriverClientServiceTest {
         assertThat(driverClientService.getDriver(DEFAULT_ID)).isNotNull();
         verify(driverClient).findById(DEFAULT_ID);
     }
+
+    @Test
+    void getDrivers_thenReturnFoundDrivers() {
+        DriverReadDto readDriver = getDriverReadDtoBuilder().build();
+        BatchRequestDto request = new BatchRequestDto(List.of(DEFAULT_ID));
+
+        when(driverClient.findByIds(request)).thenReturn(List.of(readDriver));
+
+        assertThat(driverClientService.getDrivers(request.ids())).isEqualTo(List.of(readDriver));
+        verify(driverClient).findByIds(request);
+    }
 }
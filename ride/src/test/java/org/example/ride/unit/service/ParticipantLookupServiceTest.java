@@ -0,0 +1,94 @@
+package org.example.ride.unit.service;
+
+import com.example.exceptionhandlerstarter.exception.driver.DriverNotFoundException;
+import com.example.exceptionhandlerstarter.exception.passenger.PassengerNotFoundException;
+import org.example.ride.client.batch.MicroBatcher;
+import org.example.ride.dto.read.DriverReadDto;
+import org.example.ride.dto.read.DriverStateDto;
+import org.example.ride.dto.read.PassengerReadDto;
+import org.example.ride.dto.read.PassengerStateDto;
+import org.example.ride.projection.ParticipantProjection;
+import org.example.ride.service.ParticipantLookupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.ride.util.DataUtil.DEFAULT_ID;
+import static org.example.ride.util.DataUtil.getDriverReadDtoBuilder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantLookupServiceTest {
+
+    @Mock
+    private MicroBatcher<DriverReadDto> driverBatcher;
+
+    @Mock
+    private MicroBatcher<PassengerReadDto> passengerBatcher;
+
+    @Mock
+    private MessageSource messageSource;
+
+    private final ParticipantProjection participantProjection = new ParticipantProjection();
+
+    private ParticipantLookupService participantLookup;
+
+    @BeforeEach
+    void setUp() {
+        participantLookup = new ParticipantLookupService(participantProjection, driverBatcher, passengerBatcher, messageSource);
+    }
+
+    @Test
+    void requireDriver_whenDriverIsActiveInProjection_thenCompleteWithoutRemoteCall() {
+        participantProjection.apply(new DriverStateDto(DEFAULT_ID, false));
+
+        assertThat(participantLookup.requireDriver(DEFAULT_ID)).isCompleted();
+        verify(driverBatcher, never()).submit(any());
+    }
+
+    @Test
+    void requireDriver_whenDriverIsDeletedInProjection_thenFailWithoutRemoteCall() {
+        participantProjection.apply(new DriverStateDto(DEFAULT_ID, true));
+
+        assertThatThrownBy(() -> participantLookup.requireDriver(DEFAULT_ID).join())
+                .hasCauseInstanceOf(DriverNotFoundException.class);
+        verify(driverBatcher, never()).submit(any());
+    }
+
+    @Test
+    void requireDriver_whenDriverIsUnknown_thenFallBackToBatcher() {
+        when(driverBatcher.submit(DEFAULT_ID))
+                .thenReturn(CompletableFuture.completedFuture(getDriverReadDtoBuilder().build()));
+
+        participantLookup.requireDriver(DEFAULT_ID).join();
+
+        verify(driverBatcher).submit(DEFAULT_ID);
+    }
+
+    @Test
+    void requirePassenger_whenPassengerIsUnknownAndMissingRemotely_thenThrowPassengerNotFoundException() {
+        when(passengerBatcher.submit(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThatThrownBy(() -> participantLookup.requirePassenger(DEFAULT_ID).join())
+                .hasCauseInstanceOf(PassengerNotFoundException.class);
+    }
+
+    @Test
+    void requirePassenger_whenPassengerWasRestored_thenUseLatestState() {
+        participantProjection.apply(new PassengerStateDto(DEFAULT_ID, true));
+        participantProjection.apply(new PassengerStateDto(DEFAULT_ID, false));
+
+        assertThat(participantLookup.requirePassenger(DEFAULT_ID)).isCompleted();
+        verify(passengerBatcher, never()).submit(any());
+    }
+}
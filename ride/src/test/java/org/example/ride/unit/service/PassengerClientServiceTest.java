@@ -1,6 +1,7 @@
 package org.example.ride.unit.service;
 
 import org.example.ride.client.PassengerClient;
+import org.example.ride.dto.create.BatchRequestDto;
 import org.example.ride.dto.read.PassengerReadDto;
 import org.example.ride.service.PassengerClientService;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.example.ride.util.DataUtil.DEFAULT_ID;
 import static org.example.ride.util.DataUtil.getPassengerReadDtoBuilder;
@@ -33,4 +36,15 @@ class PassengerClientServiceTest {
         assertThat(passengerClientService.getPassenger(DEFAULT_ID)).isNotNull();
         verify(passengerClient).findById(DEFAULT_ID);
     }
+
+    @Test
+    void getPassengers_thenReturnFoundPassengers() {
+        PassengerReadDto readPassenger = getPassengerReadDtoBuilder().build();
+        BatchRequestDto request = new BatchRequestDto(List.of(DEFAULT_ID));
+
+        when(passengerClient.findByIds(request)).thenReturn(List.of(readPassenger));
+
+        assertThat(passengerClientService.getPassengers(request.ids())).isEqualTo(List.of(readPassenger));
+        verify(passengerClient).findByIds(request);
+    }
 }
@@ -0,0 +1,152 @@
+package org.example.ride.unit.service;
+
+import com.example.exceptionhandlerstarter.exception.ride.InvalidQuoteException;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.ride.constants.ExceptionConstants;
+import org.example.ride.dto.create.QuoteRequestDto;
+import org.example.ride.dto.create.RideCreateEditDto;
+import org.example.ride.dto.read.QuoteReadDto;
+import org.example.ride.pricing.Quote;
+import org.example.ride.pricing.QuoteSigner;
+import org.example.ride.service.QuoteService;
+import org.example.ride.utils.PriceGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.ride.util.DataUtil.DEFAULT_ID;
+import static org.example.ride.util.DataUtil.getQuoteRequestDtoBuilder;
+import static org.example.ride.util.DataUtil.getRideCreateEditDtoBuilder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QuoteServiceTest {
+    private static final BigDecimal COST = new BigDecimal("12.30");
+
+    @Mock
+    private PriceGenerator priceGenerator;
+
+    @Mock
+    private MessageSource messageSource;
+
+    private final QuoteSigner quoteSigner = new QuoteSigner("secret");
+
+    private QuoteService quoteService;
+
+    @BeforeEach
+    void setUp() {
+        quoteService = new QuoteService(priceGenerator, quoteSigner, Caffeine.newBuilder().maximumSize(10).build(),
+                messageSource);
+        ReflectionTestUtils.setField(quoteService, "ttl", 60_000L);
+    }
+
+    @Test
+    void quote_whenSameRouteIsPolled_thenPriceItOnce() {
+        QuoteRequestDto request = getQuoteRequestDtoBuilder().build();
+        when(priceGenerator.calculateCost(request.latitudeFrom(), request.longitudeFrom(),
+                request.latitudeTo(), request.longitudeTo())).thenReturn(COST);
+
+        QuoteReadDto first = quoteService.quote(request);
+        QuoteReadDto second = quoteService.quote(getQuoteRequestDtoBuilder().build());
+
+        assertThat(second).isEqualTo(first);
+        assertThat(first.cost()).isEqualTo(COST);
+        assertThat(first.expiresAt()).isAfter(Instant.now());
+        verify(priceGenerator, times(1)).calculateCost(request.latitudeFrom(), request.longitudeFrom(),
+                request.latitudeTo(), request.longitudeTo());
+    }
+
+    @Test
+    void redeem_whenQuoteMatchesRide_thenReturnQuotedCost() {
+        QuoteRequestDto request = getQuoteRequestDtoBuilder().build();
+        when(priceGenerator.calculateCost(request.latitudeFrom(), request.longitudeFrom(),
+                request.latitudeTo(), request.longitudeTo())).thenReturn(COST);
+        String quoteId = quoteService.quote(request).id();
+
+        assertThat(quoteService.redeem(quoteId, rideFor(request, quoteId))).isEqualTo(COST);
+    }
+
+    @Test
+    void redeem_whenQuoteIsTampered_thenThrowInvalidQuoteException() {
+        QuoteRequestDto request = getQuoteRequestDtoBuilder().build();
+        Quote cheaper = quoteFor(request, new BigDecimal("0.01"), Instant.now().plusSeconds(60));
+        String signed = quoteSigner.sign(quoteFor(request, COST, Instant.now().plusSeconds(60)));
+        String tampered = quoteSigner.sign(cheaper).split("\\.")[0] + "." + signed.split("\\.")[1];
+        mockInvalidQuoteMessage();
+
+        assertThrows(InvalidQuoteException.class, () -> quoteService.redeem(tampered, rideFor(request, tampered)));
+    }
+
+    @Test
+    void redeem_whenQuoteIsExpired_thenThrowInvalidQuoteException() {
+        QuoteRequestDto request = getQuoteRequestDtoBuilder().build();
+        String quoteId = quoteSigner.sign(quoteFor(request, COST, Instant.now().minusSeconds(1)));
+        mockInvalidQuoteMessage();
+
+        assertThrows(InvalidQuoteException.class, () -> quoteService.redeem(quoteId, rideFor(request, quoteId)));
+    }
+
+    @Test
+    void redeem_whenRideRouteDiffers_thenThrowInvalidQuoteException() {
+        QuoteRequestDto request = getQuoteRequestDtoBuilder().build();
+        String quoteId = quoteSigner.sign(quoteFor(request, COST, Instant.now().plusSeconds(60)));
+        RideCreateEditDto ride = getRideCreateEditDtoBuilder()
+                .latitudeFrom(request.latitudeFrom())
+                .longitudeFrom(request.longitudeFrom())
+                .latitudeTo(request.latitudeTo() + 1)
+                .longitudeTo(request.longitudeTo())
+                .quoteId(quoteId)
+                .build();
+        mockInvalidQuoteMessage();
+
+        assertThrows(InvalidQuoteException.class, () -> quoteService.redeem(quoteId, ride));
+    }
+
+    @Test
+    void redeem_whenQuoteIdIsMalformed_thenThrowInvalidQuoteException() {
+        mockInvalidQuoteMessage();
+
+        assertThrows(InvalidQuoteException.class, () -> quoteService.redeem("not-a-quote",
+                getRideCreateEditDtoBuilder().build()));
+    }
+
+    private void mockInvalidQuoteMessage() {
+        when(messageSource.getMessage(ExceptionConstants.INVALID_QUOTE_MESSAGE, null, LocaleContextHolder.getLocale()))
+                .thenReturn(ExceptionConstants.INVALID_QUOTE_MESSAGE);
+    }
+
+    private static Quote quoteFor(QuoteRequestDto request, BigDecimal cost, Instant expiresAt) {
+        return Quote.builder()
+                .passengerId(DEFAULT_ID)
+                .latitudeFrom(request.latitudeFrom())
+                .longitudeFrom(request.longitudeFrom())
+                .latitudeTo(request.latitudeTo())
+                .longitudeTo(request.longitudeTo())
+                .cost(cost)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static RideCreateEditDto rideFor(QuoteRequestDto request, String quoteId) {
+        return getRideCreateEditDtoBuilder()
+                .passengerId(request.passengerId())
+                .latitudeFrom(request.latitudeFrom())
+                .longitudeFrom(request.longitudeFrom())
+                .latitudeTo(request.latitudeTo())
+                .longitudeTo(request.longitudeTo())
+                .quoteId(quoteId)
+                .build();
+    }
+}
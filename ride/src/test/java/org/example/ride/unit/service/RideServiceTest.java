@@ -1,25 +1,29 @@
 package org.example.ride.unit.service;
 
 import com.example.exceptionhandlerstarter.exception.param.InvalidCountParametersException;
+import com.example.exceptionhandlerstarter.exception.param.InvalidCursorException;
+import com.example.exceptionhandlerstarter.exception.passenger.PassengerNotFoundException;
+import com.example.exceptionhandlerstarter.exception.ride.ConcurrentRideUpdateException;
 import com.example.exceptionhandlerstarter.exception.ride.RideNotFoundException;
 import org.example.ride.constants.ExceptionConstants;
 import org.example.ride.dto.create.DriverRideStatusDto;
 import org.example.ride.dto.create.PassengerRideStatusDto;
 import org.example.ride.dto.create.RideCreateEditDto;
-import org.example.ride.dto.read.DriverReadDto;
-import org.example.ride.dto.read.PassengerReadDto;
+import org.example.ride.dto.read.CursorResponse;
 import org.example.ride.dto.read.RideReadDto;
 import org.example.ride.entity.Ride;
 import org.example.ride.entity.enumeration.DriverRideStatus;
 import org.example.ride.entity.enumeration.PassengerRideStatus;
 import org.example.ride.kafka.KafkaProducer;
+import org.example.ride.lifecycle.RideLifecycle;
+import org.example.ride.lifecycle.RideTransition;
 import org.example.ride.mapper.RideMapper;
 import org.example.ride.repository.RideRepository;
-import org.example.ride.service.DriverClientService;
-import org.example.ride.service.PassengerClientService;
+import org.example.ride.service.DispatchService;
+import org.example.ride.service.ParticipantLookupService;
+import org.example.ride.service.QuoteService;
 import org.example.ride.service.RideService;
 import org.example.ride.utils.PriceGenerator;
-import org.example.ride.validation.RideStatusValidation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -27,27 +31,30 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.example.ride.util.DataUtil.DEFAULT_ID;
+import static org.example.ride.util.DataUtil.DEFAULT_LATITUDE;
+import static org.example.ride.util.DataUtil.DEFAULT_LONGITUDE;
 import static org.example.ride.util.DataUtil.LIMIT_VALUE;
 import static org.example.ride.util.DataUtil.PAGE_VALUE;
-import static org.example.ride.util.DataUtil.getDriverReadDtoBuilder;
-import static org.example.ride.util.DataUtil.getPassengerReadDtoBuilder;
 import static org.example.ride.util.DataUtil.getRideBuilder;
 import static org.example.ride.util.DataUtil.getRideCreateEditDtoBuilder;
 import static org.example.ride.util.DataUtil.getRideReadDtoBuilder;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -70,16 +77,19 @@ class RideServiceTest {
     private PriceGenerator priceGenerator;
 
     @Mock
-    private RideStatusValidation rideStatusValidation;
+    private RideLifecycle rideLifecycle;
 
     @Mock
-    private PassengerClientService passengerClient;
+    private ParticipantLookupService participantLookup;
 
     @Mock
-    private DriverClientService driverClient;
+    private KafkaProducer kafkaProducer;
 
     @Mock
-    private KafkaProducer kafkaProducer;
+    private DispatchService dispatchService;
+
+    @Mock
+    private QuoteService quoteService;
 
     @Test
     void findRides_whenDriverAndPassengerIdsEnter_thenThrowInvalidCountParametersException() {
@@ -135,6 +145,56 @@ class RideServiceTest {
         verify(rideMapper).toReadDto(defaultRide);
     }
 
+    @Test
+    void findRidesByCursor_whenMoreRidesExist_thenReturnNextCursor() {
+        Ride firstRide = getRideBuilder().build();
+        Ride secondRide = getRideBuilder().id(DEFAULT_ID + 1).build();
+        RideReadDto readRide = getRideReadDtoBuilder().build();
+
+        when(rideRepository.findByDriverIdAndIdGreaterThanOrderByIdAsc(DEFAULT_ID, 0L, Limit.of(2)))
+                .thenReturn(List.of(firstRide, secondRide));
+        when(rideMapper.toReadDto(any(Ride.class)))
+                .thenReturn(readRide, getRideReadDtoBuilder().id(DEFAULT_ID + 1).build());
+
+        CursorResponse<RideReadDto> result = rideService.findRidesByCursor(DEFAULT_ID, null, null, 1);
+
+        assertThat(result.content()).isEqualTo(List.of(readRide));
+        assertThat(result.next()).isEqualTo(CursorResponse.encode(DEFAULT_ID));
+        verify(rideRepository).findByDriverIdAndIdGreaterThanOrderByIdAsc(DEFAULT_ID, 0L, Limit.of(2));
+    }
+
+    @Test
+    void findRidesByCursor_whenLastPage_thenReturnNullCursor() {
+        Ride defaultRide = getRideBuilder().build();
+        RideReadDto readRide = getRideReadDtoBuilder().build();
+        String cursor = CursorResponse.encode(DEFAULT_ID);
+
+        when(rideRepository.findByIdGreaterThanOrderByIdAsc(DEFAULT_ID, Limit.of(LIMIT_VALUE + 1)))
+                .thenReturn(List.of(defaultRide));
+        when(rideMapper.toReadDto(defaultRide)).thenReturn(readRide);
+
+        CursorResponse<RideReadDto> result = rideService.findRidesByCursor(null, null, cursor, LIMIT_VALUE);
+
+        assertThat(result.content()).isEqualTo(List.of(readRide));
+        assertThat(result.next()).isNull();
+    }
+
+    @Test
+    void findRidesByCursor_whenCursorIsInvalid_thenThrowInvalidCursorException() {
+        String cursor = "not-a-cursor";
+        when(messageSource.getMessage(
+                ExceptionConstants.INVALID_CURSOR_MESSAGE,
+                new Object[]{cursor},
+                LocaleContextHolder.getLocale()))
+                .thenReturn(ExceptionConstants.INVALID_CURSOR_MESSAGE);
+
+        InvalidCursorException exception = assertThrows(InvalidCursorException.class,
+                () -> rideService.findRidesByCursor(null, null, cursor, LIMIT_VALUE));
+
+        assertThat(exception.getMessage()).isEqualTo(ExceptionConstants.INVALID_CURSOR_MESSAGE);
+        verify(rideRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
     @Test
     void findAll_thenReturnPageRideReadDto() {
         Ride defaultRide = getRideBuilder().build();
@@ -223,16 +283,29 @@ class RideServiceTest {
         verify(rideMapper).toReadDto(defaultRide);
     }
 
+    @Test
+    void findTop100ByDriverId_thenReturnLatestRides() {
+        Ride defaultRide = getRideBuilder().build();
+        RideReadDto readRide = getRideReadDtoBuilder().build();
+
+        when(rideRepository.findTop100ByDriverIdOrderByCreatedAtDescIdDesc(DEFAULT_ID))
+                .thenReturn(List.of(defaultRide));
+        when(rideMapper.toReadDto(defaultRide)).thenReturn(readRide);
+
+        List<RideReadDto> result = rideService.findTop100ByDriverId(DEFAULT_ID);
+
+        assertThat(result).isEqualTo(List.of(readRide));
+        verify(rideRepository).findTop100ByDriverIdOrderByCreatedAtDescIdDesc(DEFAULT_ID);
+    }
+
     @Test
     void create_whenRideCreateEditDtoEnter_thenReturnRideReadDto() {
         Ride defaultRide = getRideBuilder().build();
         RideCreateEditDto createRide = getRideCreateEditDtoBuilder().build();
         RideReadDto readRide = getRideReadDtoBuilder().build();
-        DriverReadDto readDriver = getDriverReadDtoBuilder().build();
-        PassengerReadDto readPassenger = getPassengerReadDtoBuilder().build();
 
-        when(driverClient.getDriver(DEFAULT_ID)).thenReturn(readDriver);
-        when(passengerClient.getPassenger(DEFAULT_ID)).thenReturn(readPassenger);
+        when(participantLookup.requireDriver(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(null));
+        when(participantLookup.requirePassenger(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(null));
         when(rideMapper.toRide(createRide)).thenReturn(defaultRide);
         when(rideRepository.save(defaultRide)).thenReturn(defaultRide);
         when(rideMapper.toReadDto(defaultRide)).thenReturn(readRide);
@@ -240,32 +313,116 @@ class RideServiceTest {
         assertThat(rideService.create(createRide)).isNotNull();
         assertThat(defaultRide.getDriverRideStatus()).isEqualTo(DriverRideStatus.CREATED);
         assertThat(defaultRide.getPassengerRideStatus()).isEqualTo(PassengerRideStatus.WAITING);
-        verify(driverClient).getDriver(DEFAULT_ID);
-        verify(passengerClient).getPassenger(DEFAULT_ID);
+        verify(participantLookup).requireDriver(DEFAULT_ID);
+        verify(participantLookup).requirePassenger(DEFAULT_ID);
+        verify(dispatchService).claimDriver(DEFAULT_ID);
+        verify(dispatchService, never()).assignNearestDriver(anyDouble(), anyDouble());
         verify(rideMapper).toRide(createRide);
         verify(rideRepository).save(defaultRide);
         verify(rideMapper).toReadDto(defaultRide);
     }
 
+    @Test
+    void create_whenQuoteIdEnter_thenChargeQuotedCost() {
+        Ride defaultRide = getRideBuilder().cost(null).build();
+        RideCreateEditDto createRide = getRideCreateEditDtoBuilder().quoteId("quote").build();
+        BigDecimal quotedCost = new BigDecimal("12.30");
+
+        when(participantLookup.requireDriver(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(null));
+        when(participantLookup.requirePassenger(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(null));
+        when(quoteService.redeem("quote", createRide)).thenReturn(quotedCost);
+        when(rideMapper.toRide(createRide)).thenReturn(defaultRide);
+        when(rideRepository.save(defaultRide)).thenReturn(defaultRide);
+        when(rideMapper.toReadDto(defaultRide)).thenReturn(getRideReadDtoBuilder().build());
+
+        rideService.create(createRide);
+
+        assertThat(defaultRide.getCost()).isEqualTo(quotedCost);
+        verify(quoteService).redeem("quote", createRide);
+        verify(priceGenerator, never()).calculateCost(any(), any(), any(), any());
+    }
+
+    @Test
+    void create_whenDriverIdIsNullAndPickupPointEnter_thenAssignNearestDriver() {
+        Ride defaultRide = getRideBuilder().driverId(null).build();
+        RideCreateEditDto createRide = getRideCreateEditDtoBuilder()
+                .driverId(null)
+                .latitudeFrom(DEFAULT_LATITUDE)
+                .longitudeFrom(DEFAULT_LONGITUDE)
+                .build();
+        RideReadDto readRide = getRideReadDtoBuilder().build();
+
+        when(participantLookup.requirePassenger(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(null));
+        when(rideMapper.toRide(createRide)).thenReturn(defaultRide);
+        when(dispatchService.assignNearestDriver(DEFAULT_LATITUDE, DEFAULT_LONGITUDE)).thenReturn(Optional.of(DEFAULT_ID));
+        when(participantLookup.requireDriver(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(null));
+        when(rideRepository.save(defaultRide)).thenReturn(defaultRide);
+        when(rideMapper.toReadDto(defaultRide)).thenReturn(readRide);
+
+        assertThat(rideService.create(createRide)).isNotNull();
+        assertThat(defaultRide.getDriverId()).isEqualTo(DEFAULT_ID);
+        verify(dispatchService).assignNearestDriver(DEFAULT_LATITUDE, DEFAULT_LONGITUDE);
+        verify(participantLookup).requireDriver(DEFAULT_ID);
+        verify(rideRepository).save(defaultRide);
+    }
+
+    @Test
+    void create_whenDriverIdIsNullAndNoDriverIsAvailable_thenCreateRideWithoutDriver() {
+        Ride defaultRide = getRideBuilder().driverId(null).build();
+        RideCreateEditDto createRide = getRideCreateEditDtoBuilder()
+                .driverId(null)
+                .latitudeFrom(DEFAULT_LATITUDE)
+                .longitudeFrom(DEFAULT_LONGITUDE)
+                .build();
+        RideReadDto readRide = getRideReadDtoBuilder().driverId(null).build();
+
+        when(participantLookup.requirePassenger(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(null));
+        when(rideMapper.toRide(createRide)).thenReturn(defaultRide);
+        when(dispatchService.assignNearestDriver(DEFAULT_LATITUDE, DEFAULT_LONGITUDE)).thenReturn(Optional.empty());
+        when(rideRepository.save(defaultRide)).thenReturn(defaultRide);
+        when(rideMapper.toReadDto(defaultRide)).thenReturn(readRide);
+
+        assertThat(rideService.create(createRide)).isNotNull();
+        assertThat(defaultRide.getDriverId()).isNull();
+        verify(participantLookup, never()).requireDriver(any());
+        verify(rideRepository).save(defaultRide);
+    }
+
+    @Test
+    void create_whenPassengerIsNotFound_thenThrowPassengerNotFoundException() {
+        Ride defaultRide = getRideBuilder().build();
+        RideCreateEditDto createRide = getRideCreateEditDtoBuilder().build();
+
+        when(participantLookup.requirePassenger(DEFAULT_ID)).thenReturn(CompletableFuture.failedFuture(
+                new PassengerNotFoundException(ExceptionConstants.PASSENGER_NOT_FOUND_MESSAGE)));
+        when(participantLookup.requireDriver(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(null));
+        when(rideMapper.toRide(createRide)).thenReturn(defaultRide);
+
+        PassengerNotFoundException exception = assertThrows(PassengerNotFoundException.class,
+                () -> rideService.create(createRide));
+
+        assertThat(exception.getMessage()).isEqualTo(ExceptionConstants.PASSENGER_NOT_FOUND_MESSAGE);
+        verify(participantLookup).requireDriver(DEFAULT_ID);
+        verify(rideRepository, never()).save(any());
+    }
+
     @Test
     void update_whenRideIsFound_thenReturnRideReadDto() {
         Ride defaultRide = getRideBuilder().build();
         RideCreateEditDto createRide = getRideCreateEditDtoBuilder().build();
         RideReadDto readRide = getRideReadDtoBuilder().build();
-        DriverReadDto readDriver = getDriverReadDtoBuilder().build();
-        PassengerReadDto readPassenger = getPassengerReadDtoBuilder().build();
 
         when(rideRepository.findById(DEFAULT_ID)).thenReturn(Optional.of(defaultRide));
-        when(driverClient.getDriver(DEFAULT_ID)).thenReturn(readDriver);
-        when(passengerClient.getPassenger(DEFAULT_ID)).thenReturn(readPassenger);
-        when(rideRepository.save(defaultRide)).thenReturn(defaultRide);
+        when(participantLookup.requireDriver(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(null));
+        when(participantLookup.requirePassenger(DEFAULT_ID)).thenReturn(CompletableFuture.completedFuture(null));
+        when(rideRepository.saveAndFlush(defaultRide)).thenReturn(defaultRide);
         when(rideMapper.toReadDto(defaultRide)).thenReturn(readRide);
 
         assertThat(rideService.update(DEFAULT_ID, createRide)).isNotNull();
-        verify(driverClient).getDriver(DEFAULT_ID);
-        verify(passengerClient).getPassenger(DEFAULT_ID);
+        verify(participantLookup).requireDriver(DEFAULT_ID);
+        verify(participantLookup).requirePassenger(DEFAULT_ID);
         verify(rideMapper).map(defaultRide, createRide);
-        verify(rideRepository).save(defaultRide);
+        verify(rideRepository).saveAndFlush(defaultRide);
         verify(rideMapper).toReadDto(defaultRide);
     }
 
@@ -287,34 +444,31 @@ class RideServiceTest {
                 new Object[]{DEFAULT_ID},
                 LocaleContextHolder.getLocale());
         verify(rideRepository).findById(DEFAULT_ID);
-        verify(driverClient, never()).getDriver(any());
-        verify(passengerClient, never()).getPassenger(any());
+        verify(participantLookup, never()).requireDriver(any());
+        verify(participantLookup, never()).requirePassenger(any());
         verify(rideMapper, never()).map(any(), any());
-        verify(rideRepository, never()).save(any());
+        verify(rideRepository, never()).saveAndFlush(any());
         verify(rideMapper, never()).toReadDto(any());
     }
 
     @Test
     void updateDriverStatus_whenProposedStatusIsOnWayToDestination_thenChangeStatusAndReturnRideReadDto() {
-        Ride defaultRide = getRideBuilder().build();
+        Ride defaultRide = getRideBuilder().driverRideStatus(DriverRideStatus.WAITING).build();
         RideReadDto readRide = getRideReadDtoBuilder().build();
-
-        defaultRide.setDriverRideStatus(DriverRideStatus.WAITING);
         DriverRideStatus proposed = DriverRideStatus.ON_WAY_TO_DESTINATION;
+        RideTransition transition = new RideTransition(
+                DriverRideStatus.WAITING, PassengerRideStatus.WAITING, proposed, PassengerRideStatus.IN_CAR);
 
         when(rideRepository.findById(DEFAULT_ID)).thenReturn(Optional.of(defaultRide));
-        when(rideRepository.save(defaultRide)).thenReturn(defaultRide);
+        when(rideLifecycle.planDriverStatus(defaultRide, proposed)).thenReturn(transition);
+        when(rideRepository.updateStatuses(DEFAULT_ID, DriverRideStatus.WAITING, PassengerRideStatus.WAITING,
+                proposed, PassengerRideStatus.IN_CAR)).thenReturn(1);
         when(rideMapper.toReadDto(defaultRide)).thenReturn(readRide);
 
         assertThat(rideService.updateDriverStatus(DEFAULT_ID, new DriverRideStatusDto(proposed))).isNotNull();
-        verify(rideRepository, times(2)).findById(DEFAULT_ID);
-        verify(rideStatusValidation).validateUpdatingDriverStatus(defaultRide, proposed);
-        verify(rideMapper).mapDriverStatus(defaultRide, proposed);
-        verify(rideStatusValidation).validateUpdatingPassengerStatus(defaultRide);
-        verify(rideMapper).mapPassengerStatus(defaultRide, PassengerRideStatus.IN_CAR);
-        verify(rideStatusValidation).validateUpdatingPassengerStatus(defaultRide);
-        verify(rideMapper, times(2)).toReadDto(defaultRide);
-        verify(rideRepository, times(2)).save(defaultRide);
+        verify(rideRepository).findById(DEFAULT_ID);
+        verify(rideLifecycle).apply(defaultRide, transition);
+        verify(rideRepository, never()).save(any());
         verify(kafkaProducer).notifyDriver(readRide);
         verify(kafkaProducer).notifyPassenger(readRide);
     }
@@ -324,18 +478,46 @@ class RideServiceTest {
         Ride defaultRide = getRideBuilder().build();
         RideReadDto readRide = getRideReadDtoBuilder().build();
         DriverRideStatus proposed = DriverRideStatus.ON_WAY_FOR_PASSENGER;
+        RideTransition transition = new RideTransition(
+                DriverRideStatus.ACCEPTED, PassengerRideStatus.WAITING, proposed, PassengerRideStatus.WAITING);
 
         when(rideRepository.findById(DEFAULT_ID)).thenReturn(Optional.of(defaultRide));
-        when(rideRepository.save(defaultRide)).thenReturn(defaultRide);
+        when(rideLifecycle.planDriverStatus(defaultRide, proposed)).thenReturn(transition);
+        when(rideRepository.updateStatuses(DEFAULT_ID, DriverRideStatus.ACCEPTED, PassengerRideStatus.WAITING,
+                proposed, PassengerRideStatus.WAITING)).thenReturn(1);
         when(rideMapper.toReadDto(defaultRide)).thenReturn(readRide);
 
         assertThat(rideService.updateDriverStatus(DEFAULT_ID, new DriverRideStatusDto(proposed))).isNotNull();
         verify(rideRepository).findById(DEFAULT_ID);
-        verify(rideStatusValidation).validateUpdatingDriverStatus(defaultRide, proposed);
-        verify(rideMapper).mapDriverStatus(defaultRide, proposed);
+        verify(rideLifecycle).apply(defaultRide, transition);
         verify(rideMapper).toReadDto(defaultRide);
-        verify(rideRepository).save(defaultRide);
         verify(kafkaProducer).notifyPassenger(readRide);
+        verify(kafkaProducer, never()).notifyDriver(any());
+    }
+
+    @Test
+    void updateDriverStatus_whenRideWasChangedConcurrently_thenThrowConcurrentRideUpdateException() {
+        Ride defaultRide = getRideBuilder().build();
+        DriverRideStatus proposed = DriverRideStatus.ON_WAY_FOR_PASSENGER;
+        RideTransition transition = new RideTransition(
+                DriverRideStatus.ACCEPTED, PassengerRideStatus.WAITING, proposed, PassengerRideStatus.WAITING);
+
+        when(rideRepository.findById(DEFAULT_ID)).thenReturn(Optional.of(defaultRide));
+        when(rideLifecycle.planDriverStatus(defaultRide, proposed)).thenReturn(transition);
+        when(rideRepository.updateStatuses(DEFAULT_ID, DriverRideStatus.ACCEPTED, PassengerRideStatus.WAITING,
+                proposed, PassengerRideStatus.WAITING)).thenReturn(0);
+        when(messageSource.getMessage(
+                ExceptionConstants.CONCURRENT_UPDATE_MESSAGE,
+                new Object[]{DEFAULT_ID},
+                LocaleContextHolder.getLocale()))
+                .thenReturn(ExceptionConstants.CONCURRENT_UPDATE_MESSAGE);
+
+        ConcurrentRideUpdateException exception = assertThrows(ConcurrentRideUpdateException.class,
+                () -> rideService.updateDriverStatus(DEFAULT_ID, new DriverRideStatusDto(proposed)));
+
+        assertThat(exception.getMessage()).isEqualTo(ExceptionConstants.CONCURRENT_UPDATE_MESSAGE);
+        verify(rideLifecycle, never()).apply(any(), any());
+        verify(kafkaProducer, never()).notifyPassenger(any());
     }
 
     @Test
@@ -359,28 +541,29 @@ class RideServiceTest {
                 LocaleContextHolder.getLocale());
         verify(rideRepository).findById(DEFAULT_ID);
         verify(rideMapper, never()).toReadDto(any());
-        verify(rideStatusValidation, never()).validateUpdatingDriverStatus(any(), any());
-        verify(rideMapper, never()).mapDriverStatus(any(), any());
+        verify(rideLifecycle, never()).planDriverStatus(any(), any());
         verify(rideRepository, never()).save(any());
         verify(kafkaProducer, never()).notifyPassenger(any());
     }
 
     @Test
     void updatePassengerStatus_whenRideIsFound_thenChangeStatusAndReturnRideReadDto() {
-        Ride defaultRide = getRideBuilder().build();
+        Ride defaultRide = getRideBuilder().driverRideStatus(DriverRideStatus.WAITING).build();
         RideReadDto readRide = getRideReadDtoBuilder().build();
         PassengerRideStatus proposed = PassengerRideStatus.GETTING_OUT;
+        RideTransition transition = new RideTransition(
+                DriverRideStatus.WAITING, PassengerRideStatus.WAITING, DriverRideStatus.WAITING, proposed);
 
         when(rideRepository.findById(DEFAULT_ID)).thenReturn(Optional.of(defaultRide));
-        when(rideRepository.save(defaultRide)).thenReturn(defaultRide);
+        when(rideLifecycle.planPassengerStatus(defaultRide, proposed)).thenReturn(transition);
+        when(rideRepository.updateStatuses(DEFAULT_ID, DriverRideStatus.WAITING, PassengerRideStatus.WAITING,
+                DriverRideStatus.WAITING, proposed)).thenReturn(1);
         when(rideMapper.toReadDto(defaultRide)).thenReturn(readRide);
 
         assertThat(rideService.updatePassengerStatus(DEFAULT_ID, new PassengerRideStatusDto(proposed))).isNotNull();
         verify(rideRepository).findById(DEFAULT_ID);
-        verify(rideStatusValidation).validateUpdatingPassengerStatus(defaultRide);
-        verify(rideMapper).mapPassengerStatus(defaultRide, proposed);
+        verify(rideLifecycle).apply(defaultRide, transition);
         verify(rideMapper).toReadDto(defaultRide);
-        verify(rideRepository).save(defaultRide);
         verify(kafkaProducer).notifyDriver(readRide);
     }
 
@@ -405,8 +588,7 @@ class RideServiceTest {
                 LocaleContextHolder.getLocale());
         verify(rideRepository).findById(DEFAULT_ID);
         verify(rideMapper, never()).toReadDto(any());
-        verify(rideStatusValidation, never()).validateUpdatingPassengerStatus(any());
-        verify(rideMapper, never()).mapPassengerStatus(any(), any());
+        verify(rideLifecycle, never()).planPassengerStatus(any(), any());
         verify(rideRepository, never()).save(any());
         verify(kafkaProducer, never()).notifyDriver(any());
     }
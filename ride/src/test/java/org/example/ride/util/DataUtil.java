@@ -2,6 +2,7 @@ package org.example.ride.util;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.example.ride.dto.create.QuoteRequestDto;
 import org.example.ride.dto.create.RideCreateEditDto;
 import org.example.ride.dto.read.DriverReadDto;
 import org.example.ride.dto.read.PassengerReadDto;
@@ -44,6 +45,8 @@ public class DataUtil {
     public static final String DEFAULT_ADDRESS_TO = "to";
     public static final String DEFAULT_COST = "123.45";
     public static final String COST_FIELD = "cost";
+    public static final Double DEFAULT_LATITUDE = 53.9006;
+    public static final Double DEFAULT_LONGITUDE = 27.5590;
 
     public static final String ACCESS_TOKEN = "eyJhbGciOiJSUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICJSX1IzeDRpNDBuaS0zSXdWVE1kcWx3QThLZTU2VXlUeWxNVjVzMXhpVUtJIn0.eyJleHAiOjE3Mzg4NjY0NDQsImlhdCI6MTczODg2NjE0NCwianRpIjoiY2NlMzc0YzEtNzI1Ny00MjE2LTlhZTUtMjY0YjlkZGRhOGZkIiwiaXNzIjoiaHR0cDovL2tleWNsb2FrOjg0ODQvcmVhbG1zL3RheGlfcmVhbG0iLCJhdWQiOlsicmVhbG0tbWFuYWdlbWVudCIsImFjY291bnQiXSwic3ViIjoiNTBjNjE4MWEtYWQ3OS00MjY3LTk0NTItN2Q5MDZiZmViZTYyIiwidHlwIjoiQmVhcmVyIiwiYXpwIjoidGF4aV9jbGllbnQiLCJzaWQiOiJmNTAyOGY2Yy00MGJmLTQyMmItYjc1Ny1hNTM1NDM0M2MzOTEiLCJhY3IiOiIxIiwiYWxsb3dlZC1vcmlnaW5zIjpbIi8qIl0sInJlYWxtX2FjY2VzcyI6eyJyb2xlcyI6WyJvZmZsaW5lX2FjY2VzcyIsIkRSSVZFUiIsInVtYV9hdXRob3JpemF0aW9uIiwiZGVmYXVsdC1yb2xlcy10YXhpX3JlYWxtIl19LCJyZXNvdXJjZV9hY2Nlc3MiOnsicmVhbG0tbWFuYWdlbWVudCI6eyJyb2xlcyI6WyJtYW5hZ2UtdXNlcnMiXX0sImFjY291bnQiOnsicm9sZXMiOlsibWFuYWdlLWFjY291bnQiLCJtYW5hZ2UtYWNjb3VudC1saW5rcyIsInZpZXctcHJvZmlsZSJdfX0sInNjb3BlIjoicHJvZmlsZSBlbWFpbCIsImVtYWlsX3ZlcmlmaWVkIjp0cnVlLCJnZW5kZXIiOiJNQUxFIiwibmFtZSI6ImRyaXZlciBkcml2ZXIiLCJwcmVmZXJyZWRfdXNlcm5hbWUiOiJkcml2ZXIxMUBnbWFpbC5jb20iLCJnaXZlbl9uYW1lIjoiZHJpdmVyIiwiZmFtaWx5X25hbWUiOiJkcml2ZXIiLCJlbWFpbCI6ImRyaXZlcjExQGdtYWlsLmNvbSJ9.MAw8LevVt_IVrtJNBg95RwpIQ6D--NWW_ht3gzxrCJjaOdZJt-M8-flQn-twaO2ezk7kIIYxgxLzDcqRMFHF89zXEQzjdeRIAMc2jWWSi_On1v3t2bC4O_A9fcbEN869hNEQxC3ec1XJCaqtJcIri6tskPSpbaGEoT1uoa0jtbVde5YgYsTTolTprsuYymkfaIsp7pbvJuhr7AcHyRAZJVBoU-Npkwn-lNBDxs_5jbC_rCMv31lLV7ukKekGOcMYzc9CtO_4-APlfPhnsdaw6eQQMFaPwysB0mzrBD8fAHlmUxyY0CJDO1QaUBrfcaTs0s5NilH3IIecKayc5HbhSA";
     public static final String AUTHORIZATION = "Authorization";
@@ -91,6 +94,15 @@ public class DataUtil {
                 .addressTo(DEFAULT_ADDRESS_TO);
     }
 
+    public static QuoteRequestDto.QuoteRequestDtoBuilder getQuoteRequestDtoBuilder() {
+        return QuoteRequestDto.builder()
+                .passengerId(DEFAULT_ID)
+                .latitudeFrom(DEFAULT_LATITUDE)
+                .longitudeFrom(DEFAULT_LONGITUDE)
+                .latitudeTo(DEFAULT_LATITUDE + 0.1)
+                .longitudeTo(DEFAULT_LONGITUDE);
+    }
+
     public static RideReadDto.RideReadDtoBuilder getRideReadDtoBuilder() {
         return RideReadDto.builder()
                 .id(DEFAULT_ID)
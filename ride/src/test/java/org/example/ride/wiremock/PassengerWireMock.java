@@ -6,7 +6,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
-import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static org.example.ride.util.DataUtil.CONTENT_TYPE;
 import static org.example.ride.util.DataUtil.PASSENGER_URL;
@@ -18,18 +18,20 @@ public class PassengerWireMock {
 
     public static void getPassenger() {
         passengerWireMockServer.stubFor(
-                get(urlEqualTo(PASSENGER_URL + "/1"))
+                post(urlEqualTo(PASSENGER_URL + "/batch"))
                         .willReturn(aResponse()
                                 .withHeader(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                                 .withStatus(HttpStatus.OK.value())
                                 .withBody("""
-                                        {
-                                            "id": 1,
-                                            "name": "Jane Smith",
-                                            "email": "jane.smith@example.com",
-                                            "phone": "+375441234567",
-                                            "rating": 4.8
-                                        }
+                                        [
+                                            {
+                                                "id": 1,
+                                                "name": "Jane Smith",
+                                                "email": "jane.smith@example.com",
+                                                "phone": "+375441234567",
+                                                "rating": 4.8
+                                            }
+                                        ]
                                         """)));
     }
 
@@ -37,10 +39,10 @@ public class PassengerWireMock {
 
     public static void getNonexistentPassenger() {
         passengerWireMockServer.stubFor(
-                get(urlEqualTo(PASSENGER_URL + "/1"))
+                post(urlEqualTo(PASSENGER_URL + "/batch"))
                         .willReturn(aResponse()
                                 .withHeader(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                .withStatus(HttpStatus.NOT_FOUND.value())
-                                .withBody("{\"message\": \"Passenger was not found\"}")));
+                                .withStatus(HttpStatus.OK.value())
+                                .withBody("[]")));
     }
 }
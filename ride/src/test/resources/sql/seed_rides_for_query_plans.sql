@@ -0,0 +1,15 @@
+TRUNCATE TABLE rides;
+ALTER SEQUENCE rides_id_seq RESTART WITH 1;
+INSERT INTO rides (driver_id, passenger_id, address_from, address_to, driver_ride_status, passenger_ride_status,
+                   cost, created_at, modified_at)
+SELECT n % 1000 + 1,
+       n % 5000 + 1,
+       'from',
+       'to',
+       'COMPLETED',
+       'GETTING_OUT',
+       123.45,
+       now() - n * interval '1 minute',
+       now() - n * interval '1 minute'
+FROM generate_series(1, 100000) AS n;
+ANALYZE rides;
@@ -1,3 +1,4 @@
+TRUNCATE TABLE outbox_messages;
 TRUNCATE TABLE rides;
 ALTER SEQUENCE rides_id_seq RESTART WITH 1;
 INSERT INTO rides (driver_id, passenger_id, address_from, address_to, driver_ride_status, cost, passenger_ride_status)